@@ -8,6 +8,7 @@ import it.unibo.tetraj.controller.MenuController;
 import it.unibo.tetraj.controller.PlayController;
 import it.unibo.tetraj.model.leaderboard.Leaderboard;
 import it.unibo.tetraj.util.ApplicationProperties;
+import it.unibo.tetraj.util.FrameStats;
 import it.unibo.tetraj.util.Logger;
 import it.unibo.tetraj.util.LoggerFactory;
 import it.unibo.tetraj.util.ResourceManager;
@@ -15,6 +16,9 @@ import it.unibo.tetraj.view.GameOverView;
 import it.unibo.tetraj.view.LeaderboardView;
 import it.unibo.tetraj.view.MenuView;
 import it.unibo.tetraj.view.PlayView;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import javax.swing.SwingUtilities;
 import javax.swing.UIManager;
 import javax.swing.UnsupportedLookAndFeelException;
@@ -28,6 +32,7 @@ public final class ApplicationContext {
   private static final Logger LOGGER = LoggerFactory.getLogger(ApplicationContext.class);
   private static final String SEPARATOR = "========================================";
   private static final String TITLE = "      TETRAJ - A Java Tetris Clone      ";
+  private static final String FRAME_STATS_FILENAME = "tetrajFrameStats.json";
   private static final ApplicationContext INSTANCE = new ApplicationContext();
   private final ApplicationProperties applicationProperties;
   private GameEngine gameEngine;
@@ -162,6 +167,8 @@ public final class ApplicationContext {
     if (gameEngine != null) {
       gameEngine.stop();
     }
+    // Dump the frame time statistics of the session
+    writeFrameStats();
     // Any additional cleanup here
     LOGGER.info("Releasing resources...");
     // Cleanup resources
@@ -173,6 +180,21 @@ public final class ApplicationContext {
     }
   }
 
+  /**
+   * Writes the frame time statistics as JSON in the user's home directory, named
+   * "tetrajFrameStats.json". A failure is only logged, as it must not stop the shutdown.
+   */
+  private void writeFrameStats() {
+    final Path path = Paths.get(System.getProperty("user.home"), FRAME_STATS_FILENAME);
+
+    try {
+      FrameStats.getInstance().writeJson(path);
+      LOGGER.info("Frame stats written to {}", path);
+    } catch (final IOException ex) {
+      LOGGER.warn("Unable to write frame stats to {}: {}", path, ex.getMessage());
+    }
+  }
+
   private void addShutdownHook() {
     final int watchdogTimeout = 10_000;
     final ApplicationContext applicationContext = this;
@@ -0,0 +1,77 @@
+package it.unibo.tetraj;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free triple buffer handing frames from the game thread to the render thread.
+ *
+ * <p>The exchange owns three pooled frames. The producer fills its back frame and {@link #publish
+ * publishes} it by swapping it with the middle one; the consumer {@link #acquire acquires} the
+ * latest frame by swapping its front frame with the middle one when a newer frame is waiting. Each
+ * side only ever touches the frame it holds, and the single atomic swap of the middle index is all
+ * the synchronization needed, so neither side waits for the other: the game thread can publish
+ * faster than the screen draws, and only the newest frame is drawn.
+ *
+ * <p>There is exactly one producer and one consumer thread.
+ *
+ * @param <T> The type of the pooled frames
+ */
+public final class FrameExchange<T> {
+
+  private static final int BUFFERS = 3;
+  private static final int INDEX_MASK = 0b11;
+  // Set in the middle index when it holds a frame the consumer has not seen yet
+  private static final int FRESH = 0b100;
+  private final Object[] frames = new Object[BUFFERS];
+  private final AtomicInteger middle = new AtomicInteger(1);
+  private int back;
+  private int front = 2;
+  private boolean acquired;
+
+  /**
+   * Creates an exchange.
+   *
+   * @param factory The factory of the three pooled frames
+   */
+  public FrameExchange(final Supplier<T> factory) {
+    for (int i = 0; i < BUFFERS; i++) {
+      frames[i] = factory.get();
+    }
+  }
+
+  /**
+   * Gets the frame to fill next. Must only be called from the producer thread, and the frame must
+   * not be kept after {@link #publish()}.
+   *
+   * @return The back frame
+   */
+  public T getBackFrame() {
+    return frame(back);
+  }
+
+  /** Publishes the back frame, replacing any frame not acquired yet. Producer thread only. */
+  public void publish() {
+    back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+  }
+
+  /**
+   * Gets the latest published frame. Must only be called from the consumer thread, and the frame
+   * must not be kept after the next call.
+   *
+   * @return The latest frame, the same as the last call if nothing was published since, or null if
+   *     nothing was ever published
+   */
+  public T acquire() {
+    if ((middle.get() & FRESH) != 0) {
+      front = middle.getAndSet(front) & INDEX_MASK;
+      acquired = true;
+    }
+    return acquired ? frame(front) : null;
+  }
+
+  @SuppressWarnings("unchecked")
+  private T frame(final int index) {
+    return (T) frames[index];
+  }
+}
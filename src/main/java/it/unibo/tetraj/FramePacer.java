@@ -0,0 +1,169 @@
+package it.unibo.tetraj;
+
+import it.unibo.tetraj.util.ApplicationProperties;
+import java.util.Locale;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Paces the render thread to a target frame rate with sub-millisecond precision. The game thread
+ * runs on its own fixed tick, see {@link TickClock}.
+ *
+ * <p>{@code Thread.sleep} only takes whole milliseconds and usually wakes up a millisecond or more
+ * late, so frames wobble around their deadline. The pacer instead parks the thread until shortly
+ * before the deadline, then spins for the last stretch: the spin absorbs the scheduler wake-up
+ * latency, and costs a fraction of a core since it only covers a small part of the frame.
+ *
+ * <p>Deadlines follow a fixed cadence, each one a frame after the previous, so small late wake-ups
+ * do not accumulate. A frame missed entirely, e.g. after a stall, restarts the cadence from now
+ * rather than rushing through the missed ones. The lateness of every wake-up is recorded, to
+ * report the achieved jitter.
+ */
+public final class FramePacer {
+
+  /** Frame rate used when the configuration does not set a valid one. */
+  public static final int DEFAULT_TARGET_FPS = 60;
+
+  /** Default length of the final spin before each deadline. */
+  public static final long DEFAULT_SPIN_NANOS = 250_000L;
+
+  private static final String PROPERTY_KEY = "engine.targetFps";
+  private static final String UNLIMITED = "unlimited";
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+  private final long frameNanos;
+  private final long spinNanos;
+  private long deadline;
+  private long frames;
+  private long totalLatenessNanos;
+  private long maxLatenessNanos;
+  private long missedFrames;
+
+  /**
+   * Creates a pacer.
+   *
+   * @param targetFps The target frame rate, 0 for unlimited
+   * @param spinNanos How long before each deadline to stop parking and spin
+   * @throws IllegalArgumentException if a value is negative or the rate exceeds 1 GHz
+   */
+  public FramePacer(final int targetFps, final long spinNanos) {
+    if (targetFps < 0 || targetFps > NANOS_PER_SECOND || spinNanos < 0) {
+      throw new IllegalArgumentException(
+          String.format("Invalid frame pacer: fps=%d, spin=%d ns", targetFps, spinNanos));
+    }
+    this.frameNanos = targetFps == 0 ? 0 : NANOS_PER_SECOND / targetFps;
+    this.spinNanos = spinNanos;
+  }
+
+  /**
+   * Creates a pacer from the property "engine.targetFps": a frame rate such as 60, 120 or 144, or
+   * "unlimited". Missing or invalid values fall back to {@link #DEFAULT_TARGET_FPS}.
+   *
+   * @return The configured pacer
+   */
+  public static FramePacer fromProperties() {
+    return new FramePacer(
+        parseTargetFps(ApplicationProperties.getInstance().getProperty(PROPERTY_KEY)),
+        DEFAULT_SPIN_NANOS);
+  }
+
+  /**
+   * Parses a target frame rate setting.
+   *
+   * @param value The setting, a positive rate or "unlimited", may be null
+   * @return The rate, 0 for unlimited, or {@link #DEFAULT_TARGET_FPS} if the value is invalid
+   */
+  static int parseTargetFps(final String value) {
+    if (value != null && UNLIMITED.equals(value.trim().toLowerCase(Locale.ROOT))) {
+      return 0;
+    }
+    return ApplicationProperties.parseInt(PROPERTY_KEY, value, 1, DEFAULT_TARGET_FPS);
+  }
+
+  /** Starts the cadence: the first deadline is one frame from now. */
+  public void start() {
+    deadline = System.nanoTime() + frameNanos;
+  }
+
+  /**
+   * Waits for the next frame deadline and schedules the following one. With an unlimited rate it
+   * returns at once. Returns early if the thread is interrupted, leaving the interrupt flag set.
+   *
+   * @return The time of the wake-up, from {@link System#nanoTime()}
+   */
+  public long awaitNextFrame() {
+    long now = System.nanoTime();
+
+    if (frameNanos == 0) {
+      frames++;
+      return now;
+    }
+    // Park through most of the wait, then spin past the scheduler wake-up latency
+    while (deadline - now > spinNanos && !Thread.currentThread().isInterrupted()) {
+      LockSupport.parkNanos(deadline - now - spinNanos);
+      now = System.nanoTime();
+    }
+    while (deadline - now > 0 && !Thread.currentThread().isInterrupted()) {
+      Thread.onSpinWait();
+      now = System.nanoTime();
+    }
+
+    final long lateness = Math.max(0, now - deadline);
+
+    frames++;
+    totalLatenessNanos += lateness;
+    maxLatenessNanos = Math.max(maxLatenessNanos, lateness);
+    if (lateness >= frameNanos) {
+      // The loop overran a whole frame: restart the cadence instead of catching up
+      missedFrames++;
+      deadline = now + frameNanos;
+    } else {
+      deadline += frameNanos;
+    }
+    return now;
+  }
+
+  /**
+   * Gets the length of a frame.
+   *
+   * @return The frame length in nanoseconds, 0 when unlimited
+   */
+  public long getFrameNanos() {
+    return frameNanos;
+  }
+
+  /**
+   * Gets the number of frames paced so far.
+   *
+   * @return The frame count
+   */
+  public long getFrameCount() {
+    return frames;
+  }
+
+  /**
+   * Gets the mean lateness of the wake-ups past their deadline.
+   *
+   * @return The mean jitter in nanoseconds, 0 before the first frame
+   */
+  public long getMeanJitterNanos() {
+    return frames == 0 ? 0 : totalLatenessNanos / frames;
+  }
+
+  /**
+   * Gets the worst lateness of a wake-up past its deadline.
+   *
+   * @return The maximum jitter in nanoseconds
+   */
+  public long getMaxJitterNanos() {
+    return maxLatenessNanos;
+  }
+
+  /**
+   * Gets the number of deadlines missed by a whole frame or more, after which the cadence
+   * restarted.
+   *
+   * @return The missed frame count
+   */
+  public long getMissedFrames() {
+    return missedFrames;
+  }
+}
@@ -2,6 +2,8 @@ package it.unibo.tetraj;
 
 import it.unibo.tetraj.controller.Controller;
 import it.unibo.tetraj.util.ApplicationProperties;
+import it.unibo.tetraj.util.FrameHistogram;
+import it.unibo.tetraj.util.FrameStats;
 import it.unibo.tetraj.util.Logger;
 import it.unibo.tetraj.util.LoggerFactory;
 import it.unibo.tetraj.util.ResourceManager;
@@ -11,6 +13,7 @@ import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
+import java.util.concurrent.locks.LockSupport;
 import javax.swing.JFrame;
 import javax.swing.SwingUtilities;
 import javax.swing.WindowConstants;
@@ -18,15 +21,25 @@ import javax.swing.WindowConstants;
 /**
  * Main game engine that orchestrates the game. Manages the window, game loop, and delegates to
  * controllers.
+ *
+ * <p>Controllers are updated on the game thread only. Key events arrive on the AWT event thread,
+ * which just records them into a lock-free {@link KeyEventQueue}; the game loop drains it at
+ * the start of each tick and dispatches the events before updating.
+ *
+ * <p>The simulation runs on a fixed timestep given by a {@link TickClock}: every update advances
+ * the game by exactly one tick, with input applied on tick boundaries, so a game only depends on
+ * its inputs and not on the frame rate. After the ticks that are due, the game thread publishes a
+ * frame and parks until the next tick.
+ *
+ * <p>Drawing happens on a separate render thread, held to the configured frame rate by a {@link
+ * FramePacer}, which renders the latest published frame. A slow buffer flip or font rasterization
+ * therefore never delays the simulation: the game thread only waits for the render thread while
+ * swapping the canvas on a state change.
  */
 public final class GameEngine implements Runnable {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(GameEngine.class);
-  private static final int TARGET_FPS = 60;
-  // Optimal time per frame in nanoseconds
-  private static final long OPTIMAL_TIME = 1_000_000_000 / TARGET_FPS;
-  // Conversion from nanoseconds to seconds
-  private static final double NANO_TO_SEC = 1.0 / 1_000_000_000.0;
+  private static final long NANOS_PER_MICRO = 1000L;
   // Thread join timeout in milliseconds
   private static final int THREAD_JOIN_TIMEOUT_MS = 5000;
   // Canvas initialization delay in milliseconds
@@ -35,8 +48,16 @@ public final class GameEngine implements Runnable {
   private final JFrame window;
   private final GameStateManager stateManager;
   private final ApplicationProperties applicationProperties;
-  private Controller currentController;
+  private final KeyEventQueue keyEvents = new KeyEventQueue();
+  private final TickClock tickClock = TickClock.fromProperties();
+  private final FramePacer framePacer = FramePacer.fromProperties();
+  private final KeyEventQueue.Sink keyDispatcher = this::dispatchKey;
+  // Held by the render thread while drawing, so that the canvas is never swapped under it
+  private final Object renderLock = new Object();
+  private volatile Controller currentController;
+  private volatile boolean canvasReady = true;
   private Thread gameThread;
+  private Thread renderThread;
   private volatile boolean running;
   private Canvas currentCanvas;
   private ResourceManager resourceManager;
@@ -67,6 +88,8 @@ public final class GameEngine implements Runnable {
       // Start game thread
       gameThread = new Thread(this, "GameThread");
       gameThread.start();
+      renderThread = new Thread(this::renderLoop, "RenderThread");
+      renderThread.start();
       LOGGER.info("Game engine started");
     }
   }
@@ -77,13 +100,16 @@ public final class GameEngine implements Runnable {
       running = false;
       LOGGER.info("Stopping game engine...");
       resourceManager.clearCaches();
-      // Wait for thread to finish
+      // Wait for threads to finish
       try {
         if (gameThread != null) {
           gameThread.join(THREAD_JOIN_TIMEOUT_MS);
         }
+        if (renderThread != null) {
+          renderThread.join(THREAD_JOIN_TIMEOUT_MS);
+        }
       } catch (final InterruptedException ex) {
-        LOGGER.warn("Interrupted while waiting for game thread");
+        LOGGER.warn("Interrupted while waiting for game threads");
         Thread.currentThread().interrupt();
       }
       // Dispose window
@@ -97,22 +123,21 @@ public final class GameEngine implements Runnable {
   public void run() {
     // Track last state for canvas updates
     GameState lastState = stateManager.getCurrentState();
-    // Flag to track if canvas is ready
-    boolean canvasReady = true;
     long lastTime = System.nanoTime();
+    final float tickSeconds = (float) tickClock.getTickSeconds();
+    final FrameHistogram updateTimes = FrameStats.getInstance().getUpdate();
 
-    LOGGER.info("Game loop started");
+    LOGGER.info(
+        "Game loop started at {} ticks per second", 1_000_000_000L / tickClock.getTickNanos());
     while (running) {
-      final long now = System.nanoTime();
-      final long updateLength = now - lastTime;
-      lastTime = now;
-      final float deltaTime = (float) (updateLength * NANO_TO_SEC);
       final GameState currentState = stateManager.getCurrentState();
 
       if (currentState != lastState) {
         LOGGER.info("State changed from {} to {}", lastState, currentState);
-        // Mark canvas as not ready
-        canvasReady = false;
+        // Mark canvas as not ready, once the render thread is done with the old one
+        synchronized (renderLock) {
+          canvasReady = false;
+        }
         // Update canvas synchronously on EDT and wait
         try {
           SwingUtilities.invokeAndWait(this::updateCanvas);
@@ -126,27 +151,92 @@ public final class GameEngine implements Runnable {
           LOGGER.warn("Error in canvas update: {}", ex.getCause().getMessage());
         }
         lastState = currentState;
+        // The swap is not game time: start the new state without a burst of catch-up ticks
+        lastTime = System.nanoTime();
+      }
+
+      final long now = System.nanoTime();
+      final int ticks = tickClock.advance(now - lastTime);
+
+      lastTime = now;
+      // Simulate the due ticks, applying the input of each tick on this thread first
+      for (int tick = 0; tick < ticks && stateManager.getCurrentState() == lastState; tick++) {
+        keyEvents.drain(keyDispatcher);
+        if (currentController != null && canvasReady) {
+          final long start = System.nanoTime();
+          currentController.update(tickSeconds);
+          updateTimes.record(System.nanoTime() - start);
+        }
       }
-      // Update and render current controller directly
-      if (currentController != null && canvasReady) {
-        currentController.update(deltaTime);
-        currentController.render();
+      // Hand the latest state to the render thread, however many ticks ran
+      if (ticks > 0 && currentController != null && canvasReady) {
+        currentController.publishFrame();
       }
 
-      // Sleep to maintain target FPS
-      final long sleepTime = (lastTime - System.nanoTime() + OPTIMAL_TIME) / 1_000_000;
+      // Park until the next tick is due, the clock absorbs any late wake-up
+      LockSupport.parkNanos(tickClock.getNanosToNextTick() - (System.nanoTime() - lastTime));
+      if (Thread.currentThread().isInterrupted()) {
+        LOGGER.warn("Game loop interrupted");
+        break;
+      }
+    }
+    LOGGER.info("Game loop ended after {} ticks", tickClock.getTickCount());
+  }
 
-      if (sleepTime > 0) {
-        try {
-          Thread.sleep(sleepTime);
-        } catch (final InterruptedException ex) {
-          LOGGER.warn("Game loop sleep interrupted");
-          Thread.currentThread().interrupt();
-          break;
+  /**
+   * Runs the render loop: draws the latest frame published by the current controller at the
+   * configured frame rate, independently of the simulation.
+   */
+  private void renderLoop() {
+    final FrameHistogram frameTimes = FrameStats.getInstance().getFrame();
+    long lastFrame = System.nanoTime();
+
+    LOGGER.info("Render loop started");
+    framePacer.start();
+    while (running) {
+      synchronized (renderLock) {
+        final Controller controller = currentController;
+
+        if (controller != null && canvasReady) {
+          controller.render();
         }
       }
+
+      // Wait for the next frame deadline, a frame lasts from one wake-up to the next
+      final long now = framePacer.awaitNextFrame();
+      frameTimes.record(now - lastFrame);
+      lastFrame = now;
+      if (Thread.currentThread().isInterrupted()) {
+        LOGGER.warn("Render loop interrupted");
+        break;
+      }
+    }
+    LOGGER.info(
+        "Render loop ended after {} frames, jitter mean {} us, max {} us, {} missed",
+        framePacer.getFrameCount(),
+        framePacer.getMeanJitterNanos() / NANOS_PER_MICRO,
+        framePacer.getMaxJitterNanos() / NANOS_PER_MICRO,
+        framePacer.getMissedFrames());
+  }
+
+  /**
+   * Dispatches a queued key event to the current controller, on the game thread. The event takes
+   * effect on the tick being simulated, whatever its time, which keeps the simulation replayable.
+   *
+   * @param keyCode The key code
+   * @param pressed true for a press, false for a release
+   */
+  private void dispatchKey(final int keyCode, final boolean pressed) {
+    final Controller controller = currentController;
+
+    if (controller == null) {
+      return;
+    }
+    if (pressed) {
+      controller.handleInput(keyCode);
+    } else {
+      controller.handleInputRelease(keyCode);
     }
-    LOGGER.info("Game loop ended");
   }
 
   /**
@@ -200,21 +290,17 @@ public final class GameEngine implements Runnable {
     if (!window.isVisible()) {
       window.setLocationRelativeTo(null);
     }
-    // Add key listener to new canvas
+    // Add key listener to new canvas, only queueing the events for the game thread
     currentCanvas.addKeyListener(
         new KeyAdapter() {
           @Override
           public void keyPressed(final KeyEvent e) {
-            if (currentController != null) {
-              currentController.handleInput(e.getKeyCode());
-            }
+            queueKey(e.getKeyCode(), true);
           }
 
           @Override
           public void keyReleased(final KeyEvent e) {
-            if (currentController != null) {
-              currentController.handleInputRelease(e.getKeyCode());
-            }
+            queueKey(e.getKeyCode(), false);
           }
         });
     // Request focus
@@ -223,4 +309,16 @@ public final class GameEngine implements Runnable {
           currentCanvas.requestFocusInWindow();
         });
   }
+
+  /**
+   * Queues a key event from the event thread.
+   *
+   * @param keyCode The key code
+   * @param pressed true for a press, false for a release
+   */
+  private void queueKey(final int keyCode, final boolean pressed) {
+    if (!keyEvents.offer(keyCode, pressed)) {
+      LOGGER.warn("Key event queue full, dropped key {}", keyCode);
+    }
+  }
 }
@@ -3,44 +3,49 @@ package it.unibo.tetraj;
 import it.unibo.tetraj.command.Command;
 import it.unibo.tetraj.util.Logger;
 import it.unibo.tetraj.util.LoggerFactory;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 /**
  * Handles input mapping and command execution. Maps key codes to commands for decoupled input
  * handling.
+ *
+ * <p>Bindings are kept in primitive tables indexed by key code, grown to the highest bound code,
+ * so dispatching a key is a bounds check and an array read, without boxing or hashing.
  */
 public class InputHandler {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(InputHandler.class);
-  private final Map<Integer, Command> keyPressBindings;
-  private final Map<Integer, Command> keyReleaseBindings;
+  private static final int INITIAL_TABLE_SIZE = 256;
+  private Command[] keyPressBindings;
+  private Command[] keyReleaseBindings;
 
   /** Creates a new input handler. */
   public InputHandler() {
-    keyPressBindings = new HashMap<>();
-    keyReleaseBindings = new HashMap<>();
+    keyPressBindings = new Command[INITIAL_TABLE_SIZE];
+    keyReleaseBindings = new Command[INITIAL_TABLE_SIZE];
   }
 
   /**
    * Binds a key press to a command.
    *
-   * @param keyCode The key code
+   * @param keyCode The key code, not negative
    * @param command The command to execute on key press
+   * @throws IllegalArgumentException if the key code is negative
    */
   public void bindKey(final int keyCode, final Command command) {
-    keyPressBindings.put(keyCode, command);
+    keyPressBindings = bind(keyPressBindings, keyCode, command);
     LOGGER.info("Bound key press {} to command {}", keyCode, command.getClass().getSimpleName());
   }
 
   /**
    * Binds a key release to a command.
    *
-   * @param keyCode The key code
+   * @param keyCode The key code, not negative
    * @param command The command to execute on key release
+   * @throws IllegalArgumentException if the key code is negative
    */
   public void bindKeyRelease(final int keyCode, final Command command) {
-    keyReleaseBindings.put(keyCode, command);
+    keyReleaseBindings = bind(keyReleaseBindings, keyCode, command);
     LOGGER.info("Bound key release {} to command {}", keyCode, command.getClass().getSimpleName());
   }
 
@@ -50,7 +55,9 @@ public class InputHandler {
    * @param keyCode The key code to unbind
    */
   public void unbindKey(final int keyCode) {
-    keyPressBindings.remove(keyCode);
+    if (lookup(keyPressBindings, keyCode) != null) {
+      keyPressBindings[keyCode] = null;
+    }
     LOGGER.info("Unbound key press {}", keyCode);
   }
 
@@ -60,14 +67,16 @@ public class InputHandler {
    * @param keyCode The key code to unbind
    */
   public void unbindKeyRelease(final int keyCode) {
-    keyReleaseBindings.remove(keyCode);
+    if (lookup(keyReleaseBindings, keyCode) != null) {
+      keyReleaseBindings[keyCode] = null;
+    }
     LOGGER.info("Unbound key release {}", keyCode);
   }
 
   /** Clears all key bindings (both press and release). */
   public void clearBindings() {
-    keyPressBindings.clear();
-    keyReleaseBindings.clear();
+    Arrays.fill(keyPressBindings, null);
+    Arrays.fill(keyReleaseBindings, null);
     LOGGER.info("Cleared all key bindings");
   }
 
@@ -78,7 +87,7 @@ public class InputHandler {
    * @return true if a command was executed
    */
   public boolean handleKeyPress(final int keyCode) {
-    final Command command = keyPressBindings.get(keyCode);
+    final Command command = lookup(keyPressBindings, keyCode);
     if (command != null) {
       command.execute();
       LOGGER.info("Executed press command for key {}", keyCode);
@@ -94,7 +103,7 @@ public class InputHandler {
    * @return true if a command was executed
    */
   public boolean handleKeyRelease(final int keyCode) {
-    final Command command = keyReleaseBindings.get(keyCode);
+    final Command command = lookup(keyReleaseBindings, keyCode);
     if (command != null) {
       command.execute();
       LOGGER.info("Executed release command for key {}", keyCode);
@@ -110,7 +119,7 @@ public class InputHandler {
    * @return true if the key has a press binding
    */
   public boolean hasBinding(final int keyCode) {
-    return keyPressBindings.containsKey(keyCode);
+    return lookup(keyPressBindings, keyCode) != null;
   }
 
   /**
@@ -120,6 +129,25 @@ public class InputHandler {
    * @return true if the key has a release binding
    */
   public boolean hasReleaseBinding(final int keyCode) {
-    return keyReleaseBindings.containsKey(keyCode);
+    return lookup(keyReleaseBindings, keyCode) != null;
+  }
+
+  private static Command lookup(final Command[] table, final int keyCode) {
+    return keyCode >= 0 && keyCode < table.length ? table[keyCode] : null;
+  }
+
+  private static Command[] bind(final Command[] table, final int keyCode, final Command command) {
+    if (keyCode < 0) {
+      throw new IllegalArgumentException("Invalid key code: " + keyCode);
+    }
+    if (keyCode < table.length) {
+      table[keyCode] = command;
+      return table;
+    }
+
+    final Command[] grown = Arrays.copyOf(table, Math.max(keyCode + 1, table.length * 2));
+
+    grown[keyCode] = command;
+    return grown;
   }
 }
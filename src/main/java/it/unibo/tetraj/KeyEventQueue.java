@@ -0,0 +1,138 @@
+package it.unibo.tetraj;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded lock-free queue of key events from the AWT event thread to the game thread.
+ *
+ * <p>The queue is single producer, single consumer: only the event thread may {@link #offer offer}
+ * and only the game thread may {@link #drain drain}. Events are stored as primitives in a ring
+ * buffer, the key code with its press or release flag, so neither side allocates or blocks. Each
+ * side owns one index and publishes it with an ordered write after touching the slots, which is all
+ * the other side needs to read them safely.
+ *
+ * <p>When the game thread falls behind and the ring fills up, new events are dropped and counted.
+ */
+public final class KeyEventQueue {
+
+  /** Default number of events the queue can hold, well over a frame of typing. */
+  public static final int DEFAULT_CAPACITY = 256;
+
+  private final int[] codes;
+  private final int mask;
+  private final AtomicLong head = new AtomicLong();
+  private final AtomicLong tail = new AtomicLong();
+  private final AtomicLong dropped = new AtomicLong();
+  private final int[] frameCodes;
+  private int frameCount;
+
+  /** Receiver of the drained events. */
+  @FunctionalInterface
+  public interface Sink {
+
+    /**
+     * Receives a key event.
+     *
+     * @param keyCode The key code
+     * @param pressed true for a press, false for a release
+     */
+    void accept(int keyCode, boolean pressed);
+  }
+
+  /** Creates a queue with the default capacity. */
+  public KeyEventQueue() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates a queue.
+   *
+   * @param capacity The maximum number of pending events, a positive power of two
+   * @throws IllegalArgumentException if the capacity is not a positive power of two
+   */
+  public KeyEventQueue(final int capacity) {
+    if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+    }
+    codes = new int[capacity];
+    mask = capacity - 1;
+    frameCodes = new int[capacity];
+  }
+
+  /**
+   * Queues a key event. Must only be called from the producer thread.
+   *
+   * @param keyCode The key code, not negative
+   * @param pressed true for a press, false for a release
+   * @return true if the event was queued, false if the queue was full and it was dropped
+   */
+  public boolean offer(final int keyCode, final boolean pressed) {
+    final long index = tail.get();
+
+    if (index - head.get() > mask) {
+      dropped.incrementAndGet();
+      return false;
+    }
+
+    final int slot = (int) index & mask;
+
+    codes[slot] = pressed ? keyCode : ~keyCode;
+    tail.lazySet(index + 1);
+    return true;
+  }
+
+  /**
+   * Hands every queued event to a sink, in order. Events repeating the last state of their key
+   * within the same drain, such as the operating system auto repeat of a held key, are coalesced
+   * into the first one. Must only be called from the consumer thread, typically once per frame.
+   *
+   * @param sink The receiver of the events
+   * @return The number of events handed to the sink
+   */
+  public int drain(final Sink sink) {
+    final long last = tail.get();
+    long index = head.get();
+    int delivered = 0;
+
+    frameCount = 0;
+    while (index < last) {
+      final int slot = (int) index & mask;
+      final int code = codes[slot];
+
+      index++;
+      head.lazySet(index);
+      if (!repeatsKeyState(code)) {
+        delivered++;
+        sink.accept(code >= 0 ? code : ~code, code >= 0);
+      }
+    }
+    return delivered;
+  }
+
+  /**
+   * Gets the number of events dropped because the queue was full.
+   *
+   * @return The dropped event count since creation
+   */
+  public long getDroppedCount() {
+    return dropped.get();
+  }
+
+  /*
+   * Remembers the last state of each key seen in the current drain. The list is linear, as a frame
+   * only ever carries a handful of distinct keys, and is bounded by the ring capacity.
+   */
+  private boolean repeatsKeyState(final int code) {
+    final int keyCode = code >= 0 ? code : ~code;
+
+    for (int i = 0; i < frameCount; i++) {
+      final int seen = frameCodes[i];
+      if ((seen >= 0 ? seen : ~seen) == keyCode) {
+        frameCodes[i] = code;
+        return seen == code;
+      }
+    }
+    frameCodes[frameCount++] = code;
+    return false;
+  }
+}
@@ -0,0 +1,138 @@
+package it.unibo.tetraj;
+
+import it.unibo.tetraj.util.ApplicationProperties;
+
+/**
+ * Fixed timestep clock of the game loop. Real elapsed time is accumulated and handed out as whole
+ * simulation ticks of constant length, so the simulation advances by the same steps whatever the
+ * frame rate, the scheduling jitter or the speed of the machine: the same inputs on the same ticks
+ * always give the same game.
+ *
+ * <p>After a stall, e.g. a GC pause or a dragged window, the clock catches up with several ticks in
+ * a row, but never more than a configured bound: the time beyond it is dropped, and the game slows
+ * down for a moment instead of spiralling into ever longer frames.
+ */
+public final class TickClock {
+
+  /** Simulation rate used when the configuration does not set a valid one. */
+  public static final int DEFAULT_TICK_RATE = 240;
+
+  /** Largest catch-up used when the configuration does not set a valid one, 125 ms at 240 Hz. */
+  public static final int DEFAULT_MAX_CATCH_UP_TICKS = 30;
+
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+  private static final double SECONDS_PER_NANO = 1.0 / NANOS_PER_SECOND;
+  private final long tickNanos;
+  private final int maxCatchUpTicks;
+  private long accumulatorNanos;
+  private long tickCount;
+  private long droppedNanos;
+
+  /**
+   * Creates a clock.
+   *
+   * @param tickRate The number of simulation ticks per second
+   * @param maxCatchUpTicks The largest number of ticks handed out at once
+   * @throws IllegalArgumentException if a value is not positive or the rate exceeds 1 GHz
+   */
+  public TickClock(final int tickRate, final int maxCatchUpTicks) {
+    if (tickRate <= 0 || tickRate > NANOS_PER_SECOND || maxCatchUpTicks <= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Invalid tick clock: rate=%d, maxCatchUp=%d", tickRate, maxCatchUpTicks));
+    }
+    this.tickNanos = NANOS_PER_SECOND / tickRate;
+    this.maxCatchUpTicks = maxCatchUpTicks;
+  }
+
+  /**
+   * Creates a clock from the properties "engine.tickRate" and "engine.maxCatchUpTicks". Missing or
+   * invalid values fall back to {@link #DEFAULT_TICK_RATE} and {@link
+   * #DEFAULT_MAX_CATCH_UP_TICKS}.
+   *
+   * @return The configured clock
+   */
+  public static TickClock fromProperties() {
+    final ApplicationProperties properties = ApplicationProperties.getInstance();
+
+    return new TickClock(
+        properties.getInt("engine.tickRate", 1, DEFAULT_TICK_RATE),
+        properties.getInt("engine.maxCatchUpTicks", 1, DEFAULT_MAX_CATCH_UP_TICKS));
+  }
+
+  /**
+   * Accumulates elapsed real time and takes out the ticks it completes.
+   *
+   * @param elapsedNanos The real time elapsed since the last call, negative values count as 0
+   * @return The number of ticks to simulate now, at most the catch-up bound
+   */
+  public int advance(final long elapsedNanos) {
+    accumulatorNanos += Math.max(0, elapsedNanos);
+
+    final int due = (int) Math.min(accumulatorNanos / tickNanos, maxCatchUpTicks);
+
+    accumulatorNanos -= due * tickNanos;
+    if (accumulatorNanos >= tickNanos) {
+      // Too far behind: give up on the whole ticks beyond the bound, keep the partial one
+      droppedNanos += accumulatorNanos - accumulatorNanos % tickNanos;
+      accumulatorNanos %= tickNanos;
+    }
+    tickCount += due;
+    return due;
+  }
+
+  /**
+   * Gets the length of a tick.
+   *
+   * @return The tick length in nanoseconds
+   */
+  public long getTickNanos() {
+    return tickNanos;
+  }
+
+  /**
+   * Gets the length of a tick, for the controllers that take seconds.
+   *
+   * @return The tick length in seconds
+   */
+  public double getTickSeconds() {
+    return tickNanos * SECONDS_PER_NANO;
+  }
+
+  /**
+   * Gets how far the real time is into the next tick, e.g. to interpolate what is drawn between two
+   * simulation states.
+   *
+   * @return The fraction of a tick accumulated, from 0 inclusive to 1 exclusive
+   */
+  public double getAlpha() {
+    return (double) accumulatorNanos / tickNanos;
+  }
+
+  /**
+   * Gets how much real time is still missing to complete the next tick.
+   *
+   * @return The time until the next tick in nanoseconds, from 1 to the tick length
+   */
+  public long getNanosToNextTick() {
+    return tickNanos - accumulatorNanos;
+  }
+
+  /**
+   * Gets the number of ticks handed out since creation.
+   *
+   * @return The tick count
+   */
+  public long getTickCount() {
+    return tickCount;
+  }
+
+  /**
+   * Gets the real time dropped because the catch-up bound was reached.
+   *
+   * @return The dropped time in nanoseconds
+   */
+  public long getDroppedNanos() {
+    return droppedNanos;
+  }
+}
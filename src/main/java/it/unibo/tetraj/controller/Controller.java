@@ -23,13 +23,26 @@ public interface Controller {
   GameSession exit();
 
   /**
-   * Updates the state logic.
+   * Updates the state logic by one simulation tick. Key input for the tick has already been
+   * dispatched on the same thread.
    *
-   * @param deltaTime Time elapsed since last update in seconds
+   * @param deltaTime The fixed tick length in seconds
    */
   void update(float deltaTime);
 
-  /** Renders the state visuals. */
+  /**
+   * Publishes what the state draws for the render thread. Called on the game thread after the
+   * ticks of each loop iteration. Default implementation does nothing, for states whose model is
+   * immutable and can be drawn as is.
+   */
+  default void publishFrame() {
+    // Default: do nothing
+  }
+
+  /**
+   * Renders the state visuals from the latest published frame. Called on the render thread, it must
+   * not touch the mutable state of the game.
+   */
   void render();
 
   /**
@@ -24,7 +24,7 @@ public class GameOverController implements Controller {
   private final ResourceManager resources;
   private final AbstractView<GameOverModel> view;
   private final InputHandler inputHandler;
-  private GameOverModel model;
+  private volatile GameOverModel model;
 
   /**
    * Creates a new game over controller.
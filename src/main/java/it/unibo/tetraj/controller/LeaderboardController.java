@@ -23,7 +23,7 @@ public final class LeaderboardController implements Controller {
   private final ResourceManager resources;
   private final AbstractView<LeaderboardModel> view;
   private final InputHandler inputHandler;
-  private LeaderboardModel model;
+  private volatile LeaderboardModel model;
 
   /**
    * Creates a new leaderboard controller.
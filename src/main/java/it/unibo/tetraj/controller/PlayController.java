@@ -2,12 +2,15 @@ package it.unibo.tetraj.controller;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.unibo.tetraj.ApplicationContext;
+import it.unibo.tetraj.FrameExchange;
 import it.unibo.tetraj.GameSession;
 import it.unibo.tetraj.GameState;
 import it.unibo.tetraj.InputHandler;
 import it.unibo.tetraj.command.PlayCommand;
 import it.unibo.tetraj.command.StateTransitionCommand;
+import it.unibo.tetraj.model.PlayFrame;
 import it.unibo.tetraj.model.PlayModel;
+import it.unibo.tetraj.model.input.InputAction;
 import it.unibo.tetraj.util.Logger;
 import it.unibo.tetraj.util.LoggerFactory;
 import it.unibo.tetraj.util.ResourceManager;
@@ -23,7 +26,8 @@ public final class PlayController implements Controller {
   private final ApplicationContext applicationContext;
   private final ResourceManager resources;
   private final PlayModel model;
-  private final AbstractView<PlayModel> view;
+  private final AbstractView<PlayFrame> view;
+  private final FrameExchange<PlayFrame> frames = new FrameExchange<>(PlayFrame::new);
   private final InputHandler inputHandler;
   private Instant gameStartTime;
 
@@ -37,7 +41,7 @@ public final class PlayController implements Controller {
       value = "EI_EXPOSE_REP2",
       justification = "ApplicationContext is a shared singleton service")
   public PlayController(
-      final ApplicationContext applicationContext, final AbstractView<PlayModel> view) {
+      final ApplicationContext applicationContext, final AbstractView<PlayFrame> view) {
     this.applicationContext = applicationContext;
     resources = ResourceManager.getInstance();
     model = new PlayModel();
@@ -50,6 +54,7 @@ public final class PlayController implements Controller {
   public void enter(final GameSession gameSession) {
     resources.playBackgroundMusic("playLoop.wav");
     model.startNewGame();
+    publishFrame();
     gameStartTime = Instant.now();
     setupKeyBindings();
     LOGGER.info("Entering play state");
@@ -58,12 +63,15 @@ public final class PlayController implements Controller {
   /** {@inheritDoc} */
   @Override
   public GameSession exit() {
+    final PlayFrame lastFrame = new PlayFrame();
+
+    model.writeFrame(lastFrame);
     final GameSession gameSession =
         GameSession.builder()
             .withScore(model.getScore())
             .withLevel(model.getLevel())
             .withLinesCleared(model.getLinesCleared())
-            .withLastFrame(view.captureFrame(model))
+            .withLastFrame(view.captureFrame(lastFrame))
             .withGameStart(gameStartTime)
             .markGameEnd()
             .build();
@@ -81,10 +89,21 @@ public final class PlayController implements Controller {
     }
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public void publishFrame() {
+    model.writeFrame(frames.getBackFrame());
+    frames.publish();
+  }
+
   /** {@inheritDoc} */
   @Override
   public void render() {
-    view.render(model);
+    final PlayFrame frame = frames.acquire();
+
+    if (frame != null) {
+      view.render(frame);
+    }
   }
 
   /** {@inheritDoc} */
@@ -107,9 +126,11 @@ public final class PlayController implements Controller {
 
   /**
    * Sets up the key bindings for the paused state. Disables gameplay controls and restricts input
-   * to resume commands (e.g. P, ESC).
+   * to resume commands (e.g. P, ESC) and the performance overlay toggle (F3).
    */
   private void setupKeyBindingsOnPause() {
+    // F3 to show or hide the performance overlay
+    inputHandler.bindKey(KeyEvent.VK_F3, new PlayCommand(model, PlayModel::toggleHud, "toggleHud"));
     // P to pause playing
     inputHandler.bindKey(
         KeyEvent.VK_P,
@@ -140,42 +161,43 @@ public final class PlayController implements Controller {
 
   /** Sets up the key bindings for playing state. */
   private void setupKeyBindings() {
-    // LEFT or A to move piece left
-    inputHandler.bindKey(KeyEvent.VK_LEFT, new PlayCommand(model, PlayModel::moveLeft, "moveLeft"));
-    inputHandler.bindKey(KeyEvent.VK_A, new PlayCommand(model, PlayModel::moveLeft, "moveLeft"));
-    // RIGHT or D to move piece right
-    inputHandler.bindKey(
-        KeyEvent.VK_RIGHT, new PlayCommand(model, PlayModel::moveRight, "moveRight"));
-    inputHandler.bindKey(KeyEvent.VK_D, new PlayCommand(model, PlayModel::moveRight, "moveRight"));
+    // LEFT or A to move piece left (hold to auto shift)
+    bindAction(KeyEvent.VK_LEFT, InputAction.MOVE_LEFT);
+    bindAction(KeyEvent.VK_A, InputAction.MOVE_LEFT);
+    // RIGHT or D to move piece right (hold to auto shift)
+    bindAction(KeyEvent.VK_RIGHT, InputAction.MOVE_RIGHT);
+    bindAction(KeyEvent.VK_D, InputAction.MOVE_RIGHT);
     // DOWN or S to soft drop (hold for continuous fast fall)
-    inputHandler.bindKey(
-        KeyEvent.VK_DOWN, new PlayCommand(model, PlayModel::startSoftDrop, "startSoftDrop"));
-    inputHandler.bindKey(
-        KeyEvent.VK_S, new PlayCommand(model, PlayModel::startSoftDrop, "startSoftDrop"));
-    inputHandler.bindKeyRelease(
-        KeyEvent.VK_DOWN, new PlayCommand(model, PlayModel::stopSoftDrop, "stopSoftDrop"));
-    inputHandler.bindKeyRelease(
-        KeyEvent.VK_S, new PlayCommand(model, PlayModel::stopSoftDrop, "stopSoftDrop"));
+    bindAction(KeyEvent.VK_DOWN, InputAction.SOFT_DROP);
+    bindAction(KeyEvent.VK_S, InputAction.SOFT_DROP);
     // SPACE to hard drop
-    inputHandler.bindKey(
-        KeyEvent.VK_SPACE, new PlayCommand(model, PlayModel::hardDrop, "hardDrop"));
+    bindAction(KeyEvent.VK_SPACE, InputAction.HARD_DROP);
     // UP or W to rotate clockwise
-    inputHandler.bindKey(
-        KeyEvent.VK_UP, new PlayCommand(model, PlayModel::rotateClockwise, "rotateClockwise"));
-    inputHandler.bindKey(
-        KeyEvent.VK_W, new PlayCommand(model, PlayModel::rotateClockwise, "rotateClockwise"));
+    bindAction(KeyEvent.VK_UP, InputAction.ROTATE_CW);
+    bindAction(KeyEvent.VK_W, InputAction.ROTATE_CW);
     // CONTROL or Z to rotate counterclockwise
-    inputHandler.bindKey(
-        KeyEvent.VK_CONTROL,
-        new PlayCommand(model, PlayModel::rotateCounterClockwise, "rotateCounterClockwise"));
-    inputHandler.bindKey(
-        KeyEvent.VK_Z,
-        new PlayCommand(model, PlayModel::rotateCounterClockwise, "rotateCounterClockwise"));
+    bindAction(KeyEvent.VK_CONTROL, InputAction.ROTATE_CCW);
+    bindAction(KeyEvent.VK_Z, InputAction.ROTATE_CCW);
     // SHIFT or C to hold piece
-    inputHandler.bindKey(
-        KeyEvent.VK_SHIFT, new PlayCommand(model, PlayModel::holdPiece, "holdPiece"));
-    inputHandler.bindKey(KeyEvent.VK_C, new PlayCommand(model, PlayModel::holdPiece, "holdPiece"));
+    bindAction(KeyEvent.VK_SHIFT, InputAction.HOLD);
+    bindAction(KeyEvent.VK_C, InputAction.HOLD);
     // P and ESC for pause
     setupKeyBindingsOnPause();
   }
+
+  /**
+   * Binds both the press and the release of a key to a gameplay action, so that the input engine
+   * can time held keys.
+   *
+   * @param keyCode The key code
+   * @param action The action to report
+   */
+  private void bindAction(final int keyCode, final InputAction action) {
+    final String name = action.name();
+
+    inputHandler.bindKey(
+        keyCode, new PlayCommand(model, playModel -> playModel.pressInput(action), name));
+    inputHandler.bindKeyRelease(
+        keyCode, new PlayCommand(model, playModel -> playModel.releaseInput(action), name));
+  }
 }
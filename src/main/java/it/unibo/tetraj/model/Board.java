@@ -1,19 +1,99 @@
 package it.unibo.tetraj.model;
 
 import it.unibo.tetraj.model.piece.AbstractTetromino;
+import it.unibo.tetraj.model.piece.PieceState;
+import it.unibo.tetraj.model.piece.PieceType;
+import it.unibo.tetraj.model.piece.ShapeTable;
 import java.awt.Color;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
 
-/** Represents the Tetris game board. Standard Tetris board is 10 cells wide and 20 cells high. */
+/**
+ * Represents the Tetris game board. Standard Tetris board is 10 cells wide and 20 cells high.
+ *
+ * <p>The playfield is stored as a <b>bitboard</b>: each row is a run of {@code long} words whose
+ * bit {@code c} of word {@code w} is set when column {@code 64 * w + c} is occupied. Boards up to
+ * 64 columns wide use a single word per row; wider boards use as many as needed, and a piece row,
+ * at most 32 cells wide, touches at most two of them. Collision, placement and full-line detection
+ * are therefore a handful of AND/OR/compare operations per row. Cell colors live in a separate
+ * compact plane of palette indices (one byte per cell), which is only read for rendering.
+ *
+ * <p>Storage is <b>sparse</b>: only the rows from the floor up to the top of the stack own a
+ * physical storage slot, the empty rows above it cost nothing, so very tall boards are as cheap as
+ * their stack. Rows are addressed bottom-up through an indirection table mapping each level of the
+ * stack to a slot, and slots past the stack are kept zeroed for reuse. Clearing lines only permutes
+ * slot indices: surviving rows keep their storage and the cleared slots are recycled above the
+ * stack, so no row data is ever copied and the cost depends on the stack height alone.
+ *
+ * <p>The board also maintains its <b>skyline</b>, the height of the stack in every column, updated
+ * incrementally on placement and line clears. It answers landing-row queries (ghost piece, hard
+ * drop) in time proportional to the piece width instead of stepping the piece down row by row.
+ *
+ * <p>Finally, the board keeps a <b>Zobrist hash</b> of its occupancy (colors are ignored), so that
+ * searches can recognise a board reached through different move orders. The hash is the XOR of one
+ * key per non-empty row word, derived from the row index, the word index and its mask by a 64-bit
+ * mixing function: it behaves like a table of random keys for every (row, mask) pair without
+ * storing one. Placements update only the rows they touch; a line clear, which moves every row
+ * above it, rehashes the stack.
+ *
+ * <p>Placements and line clears can be <b>undone</b>. Once a {@link #mark()} is taken, each change
+ * appends its delta to an undo journal: the previous row words, colors and column heights it
+ * overwrote, and the levels of the rows it cleared. {@link #rollback(int)} replays the journal
+ * backwards, so reverting costs as much as the changes did and never copies the board.
+ *
+ * <p>Other threads read the board through immutable {@link BoardSnapshot}s. Every change bumps the
+ * board {@link #getVersion() version}; a snapshot of an unchanged board is the previous one, and a
+ * new snapshot only copies the rows changed since the last one, sharing all the others. Rows are
+ * only tracked once a first snapshot is taken, so boards used for searches pay nothing for it.
+ */
 public final class Board {
 
   private static final int STANDARD_WIDTH = 10;
   private static final int STANDARD_HEIGHT = 20;
+  private static final int INITIAL_LEVELS = 32;
+  private static final int WORD_SHIFT = 6;
+  private static final int MAX_PALETTE_SIZE = 255;
+  private static final int BYTE_MASK = 0xFF;
+  private static final long UNSIGNED_INT_MASK = 0xFFFF_FFFFL;
+  private static final long GOLDEN_GAMMA = 0x9E37_79B9_7F4A_7C15L;
+  private static final long MIX_MULTIPLIER_1 = 0xBF58_476D_1CE4_E5B9L;
+  private static final long MIX_MULTIPLIER_2 = 0x94D0_49BB_1331_11EBL;
+  private static final int MIX_SHIFT_1 = 30;
+  private static final int MIX_SHIFT_2 = 27;
+  private static final int MIX_SHIFT_3 = 31;
+  private static final int INITIAL_JOURNAL = 64;
+  private static final int TAG_BITS = 3;
+  private static final int TAG_MASK = (1 << TAG_BITS) - 1;
+  private static final int TAG_STATE = 0;
+  private static final int TAG_WORD = 1;
+  private static final int TAG_COLOR = 2;
+  private static final int TAG_HEIGHT = 3;
+  private static final int TAG_CLEARED_LEVEL = 4;
+  private static final int TAG_CLEAR = 5;
   private final int width;
   private final int height;
-  private final Color[][] cells;
+  private final int words;
+  private final long lastWordMask;
+  private final int[] columnHeights;
+  private int[] levelSlots;
+  private long[] slotMasks;
+  private byte[] slotColors;
+  private int[] clearedRows;
+  private int[] freedSlots;
+  private int stackLevels;
+  private int clearedCount;
+  private long zobristHash;
+  private final Color[] palette;
+  private int paletteSize;
+  private long[] journal;
+  private int journalSize;
+  private boolean journaling;
+  private long version;
+  private BoardSnapshot snapshot;
+  private BoardSnapshot.Row[] levelRows;
+  private boolean levelRowsShared;
+  private int[] dirtyLevels;
+  private int dirtyCount;
+  private int builtLevels;
 
   /** Creates a new game board with standard dimensions. */
   public Board() {
@@ -21,15 +101,61 @@ public final class Board {
   }
 
   /**
-   * Creates a new game board with specified dimensions.
+   * Creates a new game board with specified dimensions. Row storage is allocated as the stack
+   * grows, so the height only bounds the playfield.
    *
    * @param width The board width
    * @param height The board height
+   * @throws IllegalArgumentException if a size is not positive or the board has more cells than an
+   *     array can index
    */
   public Board(final int width, final int height) {
+    if (width <= 0 || height <= 0 || (long) width * height > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(
+          String.format("Unsupported board size %dx%d", width, height));
+    }
     this.width = width;
     this.height = height;
-    cells = new Color[height][width];
+    words = (width + Long.SIZE - 1) >>> WORD_SHIFT;
+    final int lastWordBits = width - ((words - 1) << WORD_SHIFT);
+    lastWordMask = lastWordBits == Long.SIZE ? -1L : (1L << lastWordBits) - 1;
+    columnHeights = new int[width];
+    levelSlots = new int[0];
+    slotMasks = new long[0];
+    slotColors = new byte[0];
+    clearedRows = new int[0];
+    freedSlots = new int[0];
+    ensureLevels(Math.min(height, INITIAL_LEVELS));
+    // Index 0 is reserved for "no color"
+    palette = new Color[MAX_PALETTE_SIZE + 1];
+    paletteSize = 1;
+    journal = new long[0];
+  }
+
+  /**
+   * Creates a copy of another board, with its cells, colors, skyline and hash. Searches use copies
+   * to try placements without touching the game board. The undo journal is not copied: the copy
+   * starts without marks.
+   *
+   * @param other The board to copy
+   */
+  public Board(final Board other) {
+    width = other.width;
+    height = other.height;
+    words = other.words;
+    lastWordMask = other.lastWordMask;
+    columnHeights = other.columnHeights.clone();
+    levelSlots = other.levelSlots.clone();
+    slotMasks = other.slotMasks.clone();
+    slotColors = other.slotColors.clone();
+    clearedRows = new int[levelSlots.length];
+    freedSlots = new int[levelSlots.length];
+    stackLevels = other.stackLevels;
+    zobristHash = other.zobristHash;
+    palette = other.palette.clone();
+    paletteSize = other.paletteSize;
+    journal = new long[0];
+    version = other.version;
   }
 
   /**
@@ -39,25 +165,54 @@ public final class Board {
    * @return true if the position is valid
    */
   public boolean isValidPosition(final AbstractTetromino<?> tetromino) {
-    final int[][] shape = tetromino.getShape();
-    final int pieceX = tetromino.getX();
-    final int pieceY = tetromino.getY();
-
-    for (int row = 0; row < shape.length; row++) {
-      for (int col = 0; col < shape[row].length; col++) {
-        if (shape[row][col] != 0) {
-          final int boardX = pieceX + col;
-          final int boardY = pieceY + row;
-
-          // Check boundaries
-          if (boardX < 0 || boardX >= width || boardY >= height) {
-            return false;
-          }
-
-          // Check collision with placed pieces (not above board)
-          if (boardY >= 0 && cells[boardY][boardX] != null) {
-            return false;
-          }
+    return isValidPosition(
+        tetromino.getShapeTable(), tetromino.getRotation(), tetromino.getX(), tetromino.getY());
+  }
+
+  /**
+   * Checks if a packed piece state is a valid position.
+   *
+   * @param state The piece state, see {@link PieceState}
+   * @return true if the position is valid
+   */
+  public boolean isValidPosition(final long state) {
+    return isValidPosition(
+        PieceState.shapeTable(state),
+        PieceState.rotation(state),
+        PieceState.x(state),
+        PieceState.y(state));
+  }
+
+  /**
+   * Checks if a shape in the given rotation fits at the specified position. Only the rows inside
+   * the shape's bounding box are tested, each with a single mask operation.
+   *
+   * @param shape The precompiled shape table
+   * @param rotation The rotation state
+   * @param pieceX The column of the shape matrix left edge
+   * @param pieceY The row of the shape matrix top edge
+   * @return true if the position is valid
+   */
+  public boolean isValidPosition(
+      final ShapeTable shape, final int rotation, final int pieceX, final int pieceY) {
+    // Check boundaries
+    if (pieceX + shape.getMinX(rotation) < 0
+        || pieceX + shape.getMaxX(rotation) >= width
+        || pieceY + shape.getMaxY(rotation) >= height) {
+      return false;
+    }
+
+    // Check collision with placed pieces (not above board, nor above the stack)
+    final int firstRow = Math.max(shape.getMinY(rotation), height - stackLevels - pieceY);
+    final int firstWord = (pieceX + shape.getMinX(rotation)) >>> WORD_SHIFT;
+    final int lastWord = (pieceX + shape.getMaxX(rotation)) >>> WORD_SHIFT;
+    for (int row = firstRow; row <= shape.getMaxY(rotation); row++) {
+      final int base = levelSlots[height - 1 - pieceY - row] * words;
+      for (int word = firstWord; word <= lastWord; word++) {
+        final long pieceMask =
+            shift(shape.getRowMask(rotation, row), pieceX - (word << WORD_SHIFT));
+        if ((slotMasks[base + word] & pieceMask) != 0) {
+          return false;
         }
       }
     }
@@ -70,59 +225,348 @@ public final class Board {
    * @param tetromino The tetromino to place
    */
   public void placeTetromino(final AbstractTetromino<?> tetromino) {
-    final int[][] shape = tetromino.getShape();
-    final int pieceX = tetromino.getX();
-    final int pieceY = tetromino.getY();
-    final Color color = tetromino.getColor();
-
-    for (int row = 0; row < shape.length; row++) {
-      for (int col = 0; col < shape[row].length; col++) {
-        if (shape[row][col] != 0) {
-          final int boardY = pieceY + row;
-          final int boardX = pieceX + col;
-
-          if (boardY >= 0 && boardY < height && boardX >= 0 && boardX < width) {
-            cells[boardY][boardX] = color;
-          }
+    place(
+        tetromino.getShapeTable(),
+        tetromino.getRotation(),
+        tetromino.getX(),
+        tetromino.getY(),
+        tetromino.getColor());
+  }
+
+  /**
+   * Places a packed piece state on the board, in the color of its type.
+   *
+   * @param state The piece state, see {@link PieceState}
+   */
+  public void place(final long state) {
+    final PieceType type = PieceState.type(state);
+
+    place(
+        type.getShapeTable(),
+        PieceState.rotation(state),
+        PieceState.x(state),
+        PieceState.y(state),
+        type.getColor());
+  }
+
+  /**
+   * Places a shape on the board. Cells outside the board are silently dropped.
+   *
+   * @param shape The precompiled shape table
+   * @param rotation The rotation state
+   * @param pieceX The column of the shape matrix left edge
+   * @param pieceY The row of the shape matrix top edge
+   * @param color The color of the placed cells
+   */
+  public void place(
+      final ShapeTable shape,
+      final int rotation,
+      final int pieceX,
+      final int pieceY,
+      final Color color) {
+    final byte colorIndex = colorIndexOf(color);
+    version++;
+    if (journaling) {
+      record(zobristHash, stackLevels, TAG_STATE);
+    }
+    // Cells falling outside the board horizontally are silently dropped
+    final int firstWord = Math.max(pieceX + shape.getMinX(rotation), 0) >>> WORD_SHIFT;
+    final int lastWord = Math.min(pieceX + shape.getMaxX(rotation), width - 1) >> WORD_SHIFT;
+
+    for (int row = shape.getMinY(rotation); row <= shape.getMaxY(rotation); row++) {
+      final int boardY = pieceY + row;
+
+      if (boardY < 0 || boardY >= height) {
+        continue;
+      }
+
+      final int level = height - 1 - boardY;
+      ensureLevels(level + 1);
+      stackLevels = Math.max(stackLevels, level + 1);
+
+      final int slot = levelSlots[level];
+      invalidateRow(level);
+      for (int word = firstWord; word <= lastWord; word++) {
+        final int offset = word << WORD_SHIFT;
+        final long cellsMask =
+            shift(shape.getRowMask(rotation, row), pieceX - offset) & getFullWordMask(word);
+        final long oldMask = slotMasks[slot * words + word];
+        if (journaling && cellsMask != 0) {
+          record(oldMask, slot * words + word, TAG_WORD);
         }
+        slotMasks[slot * words + word] = oldMask | cellsMask;
+        zobristHash ^=
+            zobristKey(boardY, word, oldMask) ^ zobristKey(boardY, word, oldMask | cellsMask);
+        paint(slot, offset, cellsMask, colorIndex);
+        raiseSkyline(offset, cellsMask, level + 1);
       }
     }
   }
 
   /**
-   * Clears completed lines and returns the number of lines cleared.
+   * Computes the row where a shape would land if dropped straight down from the given position.
+   * When the shape is above the stack in every column it covers, the answer comes from the skyline
+   * and the shape's bottom profile in O(shape width); otherwise (e.g. the piece is tucked under an
+   * overhang) it falls back to stepping the shape down.
+   *
+   * @param shape The precompiled shape table
+   * @param rotation The rotation state
+   * @param pieceX The column of the shape matrix left edge
+   * @param pieceY The current row of the shape matrix top edge, assumed to be a valid position
+   * @return The lowest valid row for the shape matrix top edge
+   */
+  public int getLandingY(
+      final ShapeTable shape, final int rotation, final int pieceX, final int pieceY) {
+    int landingY = Integer.MAX_VALUE;
+
+    for (int col = shape.getMinX(rotation); col <= shape.getMaxX(rotation); col++) {
+      final int bottom = shape.getColumnBottom(rotation, col);
+      if (bottom < 0) {
+        continue;
+      }
+
+      final int stackTop = height - columnHeights[pieceX + col];
+      if (pieceY + bottom >= stackTop) {
+        return stepDown(shape, rotation, pieceX, pieceY);
+      }
+      landingY = Math.min(landingY, stackTop - 1 - bottom);
+    }
+    return landingY;
+  }
+
+  /**
+   * Computes the row where a tetromino would land if dropped straight down.
+   *
+   * @param tetromino The tetromino to drop
+   * @return The lowest valid row for the tetromino
+   * @see #getLandingY(ShapeTable, int, int, int)
+   */
+  public int getLandingY(final AbstractTetromino<?> tetromino) {
+    return getLandingY(
+        tetromino.getShapeTable(), tetromino.getRotation(), tetromino.getX(), tetromino.getY());
+  }
+
+  /**
+   * Computes the row where a packed piece state would land if dropped straight down.
+   *
+   * @param state The piece state, see {@link PieceState}
+   * @return The lowest valid row for the piece
+   * @see #getLandingY(ShapeTable, int, int, int)
+   */
+  public int getLandingY(final long state) {
+    return getLandingY(
+        PieceState.shapeTable(state),
+        PieceState.rotation(state),
+        PieceState.x(state),
+        PieceState.y(state));
+  }
+
+  /**
+   * Gets the height of the stack in a column, i.e. the distance from the floor to the top of the
+   * highest occupied cell.
+   *
+   * @param col The column index
+   * @return The column height in cells, 0 for an empty column
+   */
+  public int getColumnHeight(final int col) {
+    return columnHeights[col];
+  }
+
+  /**
+   * Clears completed lines and shifts the rows above them down. Only the stack is scanned, so the
+   * cost is O(stack height) slot moves plus O(k) work for k cleared lines, whatever the board
+   * height, without allocating or copying row data. The indices of the cleared rows can be read
+   * afterwards through {@link #getClearedRow(int)}. While a mark is held, only the levels of the
+   * cleared rows and the previous skyline are journaled: cleared rows were full, so their contents
+   * need no copy.
    *
-   * @return The list of row indices that were cleared
+   * @return The number of lines cleared
    */
-  public List<Integer> clearCompletedLines() {
-    final List<Integer> clearedLines = new ArrayList<>();
-    int destRow = height - 1;
+  public int clearCompletedLines() {
+    int cleared = 0;
+    int destLevel = 0;
 
-    for (int sourceRow = height - 1; sourceRow >= 0; sourceRow--) {
-      if (isLineFull(sourceRow)) {
-        clearedLines.add(sourceRow);
+    for (int level = 0; level < stackLevels; level++) {
+      final int slot = levelSlots[level];
+      if (isFull(slot)) {
+        clearedRows[cleared] = height - 1 - level;
+        freedSlots[cleared] = slot;
+        cleared++;
       } else {
-        if (destRow != sourceRow) {
-          cells[destRow] = cells[sourceRow].clone();
+        levelSlots[destLevel] = slot;
+        destLevel++;
+      }
+    }
+    if (cleared > 0) {
+      version++;
+      moveLevelRows(destLevel, cleared);
+    }
+    // Recycle the cleared slots as the empty rows above the stack
+    for (int i = 0; i < cleared; i++) {
+      Arrays.fill(slotMasks, freedSlots[i] * words, (freedSlots[i] + 1) * words, 0L);
+      levelSlots[destLevel + i] = freedSlots[i];
+    }
+    if (journaling && cleared > 0) {
+      record(zobristHash, stackLevels, TAG_STATE);
+    }
+    stackLevels = destLevel;
+    clearedCount = cleared;
+    if (cleared > 0) {
+      lowerSkyline(cleared);
+      rehash();
+      if (journaling) {
+        for (int i = 0; i < cleared; i++) {
+          record(height - 1 - clearedRows[i], 0, TAG_CLEARED_LEVEL);
         }
-        destRow--;
+        record(cleared, 0, TAG_CLEAR);
       }
     }
-    // Clear remaining top rows
-    while (destRow >= 0) {
-      Arrays.fill(cells[destRow], null);
-      destRow--;
+    return cleared;
+  }
+
+  /**
+   * Gets a row cleared by the last call to {@link #clearCompletedLines()}. Rows are reported from
+   * the bottom of the board upwards, using their indices before the clear.
+   *
+   * @param index The index of the cleared line, from 0 to the last returned count exclusive
+   * @return The row index that was cleared
+   * @throws IndexOutOfBoundsException if the index is not below the last cleared count
+   */
+  public int getClearedRow(final int index) {
+    if (index < 0 || index >= clearedCount) {
+      throw new IndexOutOfBoundsException(index);
     }
-    return clearedLines;
+    return clearedRows[index];
   }
 
-  /** Clears the entire board. */
+  /** Clears the entire board. Any held mark is dropped, as by {@link #commit()}. */
   public void clear() {
-    for (int row = 0; row < height; row++) {
-      for (int col = 0; col < width; col++) {
-        cells[row][col] = null;
+    commit();
+    version++;
+    dropLevelRows();
+    for (int level = 0; level < stackLevels; level++) {
+      Arrays.fill(slotMasks, levelSlots[level] * words, (levelSlots[level] + 1) * words, 0L);
+    }
+    Arrays.fill(columnHeights, 0);
+    stackLevels = 0;
+    clearedCount = 0;
+    zobristHash = 0;
+  }
+
+  /**
+   * Marks the current state, so that later placements and line clears can be reverted with {@link
+   * #rollback(int)}. Marks nest: rolling back to a mark also discards the marks taken after it.
+   * Changes are journaled from the first mark until {@link #commit()}.
+   *
+   * @return The mark, to be passed to {@link #rollback(int)}
+   */
+  public int mark() {
+    if (!journaling) {
+      journaling = true;
+      journalSize = 0;
+    }
+    return journalSize;
+  }
+
+  /**
+   * Reverts every placement and line clear made since a mark, in time proportional to the cells
+   * they changed. The mark stays valid, so the same state can be restored again after further
+   * changes. The palette is not reverted, and no cleared rows are reported afterwards.
+   *
+   * @param mark A mark returned by {@link #mark()} since the last {@link #commit()}
+   * @throws IllegalArgumentException if no mark is held or the mark lies past the journal end
+   */
+  public void rollback(final int mark) {
+    if (!journaling || mark < 0 || mark > journalSize) {
+      throw new IllegalArgumentException("Unknown board mark: " + mark);
+    }
+    if (journalSize > mark) {
+      version++;
+      dropLevelRows();
+    }
+    while (journalSize > mark) {
+      final long header = journal[--journalSize];
+      final long value = journal[--journalSize];
+      final int arg = (int) (header >>> TAG_BITS);
+
+      switch ((int) header & TAG_MASK) {
+        case TAG_STATE -> {
+          zobristHash = value;
+          stackLevels = arg;
+        }
+        case TAG_WORD -> slotMasks[arg] = value;
+        case TAG_COLOR -> slotColors[arg] = (byte) value;
+        case TAG_HEIGHT -> columnHeights[arg] = (int) value;
+        case TAG_CLEAR -> restoreClearedRows((int) value);
+        default -> throw new IllegalStateException("Corrupted board journal");
       }
     }
+    clearedCount = 0;
+  }
+
+  /**
+   * Keeps every change made since the first mark, drops all marks and stops journaling. Until the
+   * next {@link #mark()}, placements and line clears cost nothing extra.
+   */
+  public void commit() {
+    journaling = false;
+    journalSize = 0;
+  }
+
+  /**
+   * Takes an immutable snapshot of the board, safe to read from any thread. Taking a snapshot of an
+   * unchanged board returns the previous one; otherwise only the rows changed since are copied,
+   * and the others are shared with the previous snapshots.
+   *
+   * <p>Snapshots must be taken by the thread that changes the board, which may then hand them to
+   * readers.
+   *
+   * @return The snapshot of the current version
+   */
+  public BoardSnapshot snapshot() {
+    if (snapshot != null && snapshot.getVersion() == version) {
+      return snapshot;
+    }
+    if (levelRows == null) {
+      levelRows = new BoardSnapshot.Row[levelSlots.length];
+      dirtyLevels = new int[levelSlots.length];
+    }
+    for (int i = 0; i < dirtyCount; i++) {
+      if (dirtyLevels[i] < stackLevels) {
+        buildRow(dirtyLevels[i]);
+      }
+    }
+    for (int level = builtLevels; level < stackLevels; level++) {
+      if (levelRows[level] == null) {
+        buildRow(level);
+      }
+    }
+    dirtyCount = 0;
+    builtLevels = stackLevels;
+    levelRowsShared = true;
+    snapshot = new BoardSnapshot(version, width, height, stackLevels, levelRows, palette);
+    return snapshot;
+  }
+
+  /**
+   * Gets the board version, a counter increased by every change of the cells. Readers can compare
+   * versions to find out whether the board changed, e.g. to redraw it only when it does.
+   *
+   * @return The current version
+   */
+  public long getVersion() {
+    return version;
+  }
+
+  /**
+   * Gets the Zobrist hash of the board occupancy. Boards with the same occupied cells have the same
+   * hash, whatever the colors or the order in which pieces were placed; the empty board hashes to
+   * 0.
+   *
+   * @return The 64-bit hash
+   */
+  public long getZobristHash() {
+    return zobristHash;
   }
 
   /**
@@ -133,12 +577,88 @@ public final class Board {
    * @return The color at the cell, or null if empty
    */
   public Color getCellColor(final int row, final int col) {
-    if (row >= 0 && row < height && col >= 0 && col < width) {
-      return cells[row][col];
+    if (isOccupied(row, col)) {
+      return palette[slotColors[levelSlots[height - 1 - row] * width + col] & BYTE_MASK];
     }
     return null;
   }
 
+  /**
+   * Checks whether a cell is occupied.
+   *
+   * @param row The row index
+   * @param col The column index
+   * @return true if the cell is inside the board and occupied
+   */
+  public boolean isOccupied(final int row, final int col) {
+    return col >= 0 && col < width && ((getRowWord(row, col >>> WORD_SHIFT) >>> col) & 1L) != 0;
+  }
+
+  /**
+   * Gets the occupancy mask of the first 64 columns of a row. Bit {@code c} is set when column
+   * {@code c} is occupied; on boards up to 64 columns wide this is the whole row.
+   *
+   * @param row The row index
+   * @return The row mask, or 0 for rows outside the board
+   */
+  public long getRowMask(final int row) {
+    return getRowWord(row, 0);
+  }
+
+  /**
+   * Gets one word of the occupancy mask of a row. Bit {@code c} of word {@code w} is set when
+   * column {@code 64 * w + c} is occupied. Rows above the stack are answered without any storage.
+   *
+   * @param row The row index
+   * @param word The word index, from 0 to {@link #getWordCount()} exclusive
+   * @return The row word, or 0 for rows outside the board
+   */
+  public long getRowWord(final int row, final int word) {
+    final int level = height - 1 - row;
+
+    return level >= 0 && level < stackLevels ? slotMasks[levelSlots[level] * words + word] : 0L;
+  }
+
+  /**
+   * Gets the mask of a completely filled row in the first word, i.e. of a full row on boards up to
+   * 64 columns wide.
+   *
+   * @return The full row mask
+   */
+  public long getFullRowMask() {
+    return getFullWordMask(0);
+  }
+
+  /**
+   * Gets the mask of a completely filled row in one word: every bit but in the last word, which
+   * only spans the remaining columns.
+   *
+   * @param word The word index, from 0 to {@link #getWordCount()} exclusive
+   * @return The full word mask
+   */
+  public long getFullWordMask(final int word) {
+    return word == words - 1 ? lastWordMask : -1L;
+  }
+
+  /**
+   * Gets the number of 64-bit words per row.
+   *
+   * @return The word count, 1 for boards up to 64 columns wide
+   */
+  public int getWordCount() {
+    return words;
+  }
+
+  /**
+   * Gets the height of the stored stack: every row above it is empty. Scans over the board may
+   * start from row {@code getHeight() - getStackHeight()}.
+   *
+   * @return The number of rows from the floor up to the highest row that holds storage
+   */
+  public int getStackHeight() {
+    return stackLevels;
+  }
+
   /**
    * Gets the board width.
    *
@@ -157,18 +677,242 @@ public final class Board {
     return height;
   }
 
-  /**
-   * Checks if a line is full.
-   *
-   * @param row The row index to check
-   * @return true if the line is complete, false otherwise
+  private void raiseSkyline(final int offset, final long cellsMask, final int rowHeight) {
+    long remaining = cellsMask;
+    while (remaining != 0) {
+      final int col = offset + Long.numberOfTrailingZeros(remaining);
+      if (journaling && columnHeights[col] < rowHeight) {
+        record(columnHeights[col], col, TAG_HEIGHT);
+      }
+      columnHeights[col] = Math.max(columnHeights[col], rowHeight);
+      remaining &= remaining - 1;
+    }
+  }
+
+  /*
+   * Every cleared row was full, so it lies at or below the top of every column: each column drops
+   * by the number of cleared lines. If the old top cell was itself cleared, the column may now be
+   * topped by empty cells, which are skipped down to the next occupied one.
    */
-  private boolean isLineFull(final int row) {
+  private void lowerSkyline(final int cleared) {
     for (int col = 0; col < width; col++) {
-      if (cells[row][col] == null) {
+      int columnHeight = columnHeights[col] - cleared;
+      while (columnHeight > 0 && !isOccupied(height - columnHeight, col)) {
+        columnHeight--;
+      }
+      if (journaling) {
+        record(columnHeights[col], col, TAG_HEIGHT);
+      }
+      columnHeights[col] = columnHeight;
+    }
+  }
+
+  /*
+   * Undoes a line clear. The cleared slots sit right above the surviving rows, in the order of
+   * their old levels, whose records are popped here top-down: merging them back with the survivors
+   * from the top restores the level table, and refilling their masks restores the full rows, whose
+   * colors were never touched.
+   */
+  private void restoreClearedRows(final int cleared) {
+    final int survivors = stackLevels;
+
+    System.arraycopy(levelSlots, survivors, freedSlots, 0, cleared);
+    int survivor = survivors - 1;
+    int freed = cleared - 1;
+    for (int level = survivors + cleared - 1; freed >= 0; level--) {
+      final int clearedLevel = (int) journal[journalSize - 2];
+      if (level == clearedLevel) {
+        final int slot = freedSlots[freed--];
+        for (int word = 0; word < words; word++) {
+          slotMasks[slot * words + word] = getFullWordMask(word);
+        }
+        levelSlots[level] = slot;
+        journalSize -= 2;
+      } else {
+        levelSlots[level] = levelSlots[survivor--];
+      }
+    }
+    stackLevels = survivors + cleared;
+  }
+
+  /*
+   * Snapshot rows are tracked per level. The invariant is that every level below builtLevels holds
+   * an up to date row, or is listed as dirty; the levels above are checked one by one on the next
+   * snapshot. The level table is shared with the last snapshot and copied before the first write.
+   */
+  private void invalidateRow(final int level) {
+    if (levelRows == null || levelRows[level] == null) {
+      return;
+    }
+    ownLevelRows();
+    levelRows[level] = null;
+    if (level < builtLevels) {
+      dirtyLevels[dirtyCount++] = level;
+    }
+  }
+
+  /*
+   * Rows keep their contents through a line clear, so their snapshots move down with them. The
+   * levels are compacted as the slots were, skipping the cleared ones, and the dirty levels are
+   * rescanned on the next snapshot.
+   */
+  private void moveLevelRows(final int survivors, final int cleared) {
+    if (levelRows == null) {
+      return;
+    }
+    ownLevelRows();
+
+    int destLevel = 0;
+    int next = 0;
+    for (int level = 0; level < stackLevels; level++) {
+      if (next < cleared && level == height - 1 - clearedRows[next]) {
+        next++;
+      } else {
+        levelRows[destLevel++] = levelRows[level];
+      }
+    }
+    Arrays.fill(levelRows, survivors, stackLevels, null);
+    dirtyCount = 0;
+    builtLevels = 0;
+  }
+
+  private void dropLevelRows() {
+    if (levelRows != null) {
+      levelRows = new BoardSnapshot.Row[levelRows.length];
+      levelRowsShared = false;
+      dirtyCount = 0;
+      builtLevels = 0;
+    }
+  }
+
+  private void ownLevelRows() {
+    if (levelRowsShared) {
+      levelRows = levelRows.clone();
+      levelRowsShared = false;
+    }
+  }
+
+  private void buildRow(final int level) {
+    final int slot = levelSlots[level];
+
+    ownLevelRows();
+    levelRows[level] =
+        new BoardSnapshot.Row(
+            Arrays.copyOfRange(slotMasks, slot * words, (slot + 1) * words),
+            Arrays.copyOfRange(slotColors, slot * width, (slot + 1) * width));
+  }
+
+  private void record(final long value, final int arg, final int tag) {
+    if (journalSize + 2 > journal.length) {
+      journal = Arrays.copyOf(journal, Math.max(INITIAL_JOURNAL, journal.length * 2));
+    }
+    journal[journalSize++] = value;
+    journal[journalSize++] = (long) arg << TAG_BITS | tag;
+  }
+
+  private void rehash() {
+    long hash = 0;
+    for (int level = 0; level < stackLevels; level++) {
+      final int base = levelSlots[level] * words;
+      for (int word = 0; word < words; word++) {
+        hash ^= zobristKey(height - 1 - level, word, slotMasks[base + word]);
+      }
+    }
+    zobristHash = hash;
+  }
+
+  /* Empty words contribute nothing, so the hash only depends on the occupied cells. */
+  private long zobristKey(final int row, final int word, final long mask) {
+    if (mask == 0) {
+      return 0L;
+    }
+
+    // SplitMix64 finalizer over the row word salted with its position
+    long key = mask + ((long) row * words + word + 1) * GOLDEN_GAMMA;
+    key = (key ^ (key >>> MIX_SHIFT_1)) * MIX_MULTIPLIER_1;
+    key = (key ^ (key >>> MIX_SHIFT_2)) * MIX_MULTIPLIER_2;
+    return key ^ (key >>> MIX_SHIFT_3);
+  }
+
+  private boolean isFull(final int slot) {
+    final int base = slot * words;
+    for (int word = 0; word < words; word++) {
+      if (slotMasks[base + word] != getFullWordMask(word)) {
         return false;
       }
     }
     return true;
   }
+
+  /*
+   * Grows the slot pool so that the given number of levels have storage. New slots are appended
+   * zeroed after the current ones, doubling the capacity up to the board height.
+   */
+  private void ensureLevels(final int levels) {
+    final int capacity = levelSlots.length;
+
+    if (levels <= capacity) {
+      return;
+    }
+
+    final int grown = (int) Math.min(height, Math.max(levels, 2L * capacity));
+
+    levelSlots = Arrays.copyOf(levelSlots, grown);
+    for (int level = capacity; level < grown; level++) {
+      levelSlots[level] = level;
+    }
+    slotMasks = Arrays.copyOf(slotMasks, grown * words);
+    slotColors = Arrays.copyOf(slotColors, grown * width);
+    clearedRows = new int[grown];
+    freedSlots = new int[grown];
+    if (levelRows != null) {
+      levelRows = Arrays.copyOf(levelRows, grown);
+      levelRowsShared = false;
+      dirtyLevels = Arrays.copyOf(dirtyLevels, grown);
+    }
+  }
+
+  private int stepDown(
+      final ShapeTable shape, final int rotation, final int pieceX, final int pieceY) {
+    int landingY = pieceY;
+    while (isValidPosition(shape, rotation, pieceX, landingY + 1)) {
+      landingY++;
+    }
+    return landingY;
+  }
+
+  private void paint(
+      final int slot, final int offset, final long cellsMask, final byte colorIndex) {
+    final int rowOffset = slot * width + offset;
+    long remaining = cellsMask;
+    while (remaining != 0) {
+      final int index = rowOffset + Long.numberOfTrailingZeros(remaining);
+      if (journaling) {
+        record(slotColors[index], index, TAG_COLOR);
+      }
+      slotColors[index] = colorIndex;
+      remaining &= remaining - 1;
+    }
+  }
+
+  private byte colorIndexOf(final Color color) {
+    for (int i = 1; i < paletteSize; i++) {
+      if (palette[i].equals(color)) {
+        return (byte) i;
+      }
+    }
+    if (paletteSize > MAX_PALETTE_SIZE) {
+      throw new IllegalStateException("Board color palette is full");
+    }
+    palette[paletteSize] = color;
+    return (byte) paletteSize++;
+  }
+
+  private static long shift(final int mask, final int x) {
+    if (x >= Long.SIZE || x <= -Long.SIZE) {
+      return 0L;
+    }
+    final long wide = mask & UNSIGNED_INT_MASK;
+    return x >= 0 ? wide << x : wide >>> -x;
+  }
 }
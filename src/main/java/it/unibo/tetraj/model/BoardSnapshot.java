@@ -0,0 +1,134 @@
+package it.unibo.tetraj.model;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.awt.Color;
+
+/**
+ * Immutable view of a {@link Board} at a given version, taken with {@link Board#snapshot()}.
+ *
+ * <p>Snapshots share structure: a row is copied once, when it changes, and every snapshot taken
+ * while it stays unchanged refers to the same copy. The level table of a snapshot is frozen when
+ * it is taken and the board copies it before its next change, so any number of threads can read a
+ * snapshot without locking while the game thread keeps playing, and never see a half-applied
+ * placement or line clear.
+ */
+public final class BoardSnapshot {
+
+  private static final int WORD_SHIFT = 6;
+  private static final int BYTE_MASK = 0xFF;
+  private final long version;
+  private final int width;
+  private final int height;
+  private final int stackLevels;
+  private final Row[] levels;
+  private final Color[] palette;
+
+  @SuppressFBWarnings(
+      value = "EI_EXPOSE_REP2",
+      justification =
+          "The board hands over a frozen level table and an append-only palette, never written"
+              + " again below the indices this snapshot reads")
+  BoardSnapshot(
+      final long version,
+      final int width,
+      final int height,
+      final int stackLevels,
+      final Row[] levels,
+      final Color[] palette) {
+    this.version = version;
+    this.width = width;
+    this.height = height;
+    this.stackLevels = stackLevels;
+    this.levels = levels;
+    this.palette = palette;
+  }
+
+  /**
+   * Gets the version of the board when the snapshot was taken. Versions grow with every change of
+   * the board, so equal versions mean equal contents.
+   *
+   * @return The board version
+   */
+  public long getVersion() {
+    return version;
+  }
+
+  /**
+   * Gets the color at a specific cell.
+   *
+   * @param row The row index
+   * @param col The column index
+   * @return The color at the cell, or null if empty
+   */
+  public Color getCellColor(final int row, final int col) {
+    if (isOccupied(row, col)) {
+      return palette[levels[height - 1 - row].colors[col] & BYTE_MASK];
+    }
+    return null;
+  }
+
+  /**
+   * Checks whether a cell is occupied.
+   *
+   * @param row The row index
+   * @param col The column index
+   * @return true if the cell is inside the board and occupied
+   */
+  public boolean isOccupied(final int row, final int col) {
+    return col >= 0 && col < width && ((getRowWord(row, col >>> WORD_SHIFT) >>> col) & 1L) != 0;
+  }
+
+  /**
+   * Gets one word of the occupancy mask of a row, as {@link Board#getRowWord(int, int)}.
+   *
+   * @param row The row index
+   * @param word The word index
+   * @return The row word, or 0 for rows outside the board
+   */
+  public long getRowWord(final int row, final int word) {
+    final int level = height - 1 - row;
+
+    return level >= 0 && level < stackLevels ? levels[level].words[word] : 0L;
+  }
+
+  /**
+   * Gets the height of the stored stack, as {@link Board#getStackHeight()}.
+   *
+   * @return The number of rows from the floor up to the highest row that holds storage
+   */
+  public int getStackHeight() {
+    return stackLevels;
+  }
+
+  /**
+   * Gets the board width.
+   *
+   * @return The width in cells
+   */
+  public int getWidth() {
+    return width;
+  }
+
+  /**
+   * Gets the board height.
+   *
+   * @return The height in cells
+   */
+  public int getHeight() {
+    return height;
+  }
+
+  /** Immutable copy of a row: its occupancy words and the palette index of each cell. */
+  static final class Row {
+    private final long[] words;
+    private final byte[] colors;
+
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP2",
+        justification = "Rows are built by the board from fresh copies it never keeps")
+    Row(final long[] words, final byte[] colors) {
+      this.words = words;
+      this.colors = colors;
+    }
+  }
+}
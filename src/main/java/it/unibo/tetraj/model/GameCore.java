@@ -0,0 +1,690 @@
+package it.unibo.tetraj.model;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import it.unibo.tetraj.model.piece.AbstractTetromino;
+import it.unibo.tetraj.model.piece.PieceState;
+import it.unibo.tetraj.model.piece.PieceType;
+import it.unibo.tetraj.model.piece.TetrominoFactory;
+import it.unibo.tetraj.model.rotation.KickTable;
+import it.unibo.tetraj.model.rotation.RotationSystem;
+import it.unibo.tetraj.model.rotation.SrsRotationSystem;
+import it.unibo.tetraj.model.speed.GravityTable;
+import it.unibo.tetraj.model.speed.SpeedStrategy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Headless game simulation: board, piece queue, hold, scoring, gravity and soft drop. The core has
+ * no dependency on audio or Swing; every side effect is reported to a {@link GameEventListener}, so
+ * the same rules can drive the interactive game or a batch of simulated games.
+ *
+ * <p>Given the same factory sequence and the same calls, the core always evolves the same way.
+ *
+ * <p>The current and held pieces are kept as packed {@link PieceState} values, so moving, rotating
+ * and dropping never allocate; object views are only built on request.
+ *
+ * <p>Game states can be marked and rolled back, for searches and for taking moves back in
+ * practice. A mark saves the scalar state of the game and a mark of the {@link Board} journal;
+ * pieces spawned afterwards are logged so that a rollback returns them to the queue. Reverting
+ * therefore costs as much as the moves played since the mark, whatever the board size.
+ */
+public final class GameCore {
+
+  private static final int[] LINE_POINTS = {0, 100, 300, 500, 800};
+  private static final int TETRIS_LINES = 4;
+  private static final int LINES_PER_LEVEL = 10;
+  private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+  private static final long SOFT_DROP_ACTIVATION_DELAY_NANOS = 133_000_000L;
+  private static final long NO_PIECE = -1L;
+  private static final int MAX_LOCK_RESETS = 15;
+  private static final int FRAME_SIZE = 9;
+  private static final int FRAME_BOARD_MARK = 0;
+  private static final int FRAME_SPAWNS = 1;
+  private static final int FRAME_CURRENT = 2;
+  private static final int FRAME_HELD = 3;
+  private static final int FRAME_CAN_HOLD = 4;
+  private static final int FRAME_SCORE = 5;
+  private static final int FRAME_LEVEL = 6;
+  private static final int FRAME_LINES = 7;
+  private static final int FRAME_GAME_OVER = 8;
+  private static final int INITIAL_MARKS = 4;
+  private static final int INITIAL_SPAWNS = 16;
+  private final Board board;
+  private final TetrominoFactory tetrominoFactory;
+  private final GravityTable gravity;
+  private final RotationSystem rotationSystem;
+  private final GameEventListener listener;
+  private long currentPiece;
+  private long heldPiece = NO_PIECE;
+  private boolean canHold;
+  private int score;
+  private int level;
+  private int linesCleared;
+  private long gravityNanos;
+  private boolean paused;
+  private boolean gameOver;
+  private boolean softDropping;
+  private boolean softDropRequested;
+  private long softDropHoldNanos;
+  private long lockDelayNanos;
+  private long lockNanos;
+  private int lockResets;
+  private int lowestRow;
+  private long[] frames = new long[INITIAL_MARKS * FRAME_SIZE];
+  private int frameCount;
+  private int[] spawnLog = new int[INITIAL_SPAWNS];
+  private int spawnCount;
+
+  /**
+   * Creates a new simulation core with the Super Rotation System and starts a game.
+   *
+   * @param board The board to play on
+   * @param tetrominoFactory The source of new pieces
+   * @param speedStrategy The gravity curve
+   * @param listener The receiver of game events, {@link GameEventListener#NONE} to ignore them
+   */
+  public GameCore(
+      final Board board,
+      final TetrominoFactory tetrominoFactory,
+      final SpeedStrategy speedStrategy,
+      final GameEventListener listener) {
+    this(board, tetrominoFactory, speedStrategy, new SrsRotationSystem(), listener);
+  }
+
+  /**
+   * Creates a new simulation core and starts a game.
+   *
+   * @param board The board to play on
+   * @param tetrominoFactory The source of new pieces
+   * @param speedStrategy The gravity curve
+   * @param rotationSystem The rotation and kick rules
+   * @param listener The receiver of game events, {@link GameEventListener#NONE} to ignore them
+   */
+  @SuppressFBWarnings(
+      value = "EI_EXPOSE_REP2",
+      justification = "The core owns the board it is given; callers hand it over on construction")
+  public GameCore(
+      final Board board,
+      final TetrominoFactory tetrominoFactory,
+      final SpeedStrategy speedStrategy,
+      final RotationSystem rotationSystem,
+      final GameEventListener listener) {
+    this.board = Objects.requireNonNull(board);
+    this.tetrominoFactory = Objects.requireNonNull(tetrominoFactory);
+    this.gravity = new GravityTable(speedStrategy);
+    this.rotationSystem = Objects.requireNonNull(rotationSystem);
+    this.listener = Objects.requireNonNull(listener);
+    startNewGame();
+  }
+
+  /** Starts a new game, dropping every mark. */
+  public void startNewGame() {
+    commit();
+    board.clear();
+    score = 0;
+    level = 1;
+    linesCleared = 0;
+    gravityNanos = 0;
+    canHold = true;
+    heldPiece = NO_PIECE;
+    gameOver = false;
+    softDropping = false;
+    softDropRequested = false;
+    softDropHoldNanos = 0;
+    spawnNextPiece();
+  }
+
+  /**
+   * Advances gravity and soft drop timers.
+   *
+   * @param deltaTime Time elapsed since last update in seconds
+   */
+  public void update(final double deltaTime) {
+    advance(Math.round(deltaTime * NANOS_PER_SECOND));
+  }
+
+  /**
+   * Advances gravity and soft drop timers by an exact amount of time. Leftover time is carried to
+   * the next call and several rows may fall at once, so the game evolves the same way whether the
+   * time comes in one call or in many.
+   *
+   * @param deltaNanos Time elapsed since last update in nanoseconds
+   */
+  public void advance(final long deltaNanos) {
+    if (gameOver || paused) {
+      return;
+    }
+
+    // Handle soft drop activation delay
+    if (softDropRequested && !softDropping) {
+      softDropHoldNanos += deltaNanos;
+      if (softDropHoldNanos >= SOFT_DROP_ACTIVATION_DELAY_NANOS) {
+        softDropping = true;
+      }
+    }
+
+    if (lockDelayNanos > 0 && isResting()) {
+      // Gravity has nothing left to do: the time counts towards the lock instead
+      gravityNanos = 0;
+      lockNanos += deltaNanos;
+      if (lockNanos >= lockDelayNanos) {
+        placePiece();
+      }
+      return;
+    }
+
+    final long period =
+        softDropping ? gravity.getSoftDropNanos(level - 1) : gravity.getFallNanos(level - 1);
+
+    gravityNanos += deltaNanos;
+    if (period == GravityTable.INSTANT) {
+      gravityNanos = 0;
+      fall(Integer.MAX_VALUE);
+    } else if (gravityNanos >= period) {
+      final long rows = gravityNanos / period;
+      gravityNanos %= period;
+      fall((int) Math.min(rows, Integer.MAX_VALUE));
+    }
+  }
+
+  /**
+   * Sets the lock delay: how long a piece resting on the stack waits before locking. Each
+   * successful move or rotation restarts the wait, up to 15 times per piece; reaching a new lowest
+   * row gives the resets back. With no delay, the default, a piece locks as soon as gravity pulls
+   * it against the stack.
+   *
+   * @param delayNanos The lock delay in nanoseconds, 0 to lock at once
+   * @throws IllegalArgumentException if the delay is negative
+   */
+  public void setLockDelay(final long delayNanos) {
+    if (delayNanos < 0) {
+      throw new IllegalArgumentException("Lock delay cannot be negative: " + delayNanos);
+    }
+    lockDelayNanos = delayNanos;
+  }
+
+  /**
+   * Moves the current piece left.
+   *
+   * @return true if the piece moved
+   */
+  public boolean moveLeft() {
+    return tryShift(-1);
+  }
+
+  /**
+   * Moves the current piece right.
+   *
+   * @return true if the piece moved
+   */
+  public boolean moveRight() {
+    return tryShift(1);
+  }
+
+  /** Toggles the pause state of the game. */
+  public void togglePause() {
+    paused = !paused;
+    listener.onGameEvent(paused ? GameEvent.PAUSE : GameEvent.RESUME);
+  }
+
+  /**
+   * Moves the current piece down, locking it if it cannot move.
+   *
+   * @return true if the piece was placed
+   */
+  public boolean moveDown() {
+    if (!tryMove(0, 1)) {
+      placePiece();
+      return true;
+    }
+    trackLowestRow();
+    return false;
+  }
+
+  /**
+   * Requests soft drop mode. After a short delay, piece falls faster and scores 1 point per cell.
+   */
+  public void startSoftDrop() {
+    if (!softDropRequested) {
+      softDropHoldNanos = 0;
+      softDropping = false;
+      softDropRequested = true;
+    }
+  }
+
+  /** Stops soft drop mode. Returns to normal fall speed. */
+  public void stopSoftDrop() {
+    softDropRequested = false;
+    softDropping = false;
+    softDropHoldNanos = 0;
+  }
+
+  /**
+   * Checks if soft drop mode is active.
+   *
+   * @return true if soft dropping
+   */
+  public boolean isSoftDropping() {
+    return softDropping;
+  }
+
+  /** Hard drops the current piece. */
+  public void hardDrop() {
+    if (gameOver) {
+      return;
+    }
+
+    final int landingY = board.getLandingY(currentPiece);
+
+    score += (landingY - PieceState.y(currentPiece)) * 2;
+    currentPiece = PieceState.withPosition(currentPiece, PieceState.x(currentPiece), landingY);
+    placePiece();
+    listener.onGameEvent(GameEvent.HARD_DROP);
+  }
+
+  /**
+   * Rotates the current piece clockwise.
+   *
+   * @return true if the piece rotated
+   */
+  public boolean rotateClockwise() {
+    return tryRotate(1);
+  }
+
+  /**
+   * Rotates the current piece counterclockwise.
+   *
+   * @return true if the piece rotated
+   */
+  public boolean rotateCounterClockwise() {
+    return tryRotate(-1);
+  }
+
+  /** Holds the current piece. */
+  public void holdPiece() {
+    if (gameOver || !canHold) {
+      return;
+    }
+
+    canHold = false;
+    if (heldPiece == NO_PIECE) {
+      heldPiece = currentPiece;
+      spawnNextPiece();
+    } else {
+      final long swapped = heldPiece;
+      heldPiece = currentPiece;
+      spawn(swapped);
+    }
+  }
+
+  /**
+   * Checks whether the current piece may still be swapped with the held one. Holding is allowed
+   * once per piece.
+   *
+   * @return true if {@link #holdPiece()} would swap
+   */
+  public boolean isHoldAvailable() {
+    return canHold && !gameOver;
+  }
+
+  /**
+   * Marks the current game state, so that it can be restored with {@link #rollback(int)}: board,
+   * current, held and upcoming pieces, score, level, lines and whether the game is over. Marks nest
+   * like the board ones.
+   *
+   * @return The mark, to be passed to {@link #rollback(int)}
+   */
+  public int mark() {
+    if ((frameCount + 1) * FRAME_SIZE > frames.length) {
+      frames = Arrays.copyOf(frames, frames.length * 2);
+    }
+
+    final int base = frameCount * FRAME_SIZE;
+
+    frames[base + FRAME_BOARD_MARK] = board.mark();
+    frames[base + FRAME_SPAWNS] = spawnCount;
+    frames[base + FRAME_CURRENT] = currentPiece;
+    frames[base + FRAME_HELD] = heldPiece;
+    frames[base + FRAME_CAN_HOLD] = canHold ? 1 : 0;
+    frames[base + FRAME_SCORE] = score;
+    frames[base + FRAME_LEVEL] = level;
+    frames[base + FRAME_LINES] = linesCleared;
+    frames[base + FRAME_GAME_OVER] = gameOver ? 1 : 0;
+    return frameCount++;
+  }
+
+  /**
+   * Restores the game state saved by a mark, returning the pieces spawned since then to the front
+   * of the queue. The current piece goes back to where it was when marked; gravity, lock delay and
+   * soft drop start over as for a new piece, and the pause state is left alone. The mark stays
+   * valid, while the marks taken after it are dropped.
+   *
+   * @param mark A mark returned by {@link #mark()} since the last {@link #commit()}
+   * @throws IllegalArgumentException if the mark is not held
+   */
+  public void rollback(final int mark) {
+    if (mark < 0 || mark >= frameCount) {
+      throw new IllegalArgumentException("Unknown game mark: " + mark);
+    }
+
+    final int base = mark * FRAME_SIZE;
+
+    board.rollback((int) frames[base + FRAME_BOARD_MARK]);
+    while (spawnCount > frames[base + FRAME_SPAWNS]) {
+      tetrominoFactory.pushBack(PieceType.of(spawnLog[--spawnCount]));
+    }
+    currentPiece = frames[base + FRAME_CURRENT];
+    heldPiece = frames[base + FRAME_HELD];
+    canHold = frames[base + FRAME_CAN_HOLD] != 0;
+    score = (int) frames[base + FRAME_SCORE];
+    level = (int) frames[base + FRAME_LEVEL];
+    linesCleared = (int) frames[base + FRAME_LINES];
+    gameOver = frames[base + FRAME_GAME_OVER] != 0;
+    gravityNanos = 0;
+    stopSoftDrop();
+    lockNanos = 0;
+    lockResets = 0;
+    lowestRow = PieceState.y(currentPiece);
+    frameCount = mark + 1;
+  }
+
+  /** Keeps the current game state, drops every mark and stops journaling the board. */
+  public void commit() {
+    frameCount = 0;
+    spawnCount = 0;
+    board.commit();
+  }
+
+  /**
+   * Gets the game board.
+   *
+   * @return The game board
+   */
+  @SuppressFBWarnings(
+      value = "EI_EXPOSE_REP",
+      justification =
+          "Board needs to be exposed for rendering by View layer. View is trusted to only read board state")
+  public Board getBoard() {
+    return board;
+  }
+
+  /**
+   * Gets the current piece.
+   *
+   * @return A copy of the current piece or null
+   */
+  public AbstractTetromino<?> getCurrentPiece() {
+    return PieceState.toTetromino(currentPiece);
+  }
+
+  /**
+   * Gets the current piece without allocating.
+   *
+   * @return The packed state of the current piece
+   * @see PieceState
+   */
+  public long getCurrentPieceState() {
+    return currentPiece;
+  }
+
+  /**
+   * Gets the next piece.
+   *
+   * @return A copy of the next piece or null
+   */
+  public AbstractTetromino<?> getNextPiece() {
+    final AbstractTetromino<?> next = tetrominoFactory.peek(0);
+
+    centerPieceToTop(next);
+    return next;
+  }
+
+  /**
+   * Gets the upcoming pieces, as many as the factory previews.
+   *
+   * @return New instances of the upcoming pieces in spawn order, each centered at the top
+   */
+  public List<AbstractTetromino<?>> getPreview() {
+    final List<AbstractTetromino<?>> preview = new ArrayList<>(tetrominoFactory.getPreviewSize());
+
+    for (int i = 0; i < tetrominoFactory.getPreviewSize(); i++) {
+      final AbstractTetromino<?> piece = tetrominoFactory.peek(i);
+      centerPieceToTop(piece);
+      preview.add(piece);
+    }
+    return preview;
+  }
+
+  /**
+   * Gets the held piece.
+   *
+   * @return A copy of the held piece or null
+   */
+  public AbstractTetromino<?> getHeldPiece() {
+    return heldPiece == NO_PIECE ? null : PieceState.toTetromino(heldPiece);
+  }
+
+  /**
+   * Gets the held piece without allocating, e.g. to copy it into every rendered frame.
+   *
+   * @return The packed state of the held piece, or -1 if no piece is held
+   * @see PieceState
+   */
+  public long getHeldPieceState() {
+    return heldPiece;
+  }
+
+  /**
+   * Gets the type of an upcoming piece without allocating.
+   *
+   * @param index The position in the preview, 0 for the next piece
+   * @return The piece type
+   */
+  public PieceType getPreviewType(final int index) {
+    return tetrominoFactory.peekType(index);
+  }
+
+  /**
+   * Gets the number of upcoming pieces shown.
+   *
+   * @return The preview size
+   */
+  public int getPreviewSize() {
+    return tetrominoFactory.getPreviewSize();
+  }
+
+  /**
+   * Gets the row where the current piece would land.
+   *
+   * @return The landing row of the current piece
+   */
+  public int getGhostY() {
+    return board.getLandingY(currentPiece);
+  }
+
+  /**
+   * Gets the current score.
+   *
+   * @return The score
+   */
+  public int getScore() {
+    return score;
+  }
+
+  /**
+   * Gets the current level.
+   *
+   * @return The level
+   */
+  public int getLevel() {
+    return level;
+  }
+
+  /**
+   * Gets total lines cleared.
+   *
+   * @return The lines cleared
+   */
+  public int getLinesCleared() {
+    return linesCleared;
+  }
+
+  /**
+   * Checks if the game is over.
+   *
+   * @return true if game is over, false otherwise
+   */
+  public boolean isGameOver() {
+    return gameOver;
+  }
+
+  /**
+   * Checks if the game is currently paused.
+   *
+   * @return true if the game is paused, false otherwise
+   */
+  public boolean isPaused() {
+    return paused;
+  }
+
+  /* Drops the piece by up to the given rows; a row due once the piece rests locks it. */
+  private void fall(final int rows) {
+    final int distance = board.getLandingY(currentPiece) - PieceState.y(currentPiece);
+    final int fallen = Math.min(rows, distance);
+
+    currentPiece = PieceState.moved(currentPiece, 0, fallen);
+    if (softDropping) {
+      score += fallen;
+    }
+    trackLowestRow();
+    if (rows > distance && lockDelayNanos == 0) {
+      placePiece();
+    }
+  }
+
+  private boolean isResting() {
+    return !board.isValidPosition(PieceState.moved(currentPiece, 0, 1));
+  }
+
+  /* Move reset: a piece that moves or rotates gets its full lock delay back, a limited number of
+   * times unless it keeps going down. */
+  private void resetLockDelay() {
+    if (lockResets < MAX_LOCK_RESETS) {
+      lockNanos = 0;
+      lockResets++;
+    }
+  }
+
+  private void trackLowestRow() {
+    if (PieceState.y(currentPiece) > lowestRow) {
+      lowestRow = PieceState.y(currentPiece);
+      lockNanos = 0;
+      lockResets = 0;
+    }
+  }
+
+  private boolean tryShift(final int dx) {
+    if (tryMove(dx, 0)) {
+      resetLockDelay();
+      listener.onGameEvent(GameEvent.MOVE);
+      return true;
+    }
+    return false;
+  }
+
+  private boolean tryRotate(final int turns) {
+    if (gameOver) {
+      return false;
+    }
+
+    final long rotated = rotationSystem.rotate(board, currentPiece, turns);
+
+    if (rotated == KickTable.NO_ROTATION) {
+      return false;
+    }
+    currentPiece = rotated;
+    resetLockDelay();
+    listener.onGameEvent(GameEvent.ROTATE);
+    return true;
+  }
+
+  private boolean tryMove(final int dx, final int dy) {
+    if (gameOver) {
+      return false;
+    }
+
+    final long moved = PieceState.moved(currentPiece, dx, dy);
+
+    if (!board.isValidPosition(moved)) {
+      return false;
+    }
+    currentPiece = moved;
+    return true;
+  }
+
+  private void placePiece() {
+    board.place(currentPiece);
+    listener.onGameEvent(GameEvent.PIECE_LOCKED);
+
+    final int clearedLines = board.clearCompletedLines();
+
+    if (clearedLines > 0) {
+      updateScore(clearedLines);
+      listener.onGameEvent(clearedLines == TETRIS_LINES ? GameEvent.TETRIS : GameEvent.LINE_CLEAR);
+    }
+    spawnNextPiece();
+    canHold = true;
+    gravityNanos = 0;
+    // Reset soft drop state for new piece
+    softDropping = false;
+    softDropRequested = false;
+    softDropHoldNanos = 0;
+    if (!board.isValidPosition(currentPiece)) {
+      gameOver = true;
+      listener.onGameEvent(GameEvent.GAME_OVER);
+    }
+  }
+
+  private void updateScore(final int lines) {
+    linesCleared += lines;
+    score += LINE_POINTS[Math.min(lines, LINE_POINTS.length - 1)] * level;
+
+    final int newLevel = (linesCleared / LINES_PER_LEVEL) + 1;
+
+    if (newLevel > level) {
+      level = newLevel;
+      listener.onGameEvent(GameEvent.LEVEL_UP);
+    }
+  }
+
+  private void spawnNextPiece() {
+    final PieceType type = tetrominoFactory.nextType();
+
+    if (frameCount > 0) {
+      if (spawnCount == spawnLog.length) {
+        spawnLog = Arrays.copyOf(spawnLog, spawnCount * 2);
+      }
+      spawnLog[spawnCount++] = type.ordinal();
+    }
+    spawn(PieceState.of(type, 0, 0, 0));
+  }
+
+  private void spawn(final long piece) {
+    currentPiece = centerToTop(piece);
+    lockNanos = 0;
+    lockResets = 0;
+    lowestRow = PieceState.y(currentPiece);
+  }
+
+  private long centerToTop(final long state) {
+    final int width = PieceState.shapeTable(state).getMatrixWidth(PieceState.rotation(state));
+
+    return PieceState.withPosition(state, (board.getWidth() - width) / 2, 0);
+  }
+
+  private void centerPieceToTop(final AbstractTetromino<?> tetromino) {
+    tetromino.setPosition((board.getWidth() - tetromino.getWidth()) / 2, 0);
+  }
+}
@@ -0,0 +1,28 @@
+package it.unibo.tetraj.model;
+
+/**
+ * Side effects raised by the {@link GameCore} simulation. Events carry no payload: listeners that
+ * need details (score, cleared lines, level) query the core when they receive one.
+ */
+public enum GameEvent {
+  /** The current piece moved one cell sideways. */
+  MOVE,
+  /** The current piece rotated, possibly after a wall kick. */
+  ROTATE,
+  /** The current piece was hard dropped and locked. */
+  HARD_DROP,
+  /** The current piece locked into the board. */
+  PIECE_LOCKED,
+  /** One to three lines were cleared. */
+  LINE_CLEAR,
+  /** Four lines were cleared at once. */
+  TETRIS,
+  /** The level increased. */
+  LEVEL_UP,
+  /** The game was paused. */
+  PAUSE,
+  /** The game was resumed. */
+  RESUME,
+  /** The next piece could not spawn. */
+  GAME_OVER
+}
@@ -0,0 +1,16 @@
+package it.unibo.tetraj.model;
+
+/** Receives the side effects raised by a {@link GameCore}. */
+@FunctionalInterface
+public interface GameEventListener {
+
+  /** A listener that ignores every event, for headless simulations. */
+  GameEventListener NONE = event -> {};
+
+  /**
+   * Called synchronously by the core when an event occurs.
+   *
+   * @param event The event
+   */
+  void onGameEvent(GameEvent event);
+}
@@ -0,0 +1,168 @@
+package it.unibo.tetraj.model;
+
+import it.unibo.tetraj.model.piece.PieceType;
+
+/**
+ * Everything the play view draws for one frame: the board, the current, ghost, held and upcoming
+ * pieces, the score, the pause state and whether the performance overlay is shown.
+ *
+ * <p>Frames are pooled and refilled by {@link PlayModel#writeFrame(PlayFrame)} on the game thread,
+ * so publishing one allocates nothing. A frame handed to the render thread is never written again
+ * until the render thread has moved on to a newer one, so it is immutable while drawn. The board is
+ * held as a {@link BoardSnapshot}, shared rather than copied.
+ */
+public final class PlayFrame {
+
+  /** Piece state of a frame with no current or held piece. */
+  public static final long NO_PIECE = -1L;
+
+  private BoardSnapshot board;
+  private long pieceState = NO_PIECE;
+  private int ghostY;
+  private long heldState = NO_PIECE;
+  private PieceType[] preview = new PieceType[0];
+  private int previewSize;
+  private int score;
+  private int level;
+  private int linesCleared;
+  private boolean gameOver;
+  private boolean paused;
+  private boolean hudVisible;
+
+  /**
+   * Fills the frame from the game. Only called by the producer, on a frame not yet published.
+   *
+   * @param core The game to copy
+   * @param boardSnapshot The board snapshot of the last update
+   * @param showHud Whether the performance overlay is shown
+   */
+  void fill(final GameCore core, final BoardSnapshot boardSnapshot, final boolean showHud) {
+    board = boardSnapshot;
+    gameOver = core.isGameOver();
+    pieceState = gameOver ? NO_PIECE : core.getCurrentPieceState();
+    ghostY = gameOver ? 0 : core.getGhostY();
+    heldState = core.getHeldPieceState();
+    previewSize = core.getPreviewSize();
+    if (preview.length < previewSize) {
+      preview = new PieceType[previewSize];
+    }
+    for (int i = 0; i < previewSize; i++) {
+      preview[i] = core.getPreviewType(i);
+    }
+    score = core.getScore();
+    level = core.getLevel();
+    linesCleared = core.getLinesCleared();
+    paused = core.isPaused();
+    hudVisible = showHud;
+  }
+
+  /**
+   * Gets the board.
+   *
+   * @return The board snapshot, null before the frame is first filled
+   */
+  public BoardSnapshot getBoard() {
+    return board;
+  }
+
+  /**
+   * Gets the current piece.
+   *
+   * @return The packed state of the current piece, or {@link #NO_PIECE} once the game is over
+   * @see it.unibo.tetraj.model.piece.PieceState
+   */
+  public long getPieceState() {
+    return pieceState;
+  }
+
+  /**
+   * Gets the row where the current piece would land.
+   *
+   * @return The landing row of the ghost piece
+   */
+  public int getGhostY() {
+    return ghostY;
+  }
+
+  /**
+   * Gets the held piece.
+   *
+   * @return The packed state of the held piece, or {@link #NO_PIECE} if none is held
+   */
+  public long getHeldState() {
+    return heldState;
+  }
+
+  /**
+   * Gets the number of upcoming pieces.
+   *
+   * @return The preview size
+   */
+  public int getPreviewSize() {
+    return previewSize;
+  }
+
+  /**
+   * Gets the type of an upcoming piece.
+   *
+   * @param index The position in the preview, 0 for the next piece
+   * @return The piece type
+   */
+  public PieceType getPreviewType(final int index) {
+    return preview[index];
+  }
+
+  /**
+   * Gets the score.
+   *
+   * @return The score
+   */
+  public int getScore() {
+    return score;
+  }
+
+  /**
+   * Gets the level.
+   *
+   * @return The level
+   */
+  public int getLevel() {
+    return level;
+  }
+
+  /**
+   * Gets the lines cleared.
+   *
+   * @return The lines cleared
+   */
+  public int getLinesCleared() {
+    return linesCleared;
+  }
+
+  /**
+   * Checks if the game is over.
+   *
+   * @return true if the game is over
+   */
+  public boolean isGameOver() {
+    return gameOver;
+  }
+
+  /**
+   * Checks if the game is paused.
+   *
+   * @return true if the game is paused
+   */
+  public boolean isPaused() {
+    return paused;
+  }
+
+  /**
+   * Checks if the performance overlay is shown.
+   *
+   * @return true if the overlay is shown
+   */
+  public boolean isHudVisible() {
+    return hudVisible;
+  }
+}
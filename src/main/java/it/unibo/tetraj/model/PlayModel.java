@@ -1,114 +1,116 @@
 package it.unibo.tetraj.model;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import it.unibo.tetraj.model.input.InputAction;
+import it.unibo.tetraj.model.input.InputEngine;
+import it.unibo.tetraj.model.input.InputSettings;
 import it.unibo.tetraj.model.piece.AbstractTetromino;
+import it.unibo.tetraj.model.piece.PieceQueue;
 import it.unibo.tetraj.model.piece.TetrominoFactory;
 import it.unibo.tetraj.model.piece.selection.PieceSelectionFactory;
-import it.unibo.tetraj.model.speed.SpeedStrategy;
+import it.unibo.tetraj.model.rotation.RotationSystemFactory;
 import it.unibo.tetraj.model.speed.SpeedStrategyFactory;
 import it.unibo.tetraj.util.ResourceManager;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.Optional;
-import java.util.function.Consumer;
-
-/** Model for the playing state. Manages game logic and state. */
+import java.util.Map;
+
+/**
+ * Model for the playing state. Adapts the headless {@link GameCore} to the interactive game by
+ * turning its events into sound effects.
+ *
+ * <p>Input is timed on a simulation clock that only moves with {@link #update(double)}, never on
+ * the wall clock: a key takes effect at once, timed at the last update, and auto repeat and lock
+ * delay count updates. Driven by fixed ticks, the same keys on the same ticks replay the same game.
+ */
 public final class PlayModel {
 
-  private static final int[] LINE_POINTS = {0, 100, 300, 500, 800};
-  private static final double SOFT_DROP_ACTIVATION_DELAY_MS = 133.0;
-  private final TetrominoFactory tetrominoFactory;
-  private final SpeedStrategy speedStrategy;
-  private final Board board;
+  private static final Map<GameEvent, String> EVENT_SOUNDS = new EnumMap<>(GameEvent.class);
+  private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+  private final GameCore core;
+  private final InputEngine inputEngine;
   private final ResourceManager resources;
-  private AbstractTetromino<?> currentPiece;
-  private AbstractTetromino<?> nextPiece;
-  private AbstractTetromino<?> heldPiece;
-  private boolean canHold;
-  private int score;
-  private int level;
-  private int linesCleared;
-  private double fallTimer;
-  private double fallSpeed;
-  private boolean paused;
-  private boolean gameOver;
-  private boolean softDropping;
-  private boolean softDropRequested;
-  private double softDropHoldTime;
+  private volatile BoardSnapshot boardSnapshot;
+  private long clockNanos;
+  private boolean hudVisible;
+
+  static {
+    EVENT_SOUNDS.put(GameEvent.MOVE, "move.wav");
+    EVENT_SOUNDS.put(GameEvent.ROTATE, "rotate.wav");
+    EVENT_SOUNDS.put(GameEvent.HARD_DROP, "drop.wav");
+    EVENT_SOUNDS.put(GameEvent.LINE_CLEAR, "clear.wav");
+    EVENT_SOUNDS.put(GameEvent.TETRIS, "clearForLines.wav");
+    EVENT_SOUNDS.put(GameEvent.LEVEL_UP, "levelUp.wav");
+    EVENT_SOUNDS.put(GameEvent.PAUSE, "pauseOut.wav");
+    EVENT_SOUNDS.put(GameEvent.RESUME, "pauseIn.wav");
+  }
 
   /** Creates a new play model. */
   public PlayModel() {
-    board = new Board();
-    tetrominoFactory = new TetrominoFactory(PieceSelectionFactory.create());
-    speedStrategy = SpeedStrategyFactory.create();
     resources = ResourceManager.getInstance();
-    startNewGame();
+    core =
+        new GameCore(
+            new Board(),
+            new TetrominoFactory(PieceSelectionFactory.create(), PieceQueue.getConfiguredSize()),
+            SpeedStrategyFactory.create(),
+            RotationSystemFactory.create(),
+            this::playEventSound);
+    final InputSettings settings = InputSettings.fromProperties();
+    core.setLockDelay(settings.lockDelayNanos());
+    inputEngine = new InputEngine(core, settings);
+    boardSnapshot = core.getBoard().snapshot();
   }
 
   /** Starts a new game. */
   public void startNewGame() {
-    board.clear();
-    score = 0;
-    level = 1;
-    linesCleared = 0;
-    fallTimer = 0;
-    fallSpeed = speedStrategy.getFallSpeed(0);
-    canHold = true;
-    heldPiece = null;
-    gameOver = false;
-    softDropping = false;
-    softDropRequested = false;
-    softDropHoldTime = 0;
-    currentPiece = tetrominoFactory.create();
-    centerPieceToTop(currentPiece);
-    nextPiece = tetrominoFactory.create();
-    centerPieceToTop(nextPiece);
+    clockNanos = 0;
+    inputEngine.reset();
+    core.startNewGame();
+    boardSnapshot = core.getBoard().snapshot();
   }
 
   /**
-   * Updates the game logic.
+   * Updates the game logic, applying the pending input first, and publishes the resulting board
+   * snapshot. The simulation clock advances by the given time.
    *
-   * @param deltaTime Time elapsed since last update in seconds
+   * @param deltaTime Time elapsed since last update in seconds, a fixed tick in the game loop
    */
   public void update(final double deltaTime) {
-    if (gameOver || paused) {
-      return;
-    }
+    final long deltaNanos = Math.round(deltaTime * NANOS_PER_SECOND);
 
-    final double deltaMs = deltaTime * 1000;
-
-    // Handle soft drop activation delay
-    if (softDropRequested && !softDropping) {
-      softDropHoldTime += deltaMs;
-      if (softDropHoldTime >= SOFT_DROP_ACTIVATION_DELAY_MS) {
-        softDropping = true;
-      }
-    }
+    clockNanos += deltaNanos;
+    inputEngine.update(clockNanos);
+    core.advance(deltaNanos);
+    boardSnapshot = core.getBoard().snapshot();
+  }
 
-    final double currentSpeed =
-        softDropping ? speedStrategy.getSoftDropSpeed(level - 1) : fallSpeed;
+  /**
+   * Reports a gameplay key press, on the game thread. The action is applied at once, with auto
+   * repeat for held shifts on the next updates, and is timed on the simulation clock.
+   *
+   * @param action The pressed action
+   */
+  public void pressInput(final InputAction action) {
+    inputEngine.press(action, clockNanos);
+  }
 
-    fallTimer += deltaMs;
-    if (fallTimer >= currentSpeed) {
-      fallTimer = 0;
-      if (softDropping) {
-        score += 1;
-      }
-      moveDown();
-    }
+  /**
+   * Reports a gameplay key release, on the game thread.
+   *
+   * @param action The released action
+   */
+  public void releaseInput(final InputAction action) {
+    inputEngine.release(action, clockNanos);
   }
 
   /** Moves the current piece left. */
   public void moveLeft() {
-    if (tryMove(-1, 0)) {
-      resources.playSound("move.wav");
-    }
+    core.moveLeft();
   }
 
   /** Moves the current piece right. */
   public void moveRight() {
-    if (tryMove(1, 0)) {
-      resources.playSound("move.wav");
-    }
+    core.moveRight();
   }
 
   /**
@@ -116,12 +118,7 @@ public final class PlayModel {
    * resuming, plays the pause-in sound effect.
    */
   public void togglePause() {
-    paused = !paused;
-    if (paused) {
-      resources.playSound("pauseOut.wav");
-    } else {
-      resources.playSound("pauseIn.wav");
-    }
+    core.togglePause();
   }
 
   /**
@@ -130,30 +127,19 @@ public final class PlayModel {
    * @return true if the piece was placed
    */
   public boolean moveDown() {
-    if (!tryMove(0, 1)) {
-      placePiece();
-      return true;
-    }
-
-    return false;
+    return core.moveDown();
   }
 
   /**
    * Requests soft drop mode. After a short delay, piece falls faster and scores 1 point per cell.
    */
   public void startSoftDrop() {
-    if (!softDropRequested) {
-      softDropHoldTime = 0;
-      softDropping = false;
-      softDropRequested = true;
-    }
+    core.startSoftDrop();
   }
 
   /** Stops soft drop mode. Returns to normal fall speed. */
   public void stopSoftDrop() {
-    softDropRequested = false;
-    softDropping = false;
-    softDropHoldTime = 0;
+    core.stopSoftDrop();
   }
 
   /**
@@ -162,60 +148,66 @@ public final class PlayModel {
    * @return true if soft dropping
    */
   public boolean isSoftDropping() {
-    return softDropping;
+    return core.isSoftDropping();
   }
 
   /** Hard drops the current piece. */
   public void hardDrop() {
-    if (gameOver || currentPiece == null) {
-      return;
-    }
-
-    int dropDistance = 0;
-
-    while (board.isValidPosition(currentPiece)) {
-      currentPiece.move(0, 1);
-      dropDistance++;
-    }
-    currentPiece.move(0, -1);
-    dropDistance--;
-    score += dropDistance * 2;
-    placePiece();
-    resources.playSound("drop.wav");
+    core.hardDrop();
   }
 
   /** Rotates the current piece clockwise. */
   public void rotateClockwise() {
-    if (tryRotate(AbstractTetromino::rotateClockwise, AbstractTetromino::rotateCounterClockwise)) {
-      resources.playSound("rotate.wav");
-    }
+    core.rotateClockwise();
   }
 
   /** Rotates the current piece counterclockwise. */
   public void rotateCounterClockwise() {
-    if (tryRotate(AbstractTetromino::rotateCounterClockwise, AbstractTetromino::rotateClockwise)) {
-      resources.playSound("rotate.wav");
-    }
+    core.rotateCounterClockwise();
   }
 
   /** Holds the current piece. */
   public void holdPiece() {
-    if (gameOver || !canHold || currentPiece == null) {
-      return;
-    }
+    core.holdPiece();
+  }
 
-    canHold = false;
-    if (heldPiece == null) {
-      heldPiece = currentPiece;
-      currentPiece = nextPiece;
-      nextPiece = tetrominoFactory.create();
-      centerPieceToTop(nextPiece);
-    } else {
-      final AbstractTetromino<?> temp = currentPiece;
-      currentPiece = heldPiece;
-      heldPiece = temp;
-      centerPieceToTop(currentPiece);
-    }
+  /**
+   * Marks the current game state, e.g. before each piece in practice mode, so that it can be taken
+   * back with {@link #rollback(int)}.
+   *
+   * @return The mark
+   * @see GameCore#mark()
+   */
+  public int mark() {
+    return core.mark();
+  }
+
+  /**
+   * Takes the game back to a mark. Held keys are forgotten, as the piece they moved is gone.
+   *
+   * @param mark A mark returned by {@link #mark()}
+   * @throws IllegalArgumentException if the mark is not held
+   * @see GameCore#rollback(int)
+   */
+  public void rollback(final int mark) {
+    core.rollback(mark);
+    inputEngine.reset();
+    boardSnapshot = core.getBoard().snapshot();
+  }
+
+  /** Drops every mark and stops journaling. */
+  public void commit() {
+    core.commit();
+  }
+
+  /**
+   * Copies what the play view draws into a pooled frame, without allocating. The frame must not be
+   * read by another thread while it is written.
+   *
+   * @param frame The frame to fill
+   */
+  public void writeFrame(final PlayFrame frame) {
+    frame.fill(core, boardSnapshot, hudVisible);
   }
 
   /**
@@ -228,7 +220,16 @@ public final class PlayModel {
       justification =
           "Board needs to be exposed for rendering by View layer. View is trusted to only read board state")
   public Board getBoard() {
-    return board;
+    return core.getBoard();
+  }
+
+  /**
+   * Gets the board as of the last update, safe to read from any thread while the game goes on.
+   *
+   * @return The latest published board snapshot
+   */
+  public BoardSnapshot getBoardSnapshot() {
+    return boardSnapshot;
   }
 
   /**
@@ -237,7 +238,17 @@ public final class PlayModel {
    * @return The current piece or null
    */
   public AbstractTetromino<?> getCurrentPiece() {
-    return Optional.ofNullable(currentPiece).map(AbstractTetromino::copy).orElse(null);
+    return core.getCurrentPiece();
+  }
+
+  /**
+   * Gets the current piece without allocating, e.g. to draw it on every frame.
+   *
+   * @return The packed state of the current piece
+   * @see it.unibo.tetraj.model.piece.PieceState
+   */
+  public long getCurrentPieceState() {
+    return core.getCurrentPieceState();
   }
 
   /**
@@ -246,7 +257,16 @@ public final class PlayModel {
    * @return The next piece or null
    */
   public AbstractTetromino<?> getNextPiece() {
-    return Optional.ofNullable(nextPiece).map(AbstractTetromino::copy).orElse(null);
+    return core.getNextPiece();
+  }
+
+  /**
+   * Gets the upcoming pieces, the next one first.
+   *
+   * @return The preview queue
+   */
+  public List<AbstractTetromino<?>> getPreview() {
+    return core.getPreview();
   }
 
   /**
@@ -255,7 +275,7 @@ public final class PlayModel {
    * @return The held piece or null
    */
   public AbstractTetromino<?> getHeldPiece() {
-    return Optional.ofNullable(heldPiece).map(AbstractTetromino::copy).orElse(null);
+    return core.getHeldPiece();
   }
 
   /**
@@ -264,26 +284,31 @@ public final class PlayModel {
    * @return The ghost piece or null
    */
   public AbstractTetromino<?> getGhostPiece() {
-    if (currentPiece == null) {
-      return null;
-    }
+    final AbstractTetromino<?> ghost = core.getCurrentPiece();
 
-    final AbstractTetromino<?> ghost = currentPiece.copy();
-
-    while (board.isValidPosition(ghost)) {
-      ghost.move(0, 1);
+    if (ghost != null) {
+      ghost.setPosition(ghost.getX(), core.getGhostY());
     }
-    ghost.move(0, -1);
     return ghost;
   }
 
+  /**
+   * Gets the row where the current piece would land, i.e. the ghost piece position. Unlike {@link
+   * #getGhostPiece()} this does not allocate and is meant to be queried on every rendered frame.
+   *
+   * @return The landing row of the current piece
+   */
+  public int getGhostY() {
+    return core.getGhostY();
+  }
+
   /**
    * Gets the current score.
    *
    * @return The score
    */
   public int getScore() {
-    return score;
+    return core.getScore();
   }
 
   /**
@@ -292,7 +317,7 @@ public final class PlayModel {
    * @return The level
    */
   public int getLevel() {
-    return level;
+    return core.getLevel();
   }
 
   /**
@@ -301,7 +326,7 @@ public final class PlayModel {
    * @return The lines cleared
    */
   public int getLinesCleared() {
-    return linesCleared;
+    return core.getLinesCleared();
   }
 
   /**
@@ -310,115 +335,37 @@ public final class PlayModel {
    * @return true if game is over, false otherwise
    */
   public boolean isGameOver() {
-    return gameOver;
+    return core.isGameOver();
+  }
+
+  /** Shows or hides the performance overlay. */
+  public void toggleHud() {
+    hudVisible = !hudVisible;
   }
 
   /**
-   * Checks if the game is currently paused.
+   * Checks if the performance overlay is shown.
    *
-   * @return true if the game is paused, false otherwise
+   * @return true if the overlay is shown
    */
-  public boolean isPaused() {
-    return paused;
-  }
-
-  private boolean tryRotate(
-      final Consumer<AbstractTetromino<?>> action,
-      final Consumer<AbstractTetromino<?>> undoAction) {
-    if (gameOver || currentPiece == null) {
-      return false;
-    }
-
-    action.accept(currentPiece);
-    if (!board.isValidPosition(currentPiece) && !tryWallKick()) {
-      undoAction.accept(currentPiece);
-      return false;
-    }
-    return true;
-  }
-
-  private boolean tryMove(final int dx, final int dy) {
-    if (gameOver || currentPiece == null) {
-      return false;
-    }
-
-    currentPiece.move(dx, dy);
-    if (!board.isValidPosition(currentPiece)) {
-      currentPiece.move(-dx, -dy);
-      return false;
-    }
-    return true;
+  public boolean isHudVisible() {
+    return hudVisible;
   }
 
-  /*
-   * Attempts to find a valid position for the rotated piece using wall kick.
-   * Wall kick allows pieces to "slide" into valid positions when rotation
-   * would cause collision with walls or other pieces.
-   *
-   * Tests positions in order:
-   * 1. One cell left
-   * 2. One cell right
-   * 3. Two cells left (for I-piece near walls)
-   * 4. Two cells right
-   * 5. One cell up (floor kick)
+  /**
+   * Checks if the game is currently paused.
    *
-   * Returns true if a valid position is found, false if rotation is blocked.
+   * @return true if the game is paused, false otherwise
    */
-  private boolean tryWallKick() {
-    final int[] xOffsets = {-1, 1, -2, 2, 0};
-    final int[] yOffsets = {0, 0, 0, 0, -1};
-
-    for (int i = 0; i < xOffsets.length; i++) {
-      currentPiece.move(xOffsets[i], yOffsets[i]);
-      if (board.isValidPosition(currentPiece)) {
-        return true;
-      }
-      currentPiece.move(-xOffsets[i], -yOffsets[i]);
-    }
-    return false;
-  }
-
-  private void placePiece() {
-    board.placeTetromino(currentPiece);
-
-    final List<Integer> clearedLines = board.clearCompletedLines();
-
-    if (!clearedLines.isEmpty()) {
-      updateScore(clearedLines.size());
-      if (clearedLines.size() == 4) {
-        resources.playSound("clearForLines.wav");
-      } else {
-        resources.playSound("clear.wav");
-      }
-    }
-    currentPiece = nextPiece;
-    nextPiece = tetrominoFactory.create();
-    centerPieceToTop(nextPiece);
-    canHold = true;
-    fallTimer = 0;
-    // Reset soft drop state for new piece
-    softDropping = false;
-    softDropRequested = false;
-    softDropHoldTime = 0;
-    if (!board.isValidPosition(currentPiece)) {
-      gameOver = true;
-    }
+  public boolean isPaused() {
+    return core.isPaused();
   }
 
-  private void updateScore(final int lines) {
-    linesCleared += lines;
-    score += LINE_POINTS[Math.min(lines, LINE_POINTS.length - 1)] * level;
+  private void playEventSound(final GameEvent event) {
+    final String sound = EVENT_SOUNDS.get(event);
 
-    final int newLevel = (linesCleared / 10) + 1;
-
-    if (newLevel > level) {
-      level = newLevel;
-      fallSpeed = speedStrategy.getFallSpeed(level - 1);
-      resources.playSound("levelUp.wav");
+    if (sound != null) {
+      resources.playSound(sound);
     }
   }
-
-  private void centerPieceToTop(final AbstractTetromino<?> tetromino) {
-    tetromino.setPosition((board.getWidth() - tetromino.getWidth()) / 2, 0);
-  }
 }
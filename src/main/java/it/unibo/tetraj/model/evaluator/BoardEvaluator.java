@@ -0,0 +1,38 @@
+package it.unibo.tetraj.model.evaluator;
+
+import it.unibo.tetraj.model.Board;
+
+/**
+ * Scores boards for search and analysis: the higher the score, the better the board.
+ * Implementations must be stateless so a single instance can serve every search thread.
+ */
+@FunctionalInterface
+public interface BoardEvaluator {
+
+  /**
+   * Scores a board.
+   *
+   * @param board The board, typically after placing a candidate piece and clearing lines
+   * @param linesCleared The lines cleared by the move that produced the board
+   * @return The score
+   */
+  double evaluate(Board board, int linesCleared);
+
+  /**
+   * Scores many candidate boards in one call, writing into a caller-owned array so that no result
+   * array is allocated per batch.
+   *
+   * @param boards The boards
+   * @param linesCleared The lines cleared for each board
+   * @param scores The output array, same length as the boards
+   * @throws IllegalArgumentException if the array lengths differ
+   */
+  default void evaluateAll(final Board[] boards, final int[] linesCleared, final double[] scores) {
+    if (linesCleared.length != boards.length || scores.length != boards.length) {
+      throw new IllegalArgumentException("Boards, lines and scores must have the same length");
+    }
+    for (int i = 0; i < boards.length; i++) {
+      scores[i] = evaluate(boards[i], linesCleared[i]);
+    }
+  }
+}
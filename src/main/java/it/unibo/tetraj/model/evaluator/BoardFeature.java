@@ -0,0 +1,52 @@
+package it.unibo.tetraj.model.evaluator;
+
+/**
+ * Board features a {@link WeightedFeatureEvaluator} combines. Each feature has the name of its
+ * weight property ({@code evaluator.weight.<name>}) and a default weight.
+ *
+ * <p>The default weights are the ones tuned by Yiyuan Lee's genetic algorithm for aggregate
+ * height, lines, holes and bumpiness; the Dellacherie features (transitions and wells) are off by
+ * default and can be enabled from the configuration.
+ */
+public enum BoardFeature {
+  /** Sum of the column heights. */
+  AGGREGATE_HEIGHT("aggregateHeight", -0.510_066),
+  /** Empty cells with at least one occupied cell above them. */
+  HOLES("holes", -0.356_63),
+  /** Sum of the height differences between adjacent columns. */
+  BUMPINESS("bumpiness", -0.184_483),
+  /** Lines cleared by the move that produced the board. */
+  LINES_CLEARED("linesCleared", 0.760_666),
+  /** Occupied/empty changes along each non-empty row, walls counting as occupied. */
+  ROW_TRANSITIONS("rowTransitions", 0),
+  /** Occupied/empty changes down each column, the floor counting as occupied. */
+  COLUMN_TRANSITIONS("columnTransitions", 0),
+  /** Cumulative well depth: a well of depth d counts 1 + 2 + ... + d. */
+  WELLS("wells", 0);
+
+  private final String propertyName;
+  private final double defaultWeight;
+
+  BoardFeature(final String propertyName, final double defaultWeight) {
+    this.propertyName = propertyName;
+    this.defaultWeight = defaultWeight;
+  }
+
+  /**
+   * Gets the feature name used in the weight property key.
+   *
+   * @return The property name
+   */
+  public String getPropertyName() {
+    return propertyName;
+  }
+
+  /**
+   * Gets the weight used when none is configured.
+   *
+   * @return The default weight
+   */
+  public double getDefaultWeight() {
+    return defaultWeight;
+  }
+}
@@ -0,0 +1,113 @@
+package it.unibo.tetraj.model.evaluator;
+
+import it.unibo.tetraj.model.Board;
+
+/**
+ * Extracts every {@link BoardFeature} of a board in a single top-down pass over its row words,
+ * starting at the top of the stack. Features are computed on whole words with bit operations and
+ * population counts; the only per-cell work is on well cells, which are few.
+ */
+public final class BoardFeatures {
+
+  /** Private constructor to prevent instantiation. */
+  private BoardFeatures() {
+    throw new UnsupportedOperationException("Utility class");
+  }
+
+  /**
+   * Computes the features of a board.
+   *
+   * @param board The board
+   * @param linesCleared The lines cleared by the move that produced the board
+   * @param features The output array, indexed by {@link BoardFeature#ordinal()}
+   * @throws IllegalArgumentException if the output array is too short
+   */
+  public static void extract(final Board board, final int linesCleared, final int[] features) {
+    if (features.length < BoardFeature.values().length) {
+      throw new IllegalArgumentException("Feature array too short: " + features.length);
+    }
+
+    final int width = board.getWidth();
+    final int height = board.getHeight();
+    final int words = board.getWordCount();
+    final int lastWord = words - 1;
+    final long rightEdge = 1L << (width - 1 & Long.SIZE - 1);
+    final int[] wellRuns = new int[width];
+    final long[] rowWords = new long[words];
+    final long[] covered = new long[words];
+    final long[] previousWells = new long[words];
+    final long[] previousRow = new long[words];
+    int aggregateHeight = 0;
+    int holes = 0;
+    int rowTransitions = 0;
+    int columnTransitions = 0;
+    int wells = 0;
+
+    // Empty rows above the stack add nothing, unless a single column makes each of them a well
+    final int topRow = width > 1 ? height - board.getStackHeight() : 0;
+    for (int row = topRow; row < height; row++) {
+      boolean occupied = false;
+      for (int word = 0; word < words; word++) {
+        rowWords[word] = board.getRowWord(row, word);
+        occupied |= rowWords[word] != 0;
+      }
+      for (int word = 0; word < words; word++) {
+        final long mask = rowWords[word];
+        final long full = board.getFullWordMask(word);
+        // Neighbouring columns carry across words; walls count as occupied
+        final long left = mask << 1 | (word == 0 ? 1L : rowWords[word - 1] >>> Long.SIZE - 1);
+        final long right =
+            mask >>> 1 | (word == lastWord ? rightEdge : rowWords[word + 1] << Long.SIZE - 1);
+
+        // Columns whose top cell is in this row start counting their height here
+        aggregateHeight += Long.bitCount(mask & ~covered[word]) * (height - row);
+        holes += Long.bitCount(~mask & covered[word] & full);
+        covered[word] |= mask;
+        if (occupied) {
+          // Left wall enters through the carry of the first word
+          rowTransitions += Long.bitCount((mask ^ left) & full);
+        }
+        columnTransitions += Long.bitCount(mask ^ previousRow[word]);
+        previousRow[word] = mask;
+
+        // Open empty cells flanked by occupied cells or walls on both sides
+        final long wellCells = ~mask & ~covered[word] & left & right & full;
+        final int base = word * Long.SIZE;
+        long ended = previousWells[word] & ~wellCells;
+        while (ended != 0) {
+          wellRuns[base + Long.numberOfTrailingZeros(ended)] = 0;
+          ended &= ended - 1;
+        }
+        long open = wellCells;
+        while (open != 0) {
+          final int col = base + Long.numberOfTrailingZeros(open);
+          wellRuns[col]++;
+          wells += wellRuns[col];
+          open &= open - 1;
+        }
+        previousWells[word] = wellCells;
+      }
+      // Right wall adds one if the edge is empty
+      if (occupied && (rowWords[lastWord] & rightEdge) == 0) {
+        rowTransitions++;
+      }
+    }
+    // The floor counts as occupied
+    for (int word = 0; word < words; word++) {
+      columnTransitions += Long.bitCount(~previousRow[word] & board.getFullWordMask(word));
+    }
+
+    int bumpiness = 0;
+    for (int col = 1; col < width; col++) {
+      bumpiness += Math.abs(board.getColumnHeight(col) - board.getColumnHeight(col - 1));
+    }
+
+    features[BoardFeature.AGGREGATE_HEIGHT.ordinal()] = aggregateHeight;
+    features[BoardFeature.HOLES.ordinal()] = holes;
+    features[BoardFeature.BUMPINESS.ordinal()] = bumpiness;
+    features[BoardFeature.LINES_CLEARED.ordinal()] = linesCleared;
+    features[BoardFeature.ROW_TRANSITIONS.ordinal()] = rowTransitions;
+    features[BoardFeature.COLUMN_TRANSITIONS.ordinal()] = columnTransitions;
+    features[BoardFeature.WELLS.ordinal()] = wells;
+  }
+}
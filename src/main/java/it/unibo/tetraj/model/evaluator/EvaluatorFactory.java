@@ -0,0 +1,70 @@
+package it.unibo.tetraj.model.evaluator;
+
+import it.unibo.tetraj.util.ApplicationProperties;
+import it.unibo.tetraj.util.Logger;
+import it.unibo.tetraj.util.LoggerFactory;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Factory for board evaluators based on application configuration. Each feature weight is read
+ * from the property {@code evaluator.weight.<feature>}, e.g. {@code
+ * evaluator.weight.holes=-0.35663}; missing or invalid values fall back to the feature default.
+ */
+public final class EvaluatorFactory {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(EvaluatorFactory.class);
+  private static final String PROPERTY_PREFIX = "evaluator.weight.";
+
+  /** Private constructor to prevent instantiation. */
+  private EvaluatorFactory() {
+    throw new UnsupportedOperationException("Factory class cannot be instantiated");
+  }
+
+  /**
+   * Creates an evaluator with the weights from the application configuration.
+   *
+   * @return The configured evaluator
+   */
+  public static BoardEvaluator create() {
+    final ApplicationProperties properties = ApplicationProperties.getInstance();
+    final Map<BoardFeature, Double> weights = new EnumMap<>(BoardFeature.class);
+
+    for (final BoardFeature feature : BoardFeature.values()) {
+      final String value = properties.getProperty(PROPERTY_PREFIX + feature.getPropertyName());
+      weights.put(feature, parseWeight(feature, value));
+    }
+    LOGGER.info("Using board evaluator weights {}", weights);
+    return new WeightedFeatureEvaluator(weights);
+  }
+
+  /**
+   * Creates an evaluator with the default weight of every feature.
+   *
+   * @return The default evaluator
+   */
+  public static BoardEvaluator createDefault() {
+    final Map<BoardFeature, Double> weights = new EnumMap<>(BoardFeature.class);
+
+    for (final BoardFeature feature : BoardFeature.values()) {
+      weights.put(feature, feature.getDefaultWeight());
+    }
+    return new WeightedFeatureEvaluator(weights);
+  }
+
+  private static double parseWeight(final BoardFeature feature, final String value) {
+    if (value == null) {
+      return feature.getDefaultWeight();
+    }
+    try {
+      return Double.parseDouble(value.trim());
+    } catch (final NumberFormatException e) {
+      LOGGER.warn(
+          "Invalid weight '{}' for {}, using default: {}",
+          value,
+          feature.getPropertyName(),
+          feature.getDefaultWeight());
+      return feature.getDefaultWeight();
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package it.unibo.tetraj.model.evaluator;
+
+import it.unibo.tetraj.model.Board;
+import java.util.Map;
+
+/** Scores a board as the weighted sum of its {@link BoardFeature features}. */
+public final class WeightedFeatureEvaluator implements BoardEvaluator {
+
+  private static final BoardFeature[] FEATURES = BoardFeature.values();
+  private final double[] weights = new double[FEATURES.length];
+
+  /**
+   * Creates an evaluator with the given weights.
+   *
+   * @param featureWeights The weight of each feature; missing features weigh 0
+   */
+  public WeightedFeatureEvaluator(final Map<BoardFeature, Double> featureWeights) {
+    featureWeights.forEach((feature, weight) -> weights[feature.ordinal()] = weight);
+  }
+
+  /**
+   * Gets the weight of a feature.
+   *
+   * @param feature The feature
+   * @return The weight
+   */
+  public double getWeight(final BoardFeature feature) {
+    return weights[feature.ordinal()];
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public double evaluate(final Board board, final int linesCleared) {
+    final int[] features = new int[FEATURES.length];
+    double score = 0;
+
+    BoardFeatures.extract(board, linesCleared, features);
+    for (int i = 0; i < features.length; i++) {
+      score += weights[i] * features[i];
+    }
+    return score;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void evaluateAll(final Board[] boards, final int[] linesCleared, final double[] scores) {
+    if (linesCleared.length != boards.length || scores.length != boards.length) {
+      throw new IllegalArgumentException("Boards, lines and scores must have the same length");
+    }
+
+    // One feature buffer for the whole batch
+    final int[] features = new int[FEATURES.length];
+
+    for (int b = 0; b < boards.length; b++) {
+      double score = 0;
+      BoardFeatures.extract(boards[b], linesCleared[b], features);
+      for (int i = 0; i < features.length; i++) {
+        score += weights[i] * features[i];
+      }
+      scores[b] = score;
+    }
+  }
+}
@@ -0,0 +1,20 @@
+package it.unibo.tetraj.model.input;
+
+/** Gameplay actions a player can hold or tap, independent of the keys bound to them. */
+public enum InputAction {
+
+  /** Shift left, auto-repeating while held. */
+  MOVE_LEFT,
+  /** Shift right, auto-repeating while held. */
+  MOVE_RIGHT,
+  /** Soft drop while held. */
+  SOFT_DROP,
+  /** Hard drop on press. */
+  HARD_DROP,
+  /** Rotate clockwise on press. */
+  ROTATE_CW,
+  /** Rotate counterclockwise on press. */
+  ROTATE_CCW,
+  /** Hold the current piece on press. */
+  HOLD
+}
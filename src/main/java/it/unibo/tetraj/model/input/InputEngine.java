@@ -0,0 +1,172 @@
+package it.unibo.tetraj.model.input;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import it.unibo.tetraj.model.GameCore;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Turns raw key presses and releases into piece movement on the game thread.
+ *
+ * <p>Key events are reported on the game thread, between two updates, and act on the game at once,
+ * without being queued again: the game loop already hands them over in order. {@link #update(long)}
+ * then applies the auto repeat due. Shifts follow the usual handling model: a press moves the piece
+ * at once, then after the delayed auto shift (DAS) the move repeats every auto repeat rate (ARR)
+ * interval, or slides to the wall when the ARR is 0. When both directions are held the last one
+ * pressed wins. Operating system key repeat is ignored, since the engine times repeats itself.
+ * Pausing the game releases every held key.
+ */
+public final class InputEngine {
+
+  private final GameCore core;
+  private final InputSettings settings;
+  private final Set<InputAction> held = EnumSet.noneOf(InputAction.class);
+  private InputAction shiftDirection;
+  private long shiftPressedAt;
+  private long shiftsDone;
+
+  /**
+   * Creates an input engine driving the given game.
+   *
+   * @param core The game to drive
+   * @param settings The handling settings
+   */
+  @SuppressFBWarnings(
+      value = "EI_EXPOSE_REP2",
+      justification = "The engine drives the game it is given; sharing the core is intended")
+  public InputEngine(final GameCore core, final InputSettings settings) {
+    this.core = Objects.requireNonNull(core);
+    this.settings = Objects.requireNonNull(settings);
+  }
+
+  /**
+   * Reports a key press and applies it. Must be called from the game thread. Presses are ignored
+   * while the game is paused or over.
+   *
+   * @param action The pressed action
+   * @param nanos The press time, on the clock given to {@link #update(long)}
+   */
+  public void press(final InputAction action, final long nanos) {
+    Objects.requireNonNull(action);
+    if (!core.isPaused() && !core.isGameOver()) {
+      onPress(action, nanos);
+    }
+  }
+
+  /**
+   * Reports a key release and applies it. Must be called from the game thread.
+   *
+   * @param action The released action
+   * @param nanos The release time, on the clock given to {@link #update(long)}
+   */
+  public void release(final InputAction action, final long nanos) {
+    onRelease(Objects.requireNonNull(action), nanos);
+  }
+
+  /**
+   * Applies the auto repeat due by the given time. Must be called from the game thread, before the
+   * game is advanced.
+   *
+   * @param now The current time
+   */
+  public void update(final long now) {
+    if (core.isPaused() || core.isGameOver()) {
+      // Keys are unbound while paused, so a release may never come: nothing stays held
+      releaseAll();
+      return;
+    }
+    autoRepeat(now);
+  }
+
+  /** Forgets every held key, e.g. when a new game starts. */
+  public void reset() {
+    held.clear();
+    shiftDirection = null;
+    shiftsDone = 0;
+  }
+
+  private void releaseAll() {
+    if (held.remove(InputAction.SOFT_DROP)) {
+      core.stopSoftDrop();
+    }
+    held.clear();
+    shiftDirection = null;
+  }
+
+  /**
+   * Checks whether an action is currently held.
+   *
+   * @param action The action to check
+   * @return true if the action is held
+   */
+  public boolean isHeld(final InputAction action) {
+    return held.contains(action);
+  }
+
+  private void onPress(final InputAction action, final long nanos) {
+    if (!held.add(action)) {
+      return;
+    }
+    switch (action) {
+      case MOVE_LEFT, MOVE_RIGHT -> {
+        shiftDirection = action;
+        shiftPressedAt = nanos;
+        shiftsDone = 0;
+        shift(action);
+      }
+      case SOFT_DROP -> core.startSoftDrop();
+      case HARD_DROP -> core.hardDrop();
+      case ROTATE_CW -> core.rotateClockwise();
+      case ROTATE_CCW -> core.rotateCounterClockwise();
+      case HOLD -> core.holdPiece();
+      default -> throw new IllegalStateException("Unknown input action: " + action);
+    }
+  }
+
+  private void onRelease(final InputAction action, final long nanos) {
+    if (!held.remove(action)) {
+      return;
+    }
+    if (action == InputAction.SOFT_DROP) {
+      core.stopSoftDrop();
+    } else if (action == shiftDirection) {
+      // Fall back to the other direction if it is still held, charging its DAS from here
+      final InputAction other =
+          action == InputAction.MOVE_LEFT ? InputAction.MOVE_RIGHT : InputAction.MOVE_LEFT;
+      shiftDirection = held.contains(other) ? other : null;
+      shiftPressedAt = nanos;
+      shiftsDone = 0;
+    }
+  }
+
+  private void autoRepeat(final long now) {
+    if (shiftDirection == null) {
+      return;
+    }
+    final long charged = now - shiftPressedAt - settings.dasNanos();
+
+    if (charged < 0) {
+      return;
+    }
+    if (settings.arrNanos() == 0) {
+      while (shift(shiftDirection)) {
+        shiftsDone++;
+      }
+      return;
+    }
+    final long due = charged / settings.arrNanos() + 1;
+
+    while (shiftsDone < due) {
+      shiftsDone++;
+      if (!shift(shiftDirection)) {
+        // Against a wall: stop counting so the repeats do not pile up
+        shiftsDone = due;
+      }
+    }
+  }
+
+  private boolean shift(final InputAction direction) {
+    return direction == InputAction.MOVE_LEFT ? core.moveLeft() : core.moveRight();
+  }
+}
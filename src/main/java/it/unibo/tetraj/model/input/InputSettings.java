@@ -0,0 +1,49 @@
+package it.unibo.tetraj.model.input;
+
+import it.unibo.tetraj.util.ApplicationProperties;
+
+/**
+ * Handling settings of the input engine.
+ *
+ * @param dasNanos Delayed auto shift: how long a shift key is held before it repeats
+ * @param arrNanos Auto repeat rate: the time between repeated shifts, 0 to shift to the wall at
+ *     once
+ * @param lockDelayNanos How long a resting piece waits before locking, 0 to lock at once
+ */
+public record InputSettings(long dasNanos, long arrNanos, long lockDelayNanos) {
+
+  private static final long NANOS_PER_MILLI = 1_000_000L;
+  private static final int DEFAULT_DAS_MS = 167;
+  private static final int DEFAULT_ARR_MS = 33;
+  private static final int DEFAULT_LOCK_DELAY_MS = 500;
+
+  /**
+   * Validates the settings.
+   *
+   * @throws IllegalArgumentException if a duration is negative
+   */
+  public InputSettings {
+    if (dasNanos < 0 || arrNanos < 0 || lockDelayNanos < 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Invalid input settings: das=%d, arr=%d, lockDelay=%d",
+              dasNanos, arrNanos, lockDelayNanos));
+    }
+  }
+
+  /**
+   * Reads the settings from the properties "input.das", "input.arr" and "input.lockDelay", in
+   * milliseconds. Missing or invalid values fall back to the Tetris Guideline defaults: 167 ms DAS,
+   * 33 ms ARR and 500 ms lock delay.
+   *
+   * @return The configured settings
+   */
+  public static InputSettings fromProperties() {
+    final ApplicationProperties properties = ApplicationProperties.getInstance();
+
+    return new InputSettings(
+        properties.getInt("input.das", 0, DEFAULT_DAS_MS) * NANOS_PER_MILLI,
+        properties.getInt("input.arr", 0, DEFAULT_ARR_MS) * NANOS_PER_MILLI,
+        properties.getInt("input.lockDelay", 0, DEFAULT_LOCK_DELAY_MS) * NANOS_PER_MILLI);
+  }
+}
@@ -15,6 +15,9 @@ public abstract class AbstractTetromino<T extends AbstractTetromino<T>> implemen
   /** Current rotation state (0-3). */
   private int rotation;
 
+  /** Lazily compiled table, only used by subclasses that do not provide a shared one. */
+  private ShapeTable compiledShapeTable;
+
   /**
    * Creates a new tetromino at the specified position.
    *
@@ -36,6 +39,7 @@ public abstract class AbstractTetromino<T extends AbstractTetromino<T>> implemen
     x = other.getX();
     y = other.getY();
     rotation = other.getRotation();
+    compiledShapeTable = ((AbstractTetromino<?>) other).compiledShapeTable;
   }
 
   /** {@inheritDoc} */
@@ -70,17 +74,48 @@ public abstract class AbstractTetromino<T extends AbstractTetromino<T>> implemen
     return getShapes()[rotation];
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public int getCellCount() {
+    return getShapeTable().getCellCount(rotation);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int getCellX(final int index) {
+    return getShapeTable().getCellX(rotation, index);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int getCellY(final int index) {
+    return getShapeTable().getCellY(rotation, index);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The default implementation compiles {@link #getShapes()} on first use and caches the result
+   * in this instance. Concrete pieces override it to return a table compiled once at class load.
+   */
+  @Override
+  public ShapeTable getShapeTable() {
+    if (compiledShapeTable == null) {
+      compiledShapeTable = ShapeTable.compile(getShapes());
+    }
+    return compiledShapeTable;
+  }
+
   /** {@inheritDoc} */
   @Override
   public int getWidth() {
-    final int[][] shape = getShape();
-    return shape[0].length;
+    return getShapeTable().getMatrixWidth(rotation);
   }
 
   /** {@inheritDoc} */
   @Override
   public int getHeight() {
-    return getShape().length;
+    return getShapeTable().getMatrixHeight(rotation);
   }
 
   /** {@inheritDoc} */
@@ -102,12 +137,9 @@ public abstract class AbstractTetromino<T extends AbstractTetromino<T>> implemen
     y = newY;
   }
 
-  /**
-   * Gets the current rotation.
-   *
-   * @return The rotation index (0-3)
-   */
-  protected int getRotation() {
+  /** {@inheritDoc} */
+  @Override
+  public int getRotation() {
     return rotation;
   }
 
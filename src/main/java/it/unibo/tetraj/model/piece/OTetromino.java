@@ -13,6 +13,7 @@ public final class OTetromino extends AbstractTetromino<OTetromino> {
     {{1, 1}, {1, 1}},
   };
 
+  private static final ShapeTable SHAPE_TABLE = ShapeTable.compile(SHAPES);
   private static final Color COLOR = Color.YELLOW;
 
   /**
@@ -41,6 +42,12 @@ public final class OTetromino extends AbstractTetromino<OTetromino> {
     return SHAPES;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public ShapeTable getShapeTable() {
+    return SHAPE_TABLE;
+  }
+
   /** {@inheritDoc} */
   @Override
   public Color getColor() {
@@ -0,0 +1,156 @@
+package it.unibo.tetraj.model.piece;
+
+import it.unibo.tetraj.model.piece.selection.PieceSelectionStrategy;
+import it.unibo.tetraj.util.ApplicationProperties;
+import it.unibo.tetraj.util.Logger;
+import it.unibo.tetraj.util.LoggerFactory;
+import java.util.Objects;
+
+/**
+ * Preview queue of the upcoming piece types. Types are stored as indices into {@link
+ * TetrominoRegistry#getAvailableTypes()} in a primitive ring buffer that always holds the next
+ * {@code size} pieces: polling hands out the head and draws one more type into the freed slot, so
+ * spawning is O(1) and never allocates.
+ *
+ * <p>The queue only reads ahead of its strategy, so the spawned sequence is the same whatever the
+ * preview size.
+ *
+ * <p>Spawned pieces can be handed back with {@link #unpoll(int)}, e.g. when a move is taken back:
+ * they return to the head and the pieces already drawn stay queued behind them, so the sequence
+ * resumes exactly where it was.
+ */
+public final class PieceQueue {
+
+  /** Largest supported preview, two full bags. */
+  public static final int MAX_SIZE = 14;
+
+  /** Preview size used when the configuration does not set a valid one. */
+  public static final int DEFAULT_SIZE = 5;
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(PieceQueue.class);
+  private static final String PROPERTY_KEY = "game.previewSize";
+  private final PieceSelectionStrategy strategy;
+  private final int size;
+  private int[] ring;
+  private int mask;
+  private int head;
+  private int surplus;
+
+  /**
+   * Creates a queue and fills it from the strategy.
+   *
+   * @param strategy The strategy drawing the pieces, owned by this queue from now on
+   * @param size The number of pieces visible ahead, from 1 to {@link #MAX_SIZE}
+   * @throws IllegalArgumentException if the size is out of range
+   */
+  public PieceQueue(final PieceSelectionStrategy strategy, final int size) {
+    if (size < 1 || size > MAX_SIZE) {
+      throw new IllegalArgumentException(
+          String.format("Preview size must be between 1 and %d, got %d", MAX_SIZE, size));
+    }
+    this.strategy = Objects.requireNonNull(strategy);
+    this.size = size;
+    this.ring = new int[Integer.highestOneBit(size) << 1];
+    this.mask = ring.length - 1;
+    fill();
+  }
+
+  /**
+   * Reads the preview size from the property "game.previewSize". Missing or out of range values
+   * fall back to {@link #DEFAULT_SIZE}.
+   *
+   * @return The configured preview size
+   */
+  public static int getConfiguredSize() {
+    final String value = ApplicationProperties.getInstance().getProperty(PROPERTY_KEY);
+
+    if (value == null) {
+      return DEFAULT_SIZE;
+    }
+    try {
+      final int size = Integer.parseInt(value.trim());
+      if (size >= 1 && size <= MAX_SIZE) {
+        return size;
+      }
+    } catch (final NumberFormatException e) {
+      // Reported below together with the out of range values
+    }
+    LOGGER.warn("Invalid preview size '{}', using {}", value, DEFAULT_SIZE);
+    return DEFAULT_SIZE;
+  }
+
+  /**
+   * Removes the next piece type and draws a new one at the end of the queue. Pieces handed back
+   * through {@link #unpoll(int)} are consumed first, without drawing.
+   *
+   * @return The registry index of the spawned type
+   */
+  public int poll() {
+    final int type = ring[head];
+
+    if (surplus > 0) {
+      surplus--;
+    } else {
+      ring[(head + size) & mask] = strategy.nextIndex();
+    }
+    head = (head + 1) & mask;
+    return type;
+  }
+
+  /**
+   * Puts a spawned piece type back at the head of the queue, so that the next {@link #poll()}
+   * returns it again. The pieces already queued are kept, and the preview shows the returned ones
+   * first. Types must be returned in the reverse order they were polled.
+   *
+   * @param type The registry index of the returned type
+   */
+  public void unpoll(final int type) {
+    if (size + surplus >= ring.length) {
+      final int[] grown = new int[ring.length << 1];
+      for (int i = 0; i < size + surplus; i++) {
+        grown[i] = ring[(head + i) & mask];
+      }
+      ring = grown;
+      mask = grown.length - 1;
+      head = 0;
+    }
+    head = (head - 1) & mask;
+    ring[head] = type;
+    surplus++;
+  }
+
+  /**
+   * Gets an upcoming piece type without removing it.
+   *
+   * @param index The position in the queue, 0 being the next piece
+   * @return The registry index of the type
+   * @throws IndexOutOfBoundsException if the index is not below {@link #size()}
+   */
+  public int peek(final int index) {
+    Objects.checkIndex(index, size);
+    return ring[(head + index) & mask];
+  }
+
+  /**
+   * Gets the number of pieces visible ahead.
+   *
+   * @return The preview size
+   */
+  public int size() {
+    return size;
+  }
+
+  /** Resets the strategy and refills the queue. */
+  public void reset() {
+    strategy.reset();
+    fill();
+  }
+
+  private void fill() {
+    head = 0;
+    surplus = 0;
+    for (int i = 0; i < size; i++) {
+      ring[i] = strategy.nextIndex();
+    }
+  }
+}
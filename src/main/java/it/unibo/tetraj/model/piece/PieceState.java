@@ -0,0 +1,163 @@
+package it.unibo.tetraj.model.piece;
+
+/**
+ * Packs the full state of a falling piece, i.e. type, rotation and position, into a single long, so
+ * that pieces can be moved, rotated and copied without allocating.
+ *
+ * <p>Layout, from the least significant bit: 3 bits of {@link PieceType} ordinal, 2 bits of
+ * rotation, 32 bits for the row biased by 2^31, then 27 bits for the column biased by 2^26. Rows
+ * therefore take any int value, so boards may be as tall as they like, and columns range over about
+ * 67 million either way; moves are plain additions and never carry into the neighbouring field.
+ *
+ * <p>Shapes and colors are not stored: they come from the type, see {@link #type(long)}. {@link
+ * #toTetromino(long)} and {@link #of(Tetromino)} convert from and to the object view.
+ */
+public final class PieceState {
+
+  private static final int TYPE_BITS = 3;
+  private static final int ROTATION_BITS = 2;
+  private static final int Y_BITS = 32;
+  private static final int X_BITS = 27;
+  private static final int ROTATION_SHIFT = TYPE_BITS;
+  private static final int Y_SHIFT = ROTATION_SHIFT + ROTATION_BITS;
+  private static final int X_SHIFT = Y_SHIFT + Y_BITS;
+  private static final int TYPE_MASK = (1 << TYPE_BITS) - 1;
+  private static final int ROTATION_MASK = (1 << ROTATION_BITS) - 1;
+  private static final long Y_MASK = (1L << Y_BITS) - 1;
+  private static final long X_MASK = (1L << X_BITS) - 1;
+  private static final long Y_BIAS = 1L << (Y_BITS - 1);
+  private static final long X_BIAS = 1L << (X_BITS - 1);
+  private static final int ROTATIONS = 4;
+
+  private PieceState() {
+    throw new UnsupportedOperationException("Utility class cannot be instantiated");
+  }
+
+  /**
+   * Packs a piece state.
+   *
+   * @param type The piece type
+   * @param rotation The rotation state, from 0 to 3
+   * @param x The column of the shape matrix left edge
+   * @param y The row of the shape matrix top edge
+   * @return The packed state
+   */
+  public static long of(final PieceType type, final int rotation, final int x, final int y) {
+    return type.ordinal()
+        | (long) (rotation & ROTATION_MASK) << ROTATION_SHIFT
+        | (y + Y_BIAS) << Y_SHIFT
+        | (x + X_BIAS) << X_SHIFT;
+  }
+
+  /**
+   * Packs the state of a piece.
+   *
+   * @param piece The piece
+   * @return The packed state
+   */
+  public static long of(final Tetromino piece) {
+    return of(PieceType.of(piece), piece.getRotation(), piece.getX(), piece.getY());
+  }
+
+  /**
+   * Gets the type of a state.
+   *
+   * @param state The packed state
+   * @return The piece type
+   */
+  public static PieceType type(final long state) {
+    return PieceType.of((int) state & TYPE_MASK);
+  }
+
+  /**
+   * Gets the rotation of a state.
+   *
+   * @param state The packed state
+   * @return The rotation, from 0 to 3
+   */
+  public static int rotation(final long state) {
+    return (int) (state >>> ROTATION_SHIFT) & ROTATION_MASK;
+  }
+
+  /**
+   * Gets the column of a state.
+   *
+   * @param state The packed state
+   * @return The column of the shape matrix left edge
+   */
+  public static int x(final long state) {
+    return (int) ((state >>> X_SHIFT & X_MASK) - X_BIAS);
+  }
+
+  /**
+   * Gets the row of a state.
+   *
+   * @param state The packed state
+   * @return The row of the shape matrix top edge
+   */
+  public static int y(final long state) {
+    return (int) ((state >>> Y_SHIFT & Y_MASK) - Y_BIAS);
+  }
+
+  /**
+   * Gets the shape table of a state, shared with every piece of its type.
+   *
+   * @param state The packed state
+   * @return The shape table
+   */
+  public static ShapeTable shapeTable(final long state) {
+    return type(state).getShapeTable();
+  }
+
+  /**
+   * Moves a state.
+   *
+   * @param state The packed state
+   * @param dx The horizontal displacement
+   * @param dy The vertical displacement
+   * @return The moved state
+   */
+  public static long moved(final long state, final int dx, final int dy) {
+    return state + ((long) dx << X_SHIFT) + ((long) dy << Y_SHIFT);
+  }
+
+  /**
+   * Moves a state to a new position.
+   *
+   * @param state The packed state
+   * @param x The new column
+   * @param y The new row
+   * @return The moved state
+   */
+  public static long withPosition(final long state, final int x, final int y) {
+    return of(type(state), rotation(state), x, y);
+  }
+
+  /**
+   * Rotates a state in place, without any kick.
+   *
+   * @param state The packed state
+   * @param turns The quarter turns, positive clockwise
+   * @return The rotated state
+   */
+  public static long rotated(final long state, final int turns) {
+    final int rotation = Math.floorMod(rotation(state) + turns, ROTATIONS);
+
+    return state & ~((long) ROTATION_MASK << ROTATION_SHIFT) | (long) rotation << ROTATION_SHIFT;
+  }
+
+  /**
+   * Creates the object view of a state.
+   *
+   * @param state The packed state
+   * @return A new tetromino with the same type, rotation and position
+   */
+  public static AbstractTetromino<?> toTetromino(final long state) {
+    final AbstractTetromino<?> piece = type(state).create(x(state), y(state));
+
+    for (int i = 0; i < rotation(state); i++) {
+      piece.rotateClockwise();
+    }
+    return piece;
+  }
+}
@@ -0,0 +1,113 @@
+package it.unibo.tetraj.model.piece;
+
+import java.awt.Color;
+import java.util.List;
+
+/**
+ * The seven tetromino types, in registry order. Each constant holds the shape table and color
+ * shared by every piece of its type, so code working on packed {@link PieceState} values can reach
+ * them by ordinal without any lookup.
+ */
+public enum PieceType {
+
+  /** The I piece. */
+  I(ITetromino::new),
+  /** The O piece. */
+  O(OTetromino::new),
+  /** The T piece. */
+  T(TTetromino::new),
+  /** The S piece. */
+  S(STetromino::new),
+  /** The Z piece. */
+  Z(ZTetromino::new),
+  /** The J piece. */
+  J(JTetromino::new),
+  /** The L piece. */
+  L(LTetromino::new);
+
+  private static final List<PieceType> VALUES = List.of(values());
+  private final Constructor constructor;
+  private final ShapeTable shapeTable;
+  private final Color color;
+  private final Class<? extends AbstractTetromino<?>> pieceClass;
+
+  @SuppressWarnings("unchecked")
+  PieceType(final Constructor constructor) {
+    final AbstractTetromino<?> prototype = constructor.create(0, 0);
+
+    this.constructor = constructor;
+    this.shapeTable = prototype.getShapeTable();
+    this.color = prototype.getColor();
+    this.pieceClass = (Class<? extends AbstractTetromino<?>>) prototype.getClass();
+  }
+
+  /**
+   * Gets a type by ordinal.
+   *
+   * @param ordinal The ordinal, also the registry index of the type
+   * @return The type
+   */
+  public static PieceType of(final int ordinal) {
+    return VALUES.get(ordinal);
+  }
+
+  /**
+   * Gets the type of a piece.
+   *
+   * @param piece The piece
+   * @return The type
+   * @throws IllegalArgumentException if the piece is not one of the seven tetrominoes
+   */
+  public static PieceType of(final Tetromino piece) {
+    for (final PieceType type : VALUES) {
+      if (type.pieceClass == piece.getClass()) {
+        return type;
+      }
+    }
+    throw new IllegalArgumentException("Unknown piece type " + piece.getClass().getSimpleName());
+  }
+
+  /**
+   * Gets the shape table shared by the pieces of this type.
+   *
+   * @return The shape table
+   */
+  public ShapeTable getShapeTable() {
+    return shapeTable;
+  }
+
+  /**
+   * Gets the color of this type.
+   *
+   * @return The color
+   */
+  public Color getColor() {
+    return color;
+  }
+
+  /**
+   * Gets the class of the pieces of this type.
+   *
+   * @return The tetromino class
+   */
+  public Class<? extends AbstractTetromino<?>> getPieceClass() {
+    return pieceClass;
+  }
+
+  /**
+   * Creates a piece of this type.
+   *
+   * @param x The initial X position
+   * @param y The initial Y position
+   * @return A new tetromino in rotation 0
+   */
+  public AbstractTetromino<?> create(final int x, final int y) {
+    return constructor.create(x, y);
+  }
+
+  /** Allocation-free constructor reference, unlike a boxing BiFunction. */
+  @FunctionalInterface
+  private interface Constructor {
+    AbstractTetromino<?> create(int x, int y);
+  }
+}
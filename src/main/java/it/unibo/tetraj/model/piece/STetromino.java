@@ -13,6 +13,7 @@ public final class STetromino extends AbstractTetromino<STetromino> {
     {{1, 0, 0}, {1, 1, 0}, {0, 1, 0}},
   };
 
+  private static final ShapeTable SHAPE_TABLE = ShapeTable.compile(SHAPES);
   private static final Color COLOR = Color.GREEN;
 
   /**
@@ -41,6 +42,12 @@ public final class STetromino extends AbstractTetromino<STetromino> {
     return SHAPES;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public ShapeTable getShapeTable() {
+    return SHAPE_TABLE;
+  }
+
   /** {@inheritDoc} */
   @Override
   public Color getColor() {
@@ -0,0 +1,280 @@
+package it.unibo.tetraj.model.piece;
+
+import java.util.Arrays;
+
+/**
+ * Precompiled form of a tetromino's rotation matrices. Each rotation state is compiled once into
+ * packed row masks, an occupied-cell bounding box and the list of occupied cell offsets, so that
+ * collision checks and rendering never have to scan the mostly-empty shape matrices.
+ *
+ * <p>Row masks use the same bit layout as the board: bit {@code c} of the mask for row {@code r}
+ * is set when the shape matrix has a block at {@code [r][c]}. Cell offsets and bounding boxes are
+ * relative to the top-left corner of the shape matrix, i.e. to the piece position.
+ *
+ * <p>Instances are immutable and shared by every piece of the same type.
+ */
+public final class ShapeTable {
+
+  private final int[] matrixWidths;
+  private final int[] matrixHeights;
+  private final int[][] rowMasks;
+  private final int[][] cellXs;
+  private final int[][] cellYs;
+  private final int[][] columnBottoms;
+  private final int[] minXs;
+  private final int[] maxXs;
+  private final int[] minYs;
+  private final int[] maxYs;
+  private final int[] canonicalRotations;
+
+  private ShapeTable(final int[][][] shapes) {
+    final int rotations = shapes.length;
+
+    matrixWidths = new int[rotations];
+    matrixHeights = new int[rotations];
+    rowMasks = new int[rotations][];
+    cellXs = new int[rotations][];
+    cellYs = new int[rotations][];
+    columnBottoms = new int[rotations][];
+    minXs = new int[rotations];
+    maxXs = new int[rotations];
+    minYs = new int[rotations];
+    maxYs = new int[rotations];
+    canonicalRotations = new int[rotations];
+    for (int rotation = 0; rotation < rotations; rotation++) {
+      compileRotation(rotation, shapes[rotation]);
+    }
+    for (int rotation = 0; rotation < rotations; rotation++) {
+      int canonical = 0;
+      while (!sameFootprint(canonical, rotation)) {
+        canonical++;
+      }
+      canonicalRotations[rotation] = canonical;
+    }
+  }
+
+  /**
+   * Compiles the rotation matrices of a tetromino into a shape table.
+   *
+   * @param shapes The rotation matrices, indexed by rotation state; 1 marks a block
+   * @return The compiled table
+   * @throws IllegalArgumentException if no rotation is given, a matrix is wider than an int mask or
+   *     a rotation has no blocks
+   */
+  public static ShapeTable compile(final int[][][] shapes) {
+    if (shapes.length == 0) {
+      throw new IllegalArgumentException("A shape needs at least one rotation state");
+    }
+    return new ShapeTable(shapes);
+  }
+
+  /**
+   * Gets the number of rotation states.
+   *
+   * @return The rotation count
+   */
+  public int getRotationCount() {
+    return matrixWidths.length;
+  }
+
+  /**
+   * Gets the width of the shape matrix for a rotation.
+   *
+   * @param rotation The rotation state
+   * @return The matrix width in cells
+   */
+  public int getMatrixWidth(final int rotation) {
+    return matrixWidths[rotation];
+  }
+
+  /**
+   * Gets the height of the shape matrix for a rotation.
+   *
+   * @param rotation The rotation state
+   * @return The matrix height in cells
+   */
+  public int getMatrixHeight(final int rotation) {
+    return matrixHeights[rotation];
+  }
+
+  /**
+   * Gets the packed mask of a matrix row. Bit {@code c} is set when column {@code c} is occupied.
+   *
+   * @param rotation The rotation state
+   * @param row The matrix row
+   * @return The row mask, 0 if the row is empty
+   */
+  public int getRowMask(final int rotation, final int row) {
+    return rowMasks[rotation][row];
+  }
+
+  /**
+   * Gets the number of occupied cells for a rotation.
+   *
+   * @param rotation The rotation state
+   * @return The cell count
+   */
+  public int getCellCount(final int rotation) {
+    return cellXs[rotation].length;
+  }
+
+  /**
+   * Gets the column offset of an occupied cell.
+   *
+   * @param rotation The rotation state
+   * @param index The cell index, from 0 to {@link #getCellCount(int)} exclusive
+   * @return The column offset relative to the piece position
+   */
+  public int getCellX(final int rotation, final int index) {
+    return cellXs[rotation][index];
+  }
+
+  /**
+   * Gets the row offset of an occupied cell.
+   *
+   * @param rotation The rotation state
+   * @param index The cell index, from 0 to {@link #getCellCount(int)} exclusive
+   * @return The row offset relative to the piece position
+   */
+  public int getCellY(final int rotation, final int index) {
+    return cellYs[rotation][index];
+  }
+
+  /**
+   * Gets the bottom profile of a matrix column, i.e. the lowest row holding a block. Together with
+   * the board skyline this gives the landing row of a piece without stepping it down.
+   *
+   * @param rotation The rotation state
+   * @param col The matrix column
+   * @return The row offset of the lowest block in the column, or -1 if the column is empty
+   */
+  public int getColumnBottom(final int rotation, final int col) {
+    return columnBottoms[rotation][col];
+  }
+
+  /**
+   * Gets the leftmost occupied column of a rotation.
+   *
+   * @param rotation The rotation state
+   * @return The column offset of the bounding box left edge
+   */
+  public int getMinX(final int rotation) {
+    return minXs[rotation];
+  }
+
+  /**
+   * Gets the rightmost occupied column of a rotation.
+   *
+   * @param rotation The rotation state
+   * @return The column offset of the bounding box right edge
+   */
+  public int getMaxX(final int rotation) {
+    return maxXs[rotation];
+  }
+
+  /**
+   * Gets the topmost occupied row of a rotation.
+   *
+   * @param rotation The rotation state
+   * @return The row offset of the bounding box top edge
+   */
+  public int getMinY(final int rotation) {
+    return minYs[rotation];
+  }
+
+  /**
+   * Gets the bottommost occupied row of a rotation.
+   *
+   * @param rotation The rotation state
+   * @return The row offset of the bounding box bottom edge
+   */
+  public int getMaxY(final int rotation) {
+    return maxYs[rotation];
+  }
+
+  /**
+   * Gets the lowest rotation occupying the same cells as the given one up to a translation. Pieces
+   * such as O, I, S and Z have rotation states that only differ by an offset; searches use this to
+   * avoid reporting the same footprint twice.
+   *
+   * @param rotation The rotation state
+   * @return The canonical rotation, at most {@code rotation}
+   */
+  public int getCanonicalRotation(final int rotation) {
+    return canonicalRotations[rotation];
+  }
+
+  private boolean sameFootprint(final int first, final int second) {
+    final int rows = maxYs[first] - minYs[first];
+
+    if (rows != maxYs[second] - minYs[second]
+        || maxXs[first] - minXs[first] != maxXs[second] - minXs[second]) {
+      return false;
+    }
+    for (int row = 0; row <= rows; row++) {
+      if (rowMasks[first][minYs[first] + row] >>> minXs[first]
+          != rowMasks[second][minYs[second] + row] >>> minXs[second]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void compileRotation(final int rotation, final int[][] matrix) {
+    final int height = matrix.length;
+    final int width = height == 0 ? 0 : matrix[0].length;
+    final int[] masks = new int[height];
+    int cells = 0;
+
+    if (width > Integer.SIZE) {
+      throw new IllegalArgumentException("Shape matrix is wider than " + Integer.SIZE + " cells");
+    }
+    for (int row = 0; row < height; row++) {
+      for (int col = 0; col < matrix[row].length; col++) {
+        if (matrix[row][col] != 0) {
+          masks[row] |= 1 << col;
+          cells++;
+        }
+      }
+    }
+    if (cells == 0) {
+      throw new IllegalArgumentException("Rotation " + rotation + " has no blocks");
+    }
+
+    final int[] xs = new int[cells];
+    final int[] ys = new int[cells];
+    final int[] bottoms = new int[width];
+    int minX = width;
+    int maxX = -1;
+    int minY = height;
+    int maxY = -1;
+    int index = 0;
+
+    Arrays.fill(bottoms, -1);
+    for (int row = 0; row < height; row++) {
+      int remaining = masks[row];
+      while (remaining != 0) {
+        final int col = Integer.numberOfTrailingZeros(remaining);
+        xs[index] = col;
+        ys[index] = row;
+        index++;
+        minX = Math.min(minX, col);
+        maxX = Math.max(maxX, col);
+        minY = Math.min(minY, row);
+        maxY = Math.max(maxY, row);
+        bottoms[col] = row;
+        remaining &= remaining - 1;
+      }
+    }
+    matrixWidths[rotation] = width;
+    matrixHeights[rotation] = height;
+    rowMasks[rotation] = masks;
+    cellXs[rotation] = xs;
+    cellYs[rotation] = ys;
+    columnBottoms[rotation] = bottoms;
+    minXs[rotation] = minX;
+    maxXs[rotation] = maxX;
+    minYs[rotation] = minY;
+    maxYs[rotation] = maxY;
+  }
+}
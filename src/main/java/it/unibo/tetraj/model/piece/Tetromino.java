@@ -33,6 +33,51 @@ public interface Tetromino {
    */
   int[][] getShape();
 
+  /**
+   * Returns the number of occupied cells in the current rotation. Together with {@link
+   * #getCellX(int)} and {@link #getCellY(int)} this is an allocation-free way to visit the blocks
+   * of the piece without scanning the shape matrix:
+   *
+   * <pre>
+   * for (int i = 0; i &lt; piece.getCellCount(); i++) {
+   *   draw(piece.getX() + piece.getCellX(i), piece.getY() + piece.getCellY(i));
+   * }
+   * </pre>
+   *
+   * @return the number of blocks
+   */
+  int getCellCount();
+
+  /**
+   * Returns the column offset of an occupied cell, relative to the piece position.
+   *
+   * @param index the cell index, from 0 to {@link #getCellCount()} exclusive
+   * @return the column offset
+   */
+  int getCellX(int index);
+
+  /**
+   * Returns the row offset of an occupied cell, relative to the piece position.
+   *
+   * @param index the cell index, from 0 to {@link #getCellCount()} exclusive
+   * @return the row offset
+   */
+  int getCellY(int index);
+
+  /**
+   * Returns the current rotation state.
+   *
+   * @return the rotation index
+   */
+  int getRotation();
+
+  /**
+   * Returns the precompiled shape table shared by all pieces of this type.
+   *
+   * @return the shape table
+   */
+  ShapeTable getShapeTable();
+
   /**
    * Returns the width of the tetromino in its current rotation.
    *
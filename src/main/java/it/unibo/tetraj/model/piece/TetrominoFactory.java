@@ -1,24 +1,37 @@
 package it.unibo.tetraj.model.piece;
 
 import it.unibo.tetraj.model.piece.selection.PieceSelectionStrategy;
-import java.util.Objects;
 
 /**
  * Factory class for creating tetromino pieces. Handles random piece generation and spawn position
- * calculation.
+ * calculation. Upcoming pieces are read ahead into a {@link PieceQueue}, so they can be previewed
+ * before they spawn.
  */
 public final class TetrominoFactory {
 
-  /** The strategy used to select which piece to create next. */
-  private final PieceSelectionStrategy pieceSelectionStrategy;
+  /** The queue of upcoming piece types, filled by the selection strategy. */
+  private final PieceQueue queue;
 
   /**
-   * Creates a new factory with the specified selection strategy.
+   * Creates a new factory with the specified selection strategy and a single piece preview.
    *
    * @param pieceSelectionStrategy the piece selection strategy
    */
   public TetrominoFactory(final PieceSelectionStrategy pieceSelectionStrategy) {
-    this.pieceSelectionStrategy = Objects.requireNonNull(pieceSelectionStrategy);
+    this(pieceSelectionStrategy, 1);
+  }
+
+  /**
+   * Creates a new factory with the specified selection strategy and preview size.
+   *
+   * @param pieceSelectionStrategy the piece selection strategy
+   * @param previewSize the number of upcoming pieces to read ahead, from 1 to {@link
+   *     PieceQueue#MAX_SIZE}
+   * @throws IllegalArgumentException if the preview size is out of range
+   */
+  public TetrominoFactory(
+      final PieceSelectionStrategy pieceSelectionStrategy, final int previewSize) {
+    this.queue = new PieceQueue(pieceSelectionStrategy, previewSize);
   }
 
   /**
@@ -27,7 +40,56 @@ public final class TetrominoFactory {
    * @return a new tetromino instance at position (0, 0)
    */
   public AbstractTetromino<?> create() {
-    final Class<? extends AbstractTetromino<?>> clazz = pieceSelectionStrategy.next();
-    return TetrominoRegistry.getInstance().create(clazz, 0, 0);
+    return nextType().create(0, 0);
+  }
+
+  /**
+   * Consumes the next piece without instantiating it, e.g. to spawn it as a {@link PieceState}.
+   *
+   * @return the type of the next piece
+   */
+  public PieceType nextType() {
+    return PieceType.of(queue.poll());
+  }
+
+  /**
+   * Returns a consumed piece to the front of the queue, so that it spawns again next. Pieces must
+   * be returned in the reverse order they were consumed.
+   *
+   * @param type the type of the returned piece
+   */
+  public void pushBack(final PieceType type) {
+    queue.unpoll(type.ordinal());
+  }
+
+  /**
+   * Gets the type of an upcoming piece without consuming it or allocating.
+   *
+   * @param index the position in the queue, 0 being the type the next {@link #nextType()} returns
+   * @return the piece type
+   * @throws IndexOutOfBoundsException if the index is not below {@link #getPreviewSize()}
+   */
+  public PieceType peekType(final int index) {
+    return PieceType.of(queue.peek(index));
+  }
+
+  /**
+   * Creates an instance of an upcoming piece without consuming it.
+   *
+   * @param index the position in the queue, 0 being the piece the next {@link #create()} returns
+   * @return a new tetromino instance at position (0, 0)
+   * @throws IndexOutOfBoundsException if the index is not below {@link #getPreviewSize()}
+   */
+  public AbstractTetromino<?> peek(final int index) {
+    return peekType(index).create(0, 0);
+  }
+
+  /**
+   * Gets the number of upcoming pieces that can be previewed.
+   *
+   * @return the preview size
+   */
+  public int getPreviewSize() {
+    return queue.size();
   }
 }
@@ -1,8 +1,8 @@
 package it.unibo.tetraj.model.piece;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.BiFunction;
 
 /**
  * Registry for all available tetromino types. Provides factory methods to create tetromino
@@ -11,23 +11,18 @@ import java.util.function.BiFunction;
 public final class TetrominoRegistry {
 
   private static final TetrominoRegistry INSTANCE = new TetrominoRegistry();
-  private final Map<
-          Class<? extends AbstractTetromino<?>>, BiFunction<Integer, Integer, AbstractTetromino<?>>>
-      factories;
+  private final Map<Class<? extends AbstractTetromino<?>>, PieceType> types;
   private final List<Class<? extends AbstractTetromino<?>>> availableTypes;
 
   /** Private constructor for singleton pattern. */
   private TetrominoRegistry() {
-    factories =
-        Map.of(
-            ITetromino.class, (x, y) -> new ITetromino(x, y),
-            OTetromino.class, (x, y) -> new OTetromino(x, y),
-            TTetromino.class, (x, y) -> new TTetromino(x, y),
-            STetromino.class, (x, y) -> new STetromino(x, y),
-            ZTetromino.class, (x, y) -> new ZTetromino(x, y),
-            JTetromino.class, (x, y) -> new JTetromino(x, y),
-            LTetromino.class, (x, y) -> new LTetromino(x, y));
-    availableTypes = List.copyOf(factories.keySet());
+    final Map<Class<? extends AbstractTetromino<?>>, PieceType> ordered = new LinkedHashMap<>();
+
+    for (final PieceType type : PieceType.values()) {
+      ordered.put(type.getPieceClass(), type);
+    }
+    types = Map.copyOf(ordered);
+    availableTypes = List.copyOf(ordered.keySet());
   }
 
   /**
@@ -40,7 +35,9 @@ public final class TetrominoRegistry {
   }
 
   /**
-   * Returns the list of all available tetromino types.
+   * Returns the list of all available tetromino types. The order is fixed (I, O, T, S, Z, J, L) so
+   * that seeded selection strategies produce the same sequence in every JVM; the index of a type
+   * is the ordinal of its {@link PieceType}.
    *
    * @return an immutable list of tetromino classes
    */
@@ -58,6 +55,6 @@ public final class TetrominoRegistry {
    */
   public AbstractTetromino<?> create(
       final Class<? extends AbstractTetromino<?>> type, final int x, final int y) {
-    return factories.get(type).apply(x, y);
+    return types.get(type).create(x, y);
   }
 }
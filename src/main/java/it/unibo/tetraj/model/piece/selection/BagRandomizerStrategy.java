@@ -4,10 +4,8 @@ import it.unibo.tetraj.model.piece.AbstractTetromino;
 import it.unibo.tetraj.model.piece.TetrominoRegistry;
 import it.unibo.tetraj.util.Logger;
 import it.unibo.tetraj.util.LoggerFactory;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * Bag randomizer strategy implementing the official Tetris Guideline "Random Generator" system.
@@ -22,37 +20,76 @@ import java.util.Random;
  *   <li>Minimum gap between identical pieces: 0 (consecutive pieces possible!)
  *   <li>Average gap between identical pieces: 6
  * </ul>
+ *
+ * <p>The bag is an array of registry indices shuffled in one step when it runs out, so dealing a
+ * piece is a single array read.
  */
 public final class BagRandomizerStrategy implements PieceSelectionStrategy {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(BagRandomizerStrategy.class);
-  private final List<Class<? extends AbstractTetromino<?>>> bag = new ArrayList<>();
   private final List<Class<? extends AbstractTetromino<?>>> availableTypes;
-  private final Random random = new Random();
+  private final int[] bag;
+  private final SplittableRandom random;
+  private int position;
 
-  /** Creates a new bag randomizer selection strategy. */
+  /** Creates a new bag randomizer selection strategy with an unpredictable seed. */
   public BagRandomizerStrategy() {
+    this(new SplittableRandom());
+  }
+
+  /**
+   * Creates a new bag randomizer selection strategy whose sequence is fully determined by the
+   * seed.
+   *
+   * @param seed The seed of the random stream
+   */
+  public BagRandomizerStrategy(final long seed) {
+    this(new SplittableRandom(seed));
+  }
+
+  /**
+   * Creates a new bag randomizer selection strategy drawing from the given stream.
+   *
+   * @param random The random stream, owned by this strategy from now on
+   */
+  BagRandomizerStrategy(final SplittableRandom random) {
+    this.random = random;
     this.availableTypes = TetrominoRegistry.getInstance().getAvailableTypes();
+    this.bag = new int[availableTypes.size()];
+    this.position = bag.length;
     LOGGER.debug("Initialized with {} piece types", availableTypes.size());
   }
 
   @Override
   public Class<? extends AbstractTetromino<?>> next() {
-    final Class<? extends AbstractTetromino<?>> currentPiece;
+    return availableTypes.get(nextIndex());
+  }
 
-    if (bag.isEmpty()) {
-      LOGGER.debug("Bag empty, shuffling {} pieces", availableTypes.size());
-      bag.addAll(availableTypes);
-      Collections.shuffle(bag, random);
+  @Override
+  public int nextIndex() {
+    if (position == bag.length) {
+      refillBag();
     }
-    currentPiece = bag.remove(0);
-    LOGGER.debug("Spawning piece {}", currentPiece.getSimpleName());
-    return currentPiece;
+    return bag[position++];
   }
 
   @Override
   public void reset() {
-    bag.clear();
+    position = bag.length;
     LOGGER.debug("Reset called");
   }
+
+  /* Deals a whole bag at once with a Fisher-Yates shuffle, as Collections.shuffle does. */
+  private void refillBag() {
+    for (int i = 0; i < bag.length; i++) {
+      bag[i] = i;
+    }
+    for (int i = bag.length - 1; i > 0; i--) {
+      final int j = random.nextInt(i + 1);
+      final int swap = bag[i];
+      bag[i] = bag[j];
+      bag[j] = swap;
+    }
+    position = 0;
+  }
 }
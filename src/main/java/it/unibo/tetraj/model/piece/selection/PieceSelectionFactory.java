@@ -4,6 +4,7 @@ import it.unibo.tetraj.util.ApplicationProperties;
 import it.unibo.tetraj.util.Logger;
 import it.unibo.tetraj.util.LoggerFactory;
 import java.util.Locale;
+import java.util.SplittableRandom;
 
 /**
  * Factory for creating piece selection strategies based on application configuration. Supports both
@@ -40,28 +41,52 @@ public final class PieceSelectionFactory {
    * @return The appropriate PieceSelectionStrategy implementation
    */
   public static PieceSelectionStrategy create(final String strategyName) {
+    final PieceSelectionStrategy pieceSelectionStrategy =
+        create(strategyName, new SplittableRandom());
+
+    LOGGER.info(
+        "Using {} piece selection strategy", pieceSelectionStrategy.getClass().getSimpleName());
+    return pieceSelectionStrategy;
+  }
+
+  /**
+   * Creates a seeded piece selection strategy based on the provided strategy name. Two strategies
+   * created with the same name and seed yield the same piece sequence, so a game can be replayed
+   * from its seed; each instance owns its own random stream and never contends with other
+   * sessions. The choice is only logged at debug level, as batch runs create one per game.
+   *
+   * @param strategyName The strategy name ("7-bag", "random", etc.)
+   * @param seed The seed of the strategy random stream
+   * @return The appropriate PieceSelectionStrategy implementation
+   */
+  public static PieceSelectionStrategy create(final String strategyName, final long seed) {
+    return create(strategyName, new SplittableRandom(seed));
+  }
+
+  private static PieceSelectionStrategy create(
+      final String strategyName, final SplittableRandom random) {
     final String strategyNameToLoad = (strategyName == null) ? DEFAULT_STRATEGY : strategyName;
     final PieceSelectionStrategy pieceSelectionStrategy;
 
     switch (strategyNameToLoad.toLowerCase(Locale.ROOT).trim()) {
       case "7-bag":
-        pieceSelectionStrategy = new BagRandomizerStrategy();
+        pieceSelectionStrategy = new BagRandomizerStrategy(random);
         break;
 
       case "random":
-        pieceSelectionStrategy = new RandomStrategy();
+        pieceSelectionStrategy = new RandomStrategy(random);
         break;
 
       default:
-        pieceSelectionStrategy = new RandomStrategy();
+        pieceSelectionStrategy = new RandomStrategy(random);
         LOGGER.warn(
             "Unknown piece selection strategy '{}', using default: {}",
             strategyName,
             pieceSelectionStrategy.getClass().getSimpleName());
         return pieceSelectionStrategy;
     }
-    LOGGER.info(
-        "Using {} piece selection strategy", pieceSelectionStrategy.getClass().getSimpleName());
+    LOGGER.debug(
+        "Created {} piece selection strategy", pieceSelectionStrategy.getClass().getSimpleName());
     return pieceSelectionStrategy;
   }
 }
@@ -1,6 +1,7 @@
 package it.unibo.tetraj.model.piece.selection;
 
 import it.unibo.tetraj.model.piece.AbstractTetromino;
+import it.unibo.tetraj.model.piece.TetrominoRegistry;
 
 /**
  * Strategy interface for selecting the next tetromino piece to spawn. Allows different piece
@@ -15,6 +16,24 @@ public interface PieceSelectionStrategy {
    */
   Class<? extends AbstractTetromino<?>> next();
 
+  /**
+   * Selects the next type of tetromino as an index into {@link
+   * TetrominoRegistry#getAvailableTypes()}. Strategies that draw indices natively should override
+   * this to avoid the lookup.
+   *
+   * @return The registry index of the tetromino to instantiate
+   * @throws IllegalStateException if the selected type is not registered
+   */
+  default int nextIndex() {
+    final Class<? extends AbstractTetromino<?>> type = next();
+    final int index = TetrominoRegistry.getInstance().getAvailableTypes().indexOf(type);
+
+    if (index < 0) {
+      throw new IllegalStateException("Unregistered tetromino type " + type.getSimpleName());
+    }
+    return index;
+  }
+
   /**
    * Resets the strategy to its initial state. Useful for strategies that maintain internal state
    * (e.g., bag randomizer, sequences).
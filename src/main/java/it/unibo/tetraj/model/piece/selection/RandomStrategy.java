@@ -5,7 +5,7 @@ import it.unibo.tetraj.model.piece.TetrominoRegistry;
 import it.unibo.tetraj.util.Logger;
 import it.unibo.tetraj.util.LoggerFactory;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * Pure random piece selection strategy, as used in classic Tetris versions (NES, Game Boy). Each
@@ -26,10 +26,29 @@ public final class RandomStrategy implements PieceSelectionStrategy {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(RandomStrategy.class);
   private final List<Class<? extends AbstractTetromino<?>>> availableTypes;
-  private final Random random = new Random();
+  private final SplittableRandom random;
 
-  /** Creates a new random selection strategy. */
+  /** Creates a new random selection strategy with an unpredictable seed. */
   public RandomStrategy() {
+    this(new SplittableRandom());
+  }
+
+  /**
+   * Creates a new random selection strategy whose sequence is fully determined by the seed.
+   *
+   * @param seed The seed of the random stream
+   */
+  public RandomStrategy(final long seed) {
+    this(new SplittableRandom(seed));
+  }
+
+  /**
+   * Creates a new random selection strategy drawing from the given stream.
+   *
+   * @param random The random stream, owned by this strategy from now on
+   */
+  RandomStrategy(final SplittableRandom random) {
+    this.random = random;
     this.availableTypes = TetrominoRegistry.getInstance().getAvailableTypes();
     LOGGER.debug("Initialized with {} piece types", availableTypes.size());
   }
@@ -37,11 +56,13 @@ public final class RandomStrategy implements PieceSelectionStrategy {
   /** {@inheritDoc} */
   @Override
   public Class<? extends AbstractTetromino<?>> next() {
-    final int index = random.nextInt(availableTypes.size());
-    final Class<? extends AbstractTetromino<?>> currentPiece = availableTypes.get(index);
+    return availableTypes.get(nextIndex());
+  }
 
-    LOGGER.debug("Spawning piece {}", currentPiece.getSimpleName());
-    return currentPiece;
+  /** {@inheritDoc} */
+  @Override
+  public int nextIndex() {
+    return random.nextInt(availableTypes.size());
   }
 
   /** {@inheritDoc} */
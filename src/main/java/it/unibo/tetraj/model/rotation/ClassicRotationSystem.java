@@ -0,0 +1,13 @@
+package it.unibo.tetraj.model.rotation;
+
+import it.unibo.tetraj.model.piece.PieceType;
+
+/** Rotation without kicks, as in Nintendo NES Tetris: a piece turns in place or not at all. */
+public final class ClassicRotationSystem implements RotationSystem {
+
+  /** {@inheritDoc} */
+  @Override
+  public KickTable getKickTable(final PieceType type) {
+    return KickTable.NONE;
+  }
+}
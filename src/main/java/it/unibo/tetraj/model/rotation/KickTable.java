@@ -0,0 +1,130 @@
+package it.unibo.tetraj.model.rotation;
+
+import it.unibo.tetraj.model.Board;
+import it.unibo.tetraj.model.piece.PieceState;
+
+/**
+ * Precompiled kick offsets of one piece type. For every rotation state and direction the table
+ * holds the offsets tried, in order, after turning the piece; the first one that fits wins. Offsets
+ * are stored both as coordinates and as packed {@link PieceState} displacements, so a rotation
+ * costs one addition and one mask test per kick and never allocates.
+ *
+ * <p>Instances are immutable and shared.
+ */
+public final class KickTable {
+
+  /** Returned by {@link #rotate(Board, long, int)} when no kick fits. */
+  public static final long NO_ROTATION = -1L;
+
+  private static final int ROTATIONS = 4;
+  private static final int DIRECTIONS = 2;
+
+  /** Table that only rotates in place. */
+  public static final KickTable NONE = compile(new int[ROTATIONS * DIRECTIONS][1][2]);
+
+  private final int kickCount;
+  private final int[] xs;
+  private final int[] ys;
+  private final long[] deltas;
+
+  private KickTable(final int kickCount, final int[] xs, final int[] ys) {
+    this.kickCount = kickCount;
+    this.xs = xs;
+    this.ys = ys;
+    this.deltas = new long[xs.length];
+    for (int i = 0; i < xs.length; i++) {
+      deltas[i] = PieceState.moved(0, xs[i], ys[i]);
+    }
+  }
+
+  /**
+   * Compiles kick offsets into a table.
+   *
+   * @param offsets The offsets indexed by transition, kick and axis. Transition {@code 2 * from}
+   *     turns clockwise from rotation {@code from}, transition {@code 2 * from + 1}
+   *     counterclockwise; each kick is an {x, y} pair with y growing downwards
+   * @return The compiled table
+   * @throws IllegalArgumentException if there are not 8 transitions with the same number of kicks
+   */
+  public static KickTable compile(final int[][][] offsets) {
+    if (offsets.length != ROTATIONS * DIRECTIONS || offsets[0].length == 0) {
+      throw new IllegalArgumentException("A kick table needs 8 transitions with at least one kick");
+    }
+
+    final int kickCount = offsets[0].length;
+    final int[] xs = new int[offsets.length * kickCount];
+    final int[] ys = new int[xs.length];
+
+    for (int transition = 0; transition < offsets.length; transition++) {
+      if (offsets[transition].length != kickCount) {
+        throw new IllegalArgumentException("Every transition needs " + kickCount + " kicks");
+      }
+      for (int kick = 0; kick < kickCount; kick++) {
+        xs[transition * kickCount + kick] = offsets[transition][kick][0];
+        ys[transition * kickCount + kick] = offsets[transition][kick][1];
+      }
+    }
+    return new KickTable(kickCount, xs, ys);
+  }
+
+  /**
+   * Gets the number of kicks tried per rotation, in-place rotation included.
+   *
+   * @return The kick count
+   */
+  public int getKickCount() {
+    return kickCount;
+  }
+
+  /**
+   * Gets the horizontal offset of a kick.
+   *
+   * @param from The rotation state before turning
+   * @param turns 1 to turn clockwise, -1 counterclockwise
+   * @param index The kick index, from 0 to {@link #getKickCount()} exclusive
+   * @return The column offset
+   */
+  public int getKickX(final int from, final int turns, final int index) {
+    return xs[offset(from, turns) + index];
+  }
+
+  /**
+   * Gets the vertical offset of a kick.
+   *
+   * @param from The rotation state before turning
+   * @param turns 1 to turn clockwise, -1 counterclockwise
+   * @param index The kick index, from 0 to {@link #getKickCount()} exclusive
+   * @return The row offset, negative upwards
+   */
+  public int getKickY(final int from, final int turns, final int index) {
+    return ys[offset(from, turns) + index];
+  }
+
+  /**
+   * Turns a piece by a quarter, trying each kick in order.
+   *
+   * @param board The board to test against
+   * @param state The packed piece state
+   * @param turns 1 to turn clockwise, -1 counterclockwise
+   * @return The rotated and kicked state, or {@link #NO_ROTATION} if no kick fits
+   */
+  public long rotate(final Board board, final long state, final int turns) {
+    final long rotated = PieceState.rotated(state, turns);
+    final int base = offset(PieceState.rotation(state), turns);
+
+    for (int i = base; i < base + kickCount; i++) {
+      final long kicked = rotated + deltas[i];
+      if (board.isValidPosition(kicked)) {
+        return kicked;
+      }
+    }
+    return NO_ROTATION;
+  }
+
+  private int offset(final int from, final int turns) {
+    if (turns != 1 && turns != -1) {
+      throw new IllegalArgumentException("Kicks are defined for quarter turns only: " + turns);
+    }
+    return (from * DIRECTIONS + (turns > 0 ? 0 : 1)) * kickCount;
+  }
+}
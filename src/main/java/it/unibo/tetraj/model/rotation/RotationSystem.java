@@ -0,0 +1,33 @@
+package it.unibo.tetraj.model.rotation;
+
+import it.unibo.tetraj.model.Board;
+import it.unibo.tetraj.model.piece.PieceState;
+import it.unibo.tetraj.model.piece.PieceType;
+
+/**
+ * Rules deciding where a piece ends up when it rotates. Implementations are table driven: each
+ * piece type has a precompiled {@link KickTable}, shared by the game rules and the move generator
+ * so searched placements are exactly the ones a player can reach.
+ */
+public interface RotationSystem {
+
+  /**
+   * Gets the kick table of a piece type.
+   *
+   * @param type The piece type
+   * @return The kick table, never null
+   */
+  KickTable getKickTable(PieceType type);
+
+  /**
+   * Turns a piece by a quarter according to this system.
+   *
+   * @param board The board to test against
+   * @param state The packed piece state
+   * @param turns 1 to turn clockwise, -1 counterclockwise
+   * @return The rotated and kicked state, or {@link KickTable#NO_ROTATION} if no kick fits
+   */
+  default long rotate(final Board board, final long state, final int turns) {
+    return getKickTable(PieceState.type(state)).rotate(board, state, turns);
+  }
+}
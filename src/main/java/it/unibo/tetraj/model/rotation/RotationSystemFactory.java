@@ -0,0 +1,66 @@
+package it.unibo.tetraj.model.rotation;
+
+import it.unibo.tetraj.util.ApplicationProperties;
+import it.unibo.tetraj.util.Logger;
+import it.unibo.tetraj.util.LoggerFactory;
+import java.util.Locale;
+
+/**
+ * Factory for creating rotation systems based on application configuration. Reads the system type
+ * from application properties and instantiates the appropriate implementation.
+ */
+public final class RotationSystemFactory {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(RotationSystemFactory.class);
+  private static final String PROPERTY_KEY = "game.rotationSystem";
+  private static final String DEFAULT_SYSTEM = "srs";
+
+  /** Private constructor to prevent instantiation. */
+  private RotationSystemFactory() {
+    throw new UnsupportedOperationException("Factory class cannot be instantiated");
+  }
+
+  /**
+   * Creates a rotation system based on application configuration. Reads from the property
+   * "game.rotationSystem" which can be "srs" or "classic". Defaults to SRS if property is not set
+   * or invalid.
+   *
+   * @return The appropriate RotationSystem implementation
+   */
+  public static RotationSystem create() {
+    final ApplicationProperties properties = ApplicationProperties.getInstance();
+    final String systemName = properties.getProperty(PROPERTY_KEY, DEFAULT_SYSTEM);
+    return create(systemName);
+  }
+
+  /**
+   * Creates a rotation system based on the provided system name.
+   *
+   * @param systemName The system name ("srs" or "classic")
+   * @return The appropriate RotationSystem implementation
+   */
+  public static RotationSystem create(final String systemName) {
+    final String systemNameToLoad = (systemName == null) ? DEFAULT_SYSTEM : systemName;
+    final RotationSystem rotationSystem;
+
+    switch (systemNameToLoad.toLowerCase(Locale.ROOT).trim()) {
+      case "srs":
+        rotationSystem = new SrsRotationSystem();
+        break;
+
+      case "classic":
+        rotationSystem = new ClassicRotationSystem();
+        break;
+
+      default:
+        rotationSystem = new SrsRotationSystem();
+        LOGGER.warn(
+            "Unknown rotation system '{}', using default: {}",
+            systemName,
+            rotationSystem.getClass().getSimpleName());
+        return rotationSystem;
+    }
+    LOGGER.info("Using {} rotation system", rotationSystem.getClass().getSimpleName());
+    return rotationSystem;
+  }
+}
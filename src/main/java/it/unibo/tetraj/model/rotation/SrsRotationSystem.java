@@ -0,0 +1,55 @@
+package it.unibo.tetraj.model.rotation;
+
+import it.unibo.tetraj.model.piece.PieceType;
+
+/**
+ * Super Rotation System of the Tetris Guideline. J, L, S, T and Z share one set of five kicks per
+ * transition, I has its own and O never kicks. Offsets are the Guideline ones with the y axis
+ * flipped, since board rows grow downwards.
+ */
+public final class SrsRotationSystem implements RotationSystem {
+
+  /* Transitions in KickTable order: 0->R, 0->L, R->2, R->0, 2->L, 2->R, L->0, L->2. */
+  private static final KickTable JLSTZ_KICKS =
+      KickTable.compile(
+          new int[][][] {
+            {{0, 0}, {-1, 0}, {-1, -1}, {0, 2}, {-1, 2}},
+            {{0, 0}, {1, 0}, {1, -1}, {0, 2}, {1, 2}},
+            {{0, 0}, {1, 0}, {1, 1}, {0, -2}, {1, -2}},
+            {{0, 0}, {1, 0}, {1, 1}, {0, -2}, {1, -2}},
+            {{0, 0}, {1, 0}, {1, -1}, {0, 2}, {1, 2}},
+            {{0, 0}, {-1, 0}, {-1, -1}, {0, 2}, {-1, 2}},
+            {{0, 0}, {-1, 0}, {-1, 1}, {0, -2}, {-1, -2}},
+            {{0, 0}, {-1, 0}, {-1, 1}, {0, -2}, {-1, -2}},
+          });
+  private static final KickTable I_KICKS =
+      KickTable.compile(
+          new int[][][] {
+            {{0, 0}, {-2, 0}, {1, 0}, {-2, 1}, {1, -2}},
+            {{0, 0}, {-1, 0}, {2, 0}, {-1, -2}, {2, 1}},
+            {{0, 0}, {-1, 0}, {2, 0}, {-1, -2}, {2, 1}},
+            {{0, 0}, {2, 0}, {-1, 0}, {2, -1}, {-1, 2}},
+            {{0, 0}, {2, 0}, {-1, 0}, {2, -1}, {-1, 2}},
+            {{0, 0}, {1, 0}, {-2, 0}, {1, 2}, {-2, -1}},
+            {{0, 0}, {1, 0}, {-2, 0}, {1, 2}, {-2, -1}},
+            {{0, 0}, {-2, 0}, {1, 0}, {-2, 1}, {1, -2}},
+          });
+  private static final KickTable[] TABLES = new KickTable[PieceType.values().length];
+
+  static {
+    for (final PieceType type : PieceType.values()) {
+      TABLES[type.ordinal()] =
+          switch (type) {
+            case I -> I_KICKS;
+            case O -> KickTable.NONE;
+            default -> JLSTZ_KICKS;
+          };
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public KickTable getKickTable(final PieceType type) {
+    return TABLES[type.ordinal()];
+  }
+}
@@ -0,0 +1,506 @@
+package it.unibo.tetraj.model.search;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import it.unibo.tetraj.model.Board;
+import it.unibo.tetraj.model.evaluator.BoardEvaluator;
+import it.unibo.tetraj.model.evaluator.EvaluatorFactory;
+import it.unibo.tetraj.model.piece.AbstractTetromino;
+import it.unibo.tetraj.model.piece.PieceState;
+import it.unibo.tetraj.model.rotation.RotationSystem;
+import it.unibo.tetraj.model.rotation.SrsRotationSystem;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Plans the placement of the current piece by looking ahead over the visible queue and the hold
+ * slot with a beam search.
+ *
+ * <p>Each layer places one more piece: every board in the beam is expanded with all the placements
+ * of its next piece, with and without holding, and only the best {@code beamWidth} distinct boards
+ * are kept. Layers are expanded in parallel on a fork/join pool, one board per task, and board
+ * evaluations are cached in a shared {@link TranspositionTable}. The search stops at the maximum
+ * depth, when the queue runs out or when the time budget expires; a layer cut by the budget is
+ * discarded unless it is the first one, so the answer always comes from complete layers.
+ *
+ * <p>With a time budget the move depends on how fast the search runs, e.g. on the load of the pool.
+ * A planner built {@link Builder#withoutTimeBudget() without a time budget} always searches to the
+ * maximum depth, so its move depends on the position alone: use it where games must be
+ * reproducible, e.g. in batch simulations.
+ *
+ * <p>The planner is thread-safe: several games may plan at once on the same instance.
+ */
+public final class BeamSearchPlanner {
+
+  private static final long GOLDEN_GAMMA = 0x9E37_79B9_7F4A_7C15L;
+  private static final int NODES_PER_TASK = 1;
+  private static final int PRIME = 31;
+  private static final long NO_PIECE = -1L;
+  private final BoardEvaluator evaluator;
+  private final int beamWidth;
+  private final int maxDepth;
+  private final boolean timed;
+  private final long timeBudgetNanos;
+  private final ForkJoinPool pool;
+  private final TranspositionTable evaluations;
+  private final RotationSystem rotationSystem;
+
+  private BeamSearchPlanner(final Builder builder) {
+    evaluator = builder.evaluator;
+    beamWidth = builder.beamWidth;
+    maxDepth = builder.maxDepth;
+    timed = builder.timeBudget != null;
+    timeBudgetNanos = timed ? builder.timeBudget.toNanos() : 0;
+    pool = builder.pool;
+    evaluations = builder.evaluations;
+    rotationSystem = builder.rotationSystem;
+  }
+
+  /**
+   * Creates a new builder with the defaults: the configured evaluator, a beam of 16 boards, 3
+   * pieces of lookahead, a 50 ms budget, the common fork/join pool, a 64k entry evaluation cache
+   * and the Super Rotation System.
+   *
+   * @return A new builder
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Plans the move of the current piece.
+   *
+   * @param board The game board, left untouched
+   * @param current The current piece at its current position
+   * @param preview The next pieces in spawn order, as shown to the player
+   * @param held The held piece, or null
+   * @param holdAvailable Whether the current piece may still be held
+   * @return The best move found and the search statistics
+   */
+  public SearchResult plan(
+      final Board board,
+      final AbstractTetromino<?> current,
+      final List<AbstractTetromino<?>> preview,
+      final AbstractTetromino<?> held,
+      final boolean holdAvailable) {
+    final long start = System.nanoTime();
+    final long[] queue = preview.stream().mapToLong(PieceState::of).toArray();
+    final SearchContext context = new SearchContext(queue, timed, start + timeBudgetNanos, board);
+    final long heldState = held == null ? NO_PIECE : PieceState.of(held);
+    List<SearchNode> beam =
+        List.of(
+            new SearchNode(
+                board, PieceState.of(current), true, 0, heldState, holdAvailable, 0, 0, null));
+    SearchNode best = null;
+    int depth = 0;
+
+    evaluations.newSearch();
+    while (depth < maxDepth && !beam.isEmpty()) {
+      final List<SearchNode> children = pool.invoke(new ExpandTask(context, beam, 0, beam.size()));
+      if (children.isEmpty() || context.timedOut.get() && best != null) {
+        break;
+      }
+      beam = selectBeam(children);
+      best = beam.get(0);
+      depth++;
+      if (context.timedOut.get() || beam.stream().allMatch(node -> node.current == NO_PIECE)) {
+        break;
+      }
+    }
+
+    final SearchStatistics statistics =
+        new SearchStatistics(
+            context.nodes.sum(), depth, System.nanoTime() - start, context.timedOut.get());
+
+    return best == null
+        ? new SearchResult(null, Double.NEGATIVE_INFINITY, statistics)
+        : new SearchResult(best.rootMove, best.score, statistics);
+  }
+
+  /**
+   * Gets the evaluation cache, e.g. to read its hit rate.
+   *
+   * @return The cache shared by every search of this planner
+   */
+  @SuppressFBWarnings(
+      value = "EI_EXPOSE_REP",
+      justification = "The cache is exposed for its statistics; it is thread-safe by design")
+  public TranspositionTable getEvaluationCache() {
+    return evaluations;
+  }
+
+  /* Keeps the best boards, skipping the ones already reached through another move order. */
+  private List<SearchNode> selectBeam(final List<SearchNode> children) {
+    final List<SearchNode> sorted = new ArrayList<>(children);
+    final List<SearchNode> selected = new ArrayList<>(beamWidth);
+    final Set<Long> seen = new HashSet<>();
+
+    sorted.sort(Comparator.comparingDouble((SearchNode node) -> node.score).reversed());
+    for (final SearchNode node : sorted) {
+      if (seen.add(node.stateKey())) {
+        selected.add(node);
+        if (selected.size() == beamWidth) {
+          break;
+        }
+      }
+    }
+    return selected;
+  }
+
+  private void expand(
+      final SearchContext context,
+      final MoveGenerator generator,
+      final SearchNode node,
+      final List<SearchNode> children) {
+    if (node.current == NO_PIECE) {
+      // The visible queue is exhausted on this line: it competes as it is
+      children.add(node);
+      return;
+    }
+    final int queueIndex = node.queueIndex;
+
+    expandWith(context, generator, node, node.current, false, queueIndex, node.held, children);
+    if (!node.holdAvailable) {
+      return;
+    }
+    if (node.held != NO_PIECE) {
+      expandWith(context, generator, node, node.held, true, queueIndex, node.current, children);
+    } else if (node.queueIndex < context.preview.length) {
+      expandWith(
+          context,
+          generator,
+          node,
+          context.preview[node.queueIndex],
+          true,
+          node.queueIndex + 1,
+          node.current,
+          children);
+    }
+  }
+
+  private void expandWith(
+      final SearchContext context,
+      final MoveGenerator generator,
+      final SearchNode node,
+      final long piece,
+      final boolean hold,
+      final int queueIndex,
+      final long heldAfter,
+      final List<SearchNode> children) {
+    final Board board = node.board;
+    // Only the root piece is somewhere else than at spawn
+    final boolean atSpawn = hold || !node.atRoot;
+    final List<Placement> placements =
+        generator.generate(board, atSpawn ? atSpawn(board, piece) : piece);
+    final long next = queueIndex < context.preview.length ? context.preview[queueIndex] : NO_PIECE;
+
+    for (final Placement placement : placements) {
+      final Board child = new Board(board);
+
+      child.place(
+          PieceState.of(
+              PieceState.type(piece), placement.rotation(), placement.x(), placement.y()));
+
+      final int lines = node.lines + child.clearCompletedLines();
+      final boolean toppedOut = next != NO_PIECE && !child.isValidPosition(atSpawn(child, next));
+      final double score = toppedOut ? Double.NEGATIVE_INFINITY : evaluate(child, lines);
+      final PlannedMove rootMove =
+          node.rootMove == null ? new PlannedMove(hold, placement) : node.rootMove;
+
+      children.add(
+          new SearchNode(
+              child, next, false, queueIndex + 1, heldAfter, true, lines, score, rootMove));
+    }
+    context.nodes.add(placements.size());
+  }
+
+  /* Scores are rounded to float whether cached or not, so results never depend on timing. */
+  private double evaluate(final Board board, final int lines) {
+    final long key = board.getZobristHash() ^ (lines + 1) * GOLDEN_GAMMA;
+    final float cached = evaluations.probe(key);
+
+    if (!Float.isNaN(cached)) {
+      return cached;
+    }
+
+    final float score = (float) evaluator.evaluate(board, lines);
+
+    evaluations.store(key, score, 0);
+    return score;
+  }
+
+  /* Moves a piece where GameCore spawns it: centered at the top, in its current rotation. */
+  private static long atSpawn(final Board board, final long piece) {
+    final int width = PieceState.shapeTable(piece).getMatrixWidth(PieceState.rotation(piece));
+
+    return PieceState.withPosition(piece, (board.getWidth() - width) / 2, 0);
+  }
+
+  /** Per-search shared state. */
+  private static final class SearchContext {
+
+    private final long[] preview;
+    private final boolean timed;
+    private final long deadline;
+    private final int boardWidth;
+    private final int boardHeight;
+    private final AtomicBoolean timedOut = new AtomicBoolean();
+    private final LongAdder nodes = new LongAdder();
+
+    SearchContext(
+        final long[] preview, final boolean timed, final long deadline, final Board board) {
+      this.preview = preview;
+      this.timed = timed;
+      this.deadline = deadline;
+      this.boardWidth = board.getWidth();
+      this.boardHeight = board.getHeight();
+    }
+
+    boolean expired() {
+      if (timed && System.nanoTime() - deadline > 0) {
+        timedOut.set(true);
+      }
+      return timedOut.get();
+    }
+  }
+
+  /**
+   * A board in the beam. Pieces are packed {@link PieceState} values; the queue index points at
+   * the preview piece that follows the current one, and {@code current} is {@code NO_PIECE} once
+   * the visible queue is exhausted.
+   */
+  private static final class SearchNode {
+
+    private final Board board;
+    private final long current;
+    private final boolean atRoot;
+    private final int queueIndex;
+    private final long held;
+    private final boolean holdAvailable;
+    private final int lines;
+    private final double score;
+    private final PlannedMove rootMove;
+
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    SearchNode(
+        final Board board,
+        final long current,
+        final boolean atRoot,
+        final int queueIndex,
+        final long held,
+        final boolean holdAvailable,
+        final int lines,
+        final double score,
+        final PlannedMove rootMove) {
+      this.board = board;
+      this.current = current;
+      this.atRoot = atRoot;
+      this.queueIndex = queueIndex;
+      this.held = held;
+      this.holdAvailable = holdAvailable;
+      this.lines = lines;
+      this.score = score;
+      this.rootMove = rootMove;
+    }
+
+    long stateKey() {
+      final long pieces = (current * PRIME + held) * PRIME + queueIndex;
+      return board.getZobristHash() ^ pieces * GOLDEN_GAMMA;
+    }
+  }
+
+  /** Expands a range of beam nodes, one node per leaf task. */
+  @SuppressFBWarnings(
+      value = {"SE_BAD_FIELD", "SE_INNER_CLASS"},
+      justification = "Fork/join tasks are never serialized")
+  @SuppressWarnings("serial")
+  private final class ExpandTask extends RecursiveTask<List<SearchNode>> {
+
+    private static final long serialVersionUID = 1L;
+    private final SearchContext context;
+    private final List<SearchNode> beam;
+    private final int from;
+    private final int to;
+
+    ExpandTask(
+        final SearchContext context, final List<SearchNode> beam, final int from, final int to) {
+      super();
+      this.context = context;
+      this.beam = beam;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected List<SearchNode> compute() {
+      if (to - from <= NODES_PER_TASK) {
+        final List<SearchNode> children = new ArrayList<>();
+        final MoveGenerator generator =
+            new MoveGenerator(context.boardWidth, context.boardHeight, rotationSystem);
+        // Every leaf expands at least one node, so the first layer always yields a move
+        for (int i = from; i < to; i++) {
+          expand(context, generator, beam.get(i), children);
+          if (context.expired()) {
+            break;
+          }
+        }
+        return children;
+      }
+
+      final int middle = (from + to) >>> 1;
+      final ExpandTask right = new ExpandTask(context, beam, middle, to);
+
+      right.fork();
+
+      final List<SearchNode> children =
+          new ArrayList<>(new ExpandTask(context, beam, from, middle).compute());
+
+      children.addAll(right.join());
+      return children;
+    }
+  }
+
+  /** Builder for {@link BeamSearchPlanner}. */
+  public static final class Builder {
+
+    private static final int DEFAULT_BEAM_WIDTH = 16;
+    private static final int DEFAULT_MAX_DEPTH = 3;
+    private static final Duration DEFAULT_TIME_BUDGET = Duration.ofMillis(50);
+    private static final int DEFAULT_CACHE_ENTRIES = 1 << 16;
+    private BoardEvaluator evaluator;
+    private int beamWidth = DEFAULT_BEAM_WIDTH;
+    private int maxDepth = DEFAULT_MAX_DEPTH;
+    private Duration timeBudget = DEFAULT_TIME_BUDGET;
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+    private TranspositionTable evaluations;
+    private RotationSystem rotationSystem = new SrsRotationSystem();
+
+    /** Private constructor to enforce builder pattern. */
+    private Builder() {
+      // Empty constructor
+    }
+
+    /**
+     * Sets the board evaluator.
+     *
+     * @param boardEvaluator The stateless evaluator
+     * @return This builder for chaining
+     */
+    public Builder withEvaluator(final BoardEvaluator boardEvaluator) {
+      this.evaluator = Objects.requireNonNull(boardEvaluator);
+      return this;
+    }
+
+    /**
+     * Sets how many boards survive each layer.
+     *
+     * @param width The beam width
+     * @return This builder for chaining
+     */
+    public Builder withBeamWidth(final int width) {
+      this.beamWidth = width;
+      return this;
+    }
+
+    /**
+     * Sets how many pieces to look ahead, the current one included.
+     *
+     * @param depth The maximum depth
+     * @return This builder for chaining
+     */
+    public Builder withMaxDepth(final int depth) {
+      this.maxDepth = depth;
+      return this;
+    }
+
+    /**
+     * Sets the hard time budget of a search.
+     *
+     * @param budget The budget per planned move
+     * @return This builder for chaining
+     */
+    public Builder withTimeBudget(final Duration budget) {
+      this.timeBudget = Objects.requireNonNull(budget);
+      return this;
+    }
+
+    /**
+     * Removes the time budget: every search runs to the maximum depth, however long it takes, and
+     * always finds the same move for the same position.
+     *
+     * @return This builder for chaining
+     */
+    public Builder withoutTimeBudget() {
+      this.timeBudget = null;
+      return this;
+    }
+
+    /**
+     * Sets the pool expanding the layers.
+     *
+     * @param forkJoinPool The pool
+     * @return This builder for chaining
+     */
+    public Builder withPool(final ForkJoinPool forkJoinPool) {
+      this.pool = Objects.requireNonNull(forkJoinPool);
+      return this;
+    }
+
+    /**
+     * Sets the evaluation cache, e.g. to share it between planners.
+     *
+     * @param table The transposition table
+     * @return This builder for chaining
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP2",
+        justification = "The cache is meant to be shared; it is thread-safe by design")
+    public Builder withEvaluationCache(final TranspositionTable table) {
+      this.evaluations = Objects.requireNonNull(table);
+      return this;
+    }
+
+    /**
+     * Sets the rotation rules, which must match the ones the game is played with.
+     *
+     * @param system The rotation system
+     * @return This builder for chaining
+     */
+    public Builder withRotationSystem(final RotationSystem system) {
+      this.rotationSystem = Objects.requireNonNull(system);
+      return this;
+    }
+
+    /**
+     * Builds the planner.
+     *
+     * @return A new BeamSearchPlanner
+     * @throws IllegalArgumentException if the beam width, depth or budget is not positive
+     */
+    public BeamSearchPlanner build() {
+      if (beamWidth <= 0
+          || maxDepth <= 0
+          || timeBudget != null && (timeBudget.isNegative() || timeBudget.isZero())) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Invalid planner: beamWidth=%d, maxDepth=%d, timeBudget=%s",
+                beamWidth, maxDepth, timeBudget));
+      }
+      if (evaluator == null) {
+        evaluator = EvaluatorFactory.create();
+      }
+      if (evaluations == null) {
+        evaluations = new TranspositionTable(DEFAULT_CACHE_ENTRIES, ReplacementPolicy.ALWAYS);
+      }
+      return new BeamSearchPlanner(this);
+    }
+  }
+}
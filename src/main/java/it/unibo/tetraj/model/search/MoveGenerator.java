@@ -0,0 +1,364 @@
+package it.unibo.tetraj.model.search;
+
+import it.unibo.tetraj.model.Board;
+import it.unibo.tetraj.model.piece.AbstractTetromino;
+import it.unibo.tetraj.model.piece.PieceState;
+import it.unibo.tetraj.model.piece.PieceType;
+import it.unibo.tetraj.model.piece.ShapeTable;
+import it.unibo.tetraj.model.rotation.KickTable;
+import it.unibo.tetraj.model.rotation.RotationSystem;
+import it.unibo.tetraj.model.rotation.SrsRotationSystem;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Enumerates every final placement a piece can reach from its current position, tucks and wall
+ * kicks included.
+ *
+ * <p>The search runs over the (x, y, rotation) graph whose edges are the player inputs. Moving down
+ * is free and every other input costs one, so a 0-1 breadth-first search finds, for each resting
+ * position, the path with the fewest key presses. Collision checks use the board row masks and
+ * settled states are tracked in a bitset. Placements that cover the same cells through different
+ * rotations (O, I, S, Z) are reported once.
+ *
+ * <p>A piece far above the stack first drops through the empty rows, where every position plays
+ * alike, so the search only spans the rows just above the stack and below: its cost depends on the
+ * stack height, not on the board height. A first pass only moves the piece in the empty rows, so
+ * its paths replay from the spawn height; a second pass finds the rest, such as tucks, whose paths
+ * start with the skipped drop.
+ *
+ * <p>Buffers are reused across calls, so an instance is cheap to query repeatedly but must not be
+ * shared between threads.
+ */
+public final class MoveGenerator {
+
+  /** Rows above the board that a piece may reach through floor kicks. */
+  private static final int ROWS_ABOVE_BOARD = 4;
+  private static final int NO_PARENT = -1;
+  private static final MoveInput[] INPUTS = MoveInput.values();
+  private static final int UNREACHED = Integer.MAX_VALUE;
+  private static final int WORD_SHIFT = 6;
+  // Rows kept between a dropped start and the stack: a shape matrix and its kicks stay above it
+  private static final int DROP_MARGIN = 8;
+  private final int width;
+  private final int height;
+  private final RotationSystem rotationSystem;
+  private int topRow;
+  private int spanY;
+  private KickTable kicks = KickTable.NONE;
+  private long[] settled = new long[0];
+  private long[] reported = new long[0];
+  private int[] distances = new int[0];
+  private int[] parents = new int[0];
+  private byte[] parentInputs = new byte[0];
+  private int[] deque = new int[0];
+
+  /**
+   * Creates a generator for boards of the given size, rotating with the Super Rotation System.
+   *
+   * @param width The board width
+   * @param height The board height
+   */
+  public MoveGenerator(final int width, final int height) {
+    this(width, height, new SrsRotationSystem());
+  }
+
+  /**
+   * Creates a generator for boards of the given size.
+   *
+   * @param width The board width
+   * @param height The board height
+   * @param rotationSystem The rotation rules, the same the game is played with
+   */
+  public MoveGenerator(final int width, final int height, final RotationSystem rotationSystem) {
+    this.width = width;
+    this.height = height;
+    this.rotationSystem = Objects.requireNonNull(rotationSystem);
+  }
+
+  /**
+   * Generates the placements of a piece from its current position and rotation.
+   *
+   * @param board The board to search
+   * @param piece The piece, typically just spawned
+   * @return The reachable placements, empty if the piece does not fit where it is
+   * @throws IllegalArgumentException if the piece is not one of the seven tetrominoes
+   */
+  public List<Placement> generate(final Board board, final AbstractTetromino<?> piece) {
+    return generate(board, PieceType.of(piece), piece.getRotation(), piece.getX(), piece.getY());
+  }
+
+  /**
+   * Generates the placements of a packed piece state.
+   *
+   * @param board The board to search
+   * @param state The start state, see {@link PieceState}
+   * @return The reachable placements, empty if the start position is not valid
+   */
+  public List<Placement> generate(final Board board, final long state) {
+    return generate(
+        board,
+        PieceState.type(state),
+        PieceState.rotation(state),
+        PieceState.x(state),
+        PieceState.y(state));
+  }
+
+  /**
+   * Generates the placements of a piece type from a start position.
+   *
+   * @param board The board to search
+   * @param type The piece type
+   * @param rotation The start rotation
+   * @param x The start column of the shape matrix left edge
+   * @param y The start row of the shape matrix top edge
+   * @return The reachable placements, empty if the start position is not valid
+   * @throws IllegalArgumentException if the board size differs from the generator one
+   */
+  public List<Placement> generate(
+      final Board board, final PieceType type, final int rotation, final int x, final int y) {
+    if (board.getWidth() != width || board.getHeight() != height) {
+      throw new IllegalArgumentException("Board size does not match the generator");
+    }
+
+    final ShapeTable shape = type.getShapeTable();
+    final List<Placement> placements = new ArrayList<>();
+
+    if (!board.isValidPosition(shape, rotation, x, y)) {
+      return placements;
+    }
+
+    final int startY = Math.max(y, height - board.getStackHeight() - DROP_MARGIN);
+
+    topRow = startY > y ? startY - ROWS_ABOVE_BOARD : -ROWS_ABOVE_BOARD;
+    spanY = height - topRow;
+
+    final int start = indexOf(shape, rotation, x, startY);
+
+    if (start < 0) {
+      return placements;
+    }
+    kicks = rotationSystem.getKickTable(type);
+    reset(shape.getRotationCount() * spanY * width);
+    if (startY > y) {
+      // Placements reached by moving in the empty rows and dropping replay from any height
+      search(board, shape, placements, start, startY, 0);
+      Arrays.fill(settled, 0L);
+      Arrays.fill(distances, UNREACHED);
+    }
+    // Other placements move on after a drop, as tucks do: the skipped drop is played first
+    search(board, shape, placements, start, Integer.MAX_VALUE, startY - y);
+    return placements;
+  }
+
+  /* 0-1 search from the start, moving only from rows up to the last move row. */
+  private void search(
+      final Board board,
+      final ShapeTable shape,
+      final List<Placement> placements,
+      final int start,
+      final int lastMoveRow,
+      final int droppedRows) {
+    final int capacity = deque.length;
+    int head = 0;
+    int size = 1;
+
+    distances[start] = 0;
+    parents[start] = NO_PARENT;
+    deque[0] = start;
+    while (size > 0) {
+      final int state = deque[head];
+      head = (head + 1) % capacity;
+      size--;
+      if (isSet(settled, state)) {
+        continue;
+      }
+      set(settled, state);
+
+      final int rot = rotationOf(state);
+      final int sx = xOf(shape, state);
+      final int sy = yOf(shape, state);
+      final int distance = distances[state];
+
+      // Free edge: one row down, pushed at the front
+      if (board.isValidPosition(shape, rot, sx, sy + 1)) {
+        final int next = indexOf(shape, rot, sx, sy + 1);
+        if (distance < distances[next]) {
+          distances[next] = distance;
+          parents[next] = state;
+          parentInputs[next] = (byte) MoveInput.SOFT_DROP.ordinal();
+          head = (head - 1 + capacity) % capacity;
+          deque[head] = next;
+          size++;
+        }
+      } else {
+        addPlacement(placements, shape, state, droppedRows);
+      }
+      if (sy > lastMoveRow) {
+        continue;
+      }
+
+      // Unit edges, pushed at the back
+      for (int input = 0; input < MoveInput.SOFT_DROP.ordinal(); input++) {
+        final int next = neighbour(board, shape, INPUTS[input], rot, sx, sy);
+        if (next >= 0 && distance + 1 < distances[next]) {
+          distances[next] = distance + 1;
+          parents[next] = state;
+          parentInputs[next] = (byte) input;
+          deque[(head + size) % capacity] = next;
+          size++;
+        }
+      }
+    }
+  }
+
+  private int neighbour(
+      final Board board,
+      final ShapeTable shape,
+      final MoveInput input,
+      final int rotation,
+      final int x,
+      final int y) {
+    final int rotations = shape.getRotationCount();
+
+    switch (input) {
+      case LEFT:
+        return validIndex(board, shape, rotation, x - 1, y);
+      case RIGHT:
+        return validIndex(board, shape, rotation, x + 1, y);
+      case ROTATE_CW:
+        return rotate(board, shape, rotation, 1, (rotation + 1) % rotations, x, y);
+      case ROTATE_CCW:
+        return rotate(board, shape, rotation, -1, (rotation + rotations - 1) % rotations, x, y);
+      default:
+        return -1;
+    }
+  }
+
+  /* Same order as the game: each kick of the rotation system, in place first. */
+  private int rotate(
+      final Board board,
+      final ShapeTable shape,
+      final int from,
+      final int turns,
+      final int rotation,
+      final int x,
+      final int y) {
+    for (int i = 0; i < kicks.getKickCount(); i++) {
+      final int kickX = x + kicks.getKickX(from, turns, i);
+      final int kickY = y + kicks.getKickY(from, turns, i);
+      if (board.isValidPosition(shape, rotation, kickX, kickY)) {
+        return indexOf(shape, rotation, kickX, kickY);
+      }
+    }
+    return -1;
+  }
+
+  private int validIndex(
+      final Board board, final ShapeTable shape, final int rotation, final int x, final int y) {
+    return board.isValidPosition(shape, rotation, x, y) ? indexOf(shape, rotation, x, y) : -1;
+  }
+
+  private void addPlacement(
+      final List<Placement> placements,
+      final ShapeTable shape,
+      final int state,
+      final int droppedRows) {
+    final int rotation = rotationOf(state);
+    final int x = xOf(shape, state);
+    final int y = yOf(shape, state);
+    final int footprint = indexOf(shape, shape.getCanonicalRotation(rotation), x, y, rotation);
+
+    if (isSet(reported, footprint)) {
+      return;
+    }
+    set(reported, footprint);
+
+    final List<MoveInput> path = new ArrayList<>();
+    int current = state;
+
+    while (parents[current] != NO_PARENT) {
+      path.add(INPUTS[parentInputs[current]]);
+      current = parents[current];
+    }
+    // Trailing soft drops end on the landing row, so one hard drop replaces them
+    int first = 0;
+    while (first < path.size() && path.get(first) == MoveInput.SOFT_DROP) {
+      first++;
+    }
+
+    final List<MoveInput> inputs = new ArrayList<>(path.size() - first + 1);
+
+    // Moves through the empty rows land the same from any height, unless the piece has to go down
+    // to a given row before moving on, as for a tuck: then the skipped drop is played first
+    if (path.subList(first, path.size()).contains(MoveInput.SOFT_DROP)) {
+      inputs.addAll(Collections.nCopies(droppedRows, MoveInput.SOFT_DROP));
+    }
+    for (int i = path.size() - 1; i >= first; i--) {
+      inputs.add(path.get(i));
+    }
+    inputs.add(MoveInput.HARD_DROP);
+    placements.add(new Placement(rotation, x, y, inputs));
+  }
+
+  private void reset(final int states) {
+    final int words = (states + Long.SIZE - 1) / Long.SIZE;
+
+    if (distances.length < states) {
+      settled = new long[words];
+      reported = new long[words];
+      distances = new int[states];
+      parents = new int[states];
+      parentInputs = new byte[states];
+      // Each state is pushed at most once per improvement: down and four unit edges
+      deque = new int[states * INPUTS.length];
+    } else {
+      Arrays.fill(settled, 0L);
+      Arrays.fill(reported, 0L);
+    }
+    Arrays.fill(distances, UNREACHED);
+  }
+
+  /* States are indexed by the bounding box corner, which is always inside the search area. */
+  private int indexOf(final ShapeTable shape, final int rotation, final int x, final int y) {
+    return indexOf(shape, rotation, x, y, rotation);
+  }
+
+  private int indexOf(
+      final ShapeTable shape,
+      final int indexRotation,
+      final int x,
+      final int y,
+      final int boxRotation) {
+    final int col = x + shape.getMinX(boxRotation);
+    final int row = y + shape.getMinY(boxRotation) - topRow;
+
+    if (col < 0 || col >= width || row < 0 || row >= spanY) {
+      return -1;
+    }
+    return (indexRotation * spanY + row) * width + col;
+  }
+
+  private int rotationOf(final int state) {
+    return state / (spanY * width);
+  }
+
+  private int xOf(final ShapeTable shape, final int state) {
+    return state % width - shape.getMinX(rotationOf(state));
+  }
+
+  private int yOf(final ShapeTable shape, final int state) {
+    return state / width % spanY + topRow - shape.getMinY(rotationOf(state));
+  }
+
+  private static boolean isSet(final long[] bits, final int index) {
+    return (bits[index >>> WORD_SHIFT] & (1L << index)) != 0;
+  }
+
+  private static void set(final long[] bits, final int index) {
+    bits[index >>> WORD_SHIFT] |= 1L << index;
+  }
+}
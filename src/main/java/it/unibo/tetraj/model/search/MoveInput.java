@@ -0,0 +1,36 @@
+package it.unibo.tetraj.model.search;
+
+import it.unibo.tetraj.model.GameCore;
+
+/** A single player input, as found on the path to a placement. */
+public enum MoveInput {
+  /** Move one cell left. */
+  LEFT,
+  /** Move one cell right. */
+  RIGHT,
+  /** Rotate clockwise, with wall kicks. */
+  ROTATE_CW,
+  /** Rotate counterclockwise, with wall kicks. */
+  ROTATE_CCW,
+  /** Move one row down without locking, as soft drop or gravity do. */
+  SOFT_DROP,
+  /** Drop to the landing row and lock. Always the last input of a path. */
+  HARD_DROP;
+
+  /**
+   * Replays this input on a game.
+   *
+   * @param core The game to drive
+   */
+  public void applyTo(final GameCore core) {
+    switch (this) {
+      case LEFT -> core.moveLeft();
+      case RIGHT -> core.moveRight();
+      case ROTATE_CW -> core.rotateClockwise();
+      case ROTATE_CCW -> core.rotateCounterClockwise();
+      case SOFT_DROP -> core.moveDown();
+      case HARD_DROP -> core.hardDrop();
+      default -> throw new IllegalStateException("Unknown input " + this);
+    }
+  }
+}
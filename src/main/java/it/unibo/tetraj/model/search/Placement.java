@@ -0,0 +1,26 @@
+package it.unibo.tetraj.model.search;
+
+import java.util.List;
+
+/**
+ * A final resting position of a piece together with the inputs that reach it from spawn.
+ *
+ * @param rotation The rotation state
+ * @param x The column of the shape matrix left edge
+ * @param y The row of the shape matrix top edge
+ * @param path The inputs from spawn, ending with {@link MoveInput#HARD_DROP}
+ */
+public record Placement(int rotation, int x, int y, List<MoveInput> path) {
+
+  /**
+   * Creates a placement.
+   *
+   * @param rotation The rotation state
+   * @param x The column of the shape matrix left edge
+   * @param y The row of the shape matrix top edge
+   * @param path The inputs from spawn, ending with {@link MoveInput#HARD_DROP}
+   */
+  public Placement {
+    path = List.copyOf(path);
+  }
+}
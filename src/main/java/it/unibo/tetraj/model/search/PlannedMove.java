@@ -0,0 +1,9 @@
+package it.unibo.tetraj.model.search;
+
+/**
+ * The move chosen by a planner for the current piece.
+ *
+ * @param hold Whether to hold first; the placement then applies to the piece that comes out
+ * @param placement The placement to reach, with its input path from spawn
+ */
+public record PlannedMove(boolean hold, Placement placement) {}
@@ -0,0 +1,12 @@
+package it.unibo.tetraj.model.search;
+
+/** Decides whether a {@link TranspositionTable} store may overwrite the entry in its slot. */
+public enum ReplacementPolicy {
+  /** Every store overwrites the slot: the most recent result always wins. */
+  ALWAYS,
+  /**
+   * A store overwrites the slot unless it holds a deeper result for another board from the current
+   * search generation. Entries from earlier generations are always replaced.
+   */
+  DEPTH_PREFERRED
+}
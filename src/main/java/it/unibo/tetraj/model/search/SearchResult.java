@@ -0,0 +1,52 @@
+package it.unibo.tetraj.model.search;
+
+import java.util.Optional;
+
+/** Outcome of a planner search: the best move found, if any, and the search statistics. */
+public final class SearchResult {
+
+  private final PlannedMove bestMove;
+  private final double score;
+  private final SearchStatistics statistics;
+
+  /**
+   * Creates a result.
+   *
+   * @param bestMove The best move, or null if the piece has no placement
+   * @param score The evaluation of the best line of play
+   * @param statistics The search statistics
+   */
+  public SearchResult(
+      final PlannedMove bestMove, final double score, final SearchStatistics statistics) {
+    this.bestMove = bestMove;
+    this.score = score;
+    this.statistics = statistics;
+  }
+
+  /**
+   * Gets the best move.
+   *
+   * @return The move, empty if the current piece cannot be placed
+   */
+  public Optional<PlannedMove> getBestMove() {
+    return Optional.ofNullable(bestMove);
+  }
+
+  /**
+   * Gets the evaluation of the best line of play.
+   *
+   * @return The score, negative infinity if no move was found or every line tops out
+   */
+  public double getScore() {
+    return score;
+  }
+
+  /**
+   * Gets the search statistics.
+   *
+   * @return The statistics
+   */
+  public SearchStatistics getStatistics() {
+    return statistics;
+  }
+}
@@ -0,0 +1,23 @@
+package it.unibo.tetraj.model.search;
+
+/**
+ * Measurements of one planner search.
+ *
+ * @param nodes The number of candidate boards generated
+ * @param depthReached The number of pieces looked ahead by the last completed beam layer
+ * @param elapsedNanos The duration of the search in nanoseconds
+ * @param timedOut Whether the time budget cut the search short
+ */
+public record SearchStatistics(long nodes, int depthReached, long elapsedNanos, boolean timedOut) {
+
+  private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+  /**
+   * Gets the search throughput.
+   *
+   * @return Nodes generated per second, 0 if no time was measured
+   */
+  public double nodesPerSecond() {
+    return elapsedNanos == 0 ? 0 : nodes * NANOS_PER_SECOND / elapsedNanos;
+  }
+}
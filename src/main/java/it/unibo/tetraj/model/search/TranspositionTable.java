@@ -0,0 +1,219 @@
+package it.unibo.tetraj.model.search;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-size cache of search results keyed by {@link it.unibo.tetraj.model.Board#getZobristHash()
+ * board hashes}, shared by any number of search threads without locks.
+ *
+ * <p>Entries live in a single primitive array, two longs per slot: the packed data and the key
+ * XOR-ed with that data. Readers check that both halves agree, so an entry torn by a concurrent
+ * writer reads as a miss instead of returning a score for the wrong board. Slots are chosen by the
+ * low bits of the key; a collision simply evicts or keeps the previous entry according to the
+ * {@link ReplacementPolicy}.
+ *
+ * <p>Each entry stores a {@code float} score, the search depth it was computed at (0 to 255) and
+ * the search generation, advanced with {@link #newSearch()} so that stale entries yield to fresh
+ * ones.
+ */
+public final class TranspositionTable {
+
+  /** Largest supported capacity, in entries. */
+  public static final int MAX_CAPACITY = 1 << 29;
+
+  /** Deepest depth an entry can record; deeper stores are clamped. */
+  public static final int MAX_DEPTH = 0xFF;
+
+  private static final long OCCUPIED = 1L;
+  private static final int DEPTH_SHIFT = 8;
+  private static final int GENERATION_SHIFT = 16;
+  private static final int GENERATION_MASK = 0xFFFF;
+  private static final int SCORE_SHIFT = 32;
+  private final AtomicLongArray slots;
+  private final int indexMask;
+  private final ReplacementPolicy policy;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder stores = new LongAdder();
+  private final LongAdder rejections = new LongAdder();
+  private final AtomicInteger generation = new AtomicInteger();
+
+  /**
+   * Creates an empty table.
+   *
+   * @param minCapacity The minimum number of entries, rounded up to a power of two
+   * @param policy The replacement policy
+   * @throws IllegalArgumentException if the capacity is not positive or above {@link
+   *     #MAX_CAPACITY}
+   */
+  public TranspositionTable(final int minCapacity, final ReplacementPolicy policy) {
+    if (minCapacity <= 0 || minCapacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException("Unsupported capacity: " + minCapacity);
+    }
+
+    final int capacity = Math.max(1, Integer.highestOneBit(minCapacity - 1) << 1);
+
+    this.slots = new AtomicLongArray(capacity * 2);
+    this.indexMask = capacity - 1;
+    this.policy = Objects.requireNonNull(policy);
+  }
+
+  /**
+   * Looks up the score of a board.
+   *
+   * @param key The board hash
+   * @param minDepth The minimum depth the stored score must have been searched to
+   * @return The stored score, or {@link Float#NaN} if absent or too shallow
+   */
+  public float probe(final long key, final int minDepth) {
+    final int index = slotIndex(key);
+    final long data = slots.getPlain(index + 1);
+
+    if ((data & OCCUPIED) != 0
+        && (slots.getPlain(index) ^ data) == key
+        && depthOf(data) >= minDepth) {
+      hits.increment();
+      return Float.intBitsToFloat((int) (data >>> SCORE_SHIFT));
+    }
+    misses.increment();
+    return Float.NaN;
+  }
+
+  /**
+   * Looks up the score of a board at any depth.
+   *
+   * @param key The board hash
+   * @return The stored score, or {@link Float#NaN} if absent
+   */
+  public float probe(final long key) {
+    return probe(key, 0);
+  }
+
+  /**
+   * Stores the score of a board, subject to the replacement policy.
+   *
+   * @param key The board hash
+   * @param score The score
+   * @param depth The depth the score was searched to, clamped to 0..{@link #MAX_DEPTH}
+   * @return true if the entry was written
+   */
+  public boolean store(final long key, final float score, final int depth) {
+    final int index = slotIndex(key);
+    final int currentGeneration = generation.get();
+    final int clampedDepth = Math.max(0, Math.min(MAX_DEPTH, depth));
+
+    if (policy == ReplacementPolicy.DEPTH_PREFERRED) {
+      final long old = slots.getPlain(index + 1);
+      final boolean sameKey = (slots.getPlain(index) ^ old) == key;
+      if ((old & OCCUPIED) != 0
+          && !sameKey
+          && generationOf(old) == currentGeneration
+          && depthOf(old) > clampedDepth) {
+        rejections.increment();
+        return false;
+      }
+    }
+
+    final long data =
+        (long) Float.floatToRawIntBits(score) << SCORE_SHIFT
+            | (long) currentGeneration << GENERATION_SHIFT
+            | (long) clampedDepth << DEPTH_SHIFT
+            | OCCUPIED;
+
+    slots.setPlain(index, key ^ data);
+    slots.setPlain(index + 1, data);
+    stores.increment();
+    return true;
+  }
+
+  /**
+   * Starts a new search generation: entries from earlier searches stay readable but no longer
+   * resist replacement.
+   */
+  public void newSearch() {
+    generation.updateAndGet(current -> (current + 1) & GENERATION_MASK);
+  }
+
+  /** Empties the table and resets the counters. Must not run concurrently with searches. */
+  public void clear() {
+    for (int i = 0; i < slots.length(); i++) {
+      slots.setPlain(i, 0L);
+    }
+    hits.reset();
+    misses.reset();
+    stores.reset();
+    rejections.reset();
+  }
+
+  /**
+   * Gets the number of entries.
+   *
+   * @return The capacity, a power of two
+   */
+  public int getCapacity() {
+    return indexMask + 1;
+  }
+
+  /**
+   * Gets the number of successful probes.
+   *
+   * @return The hit count
+   */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /**
+   * Gets the number of failed probes.
+   *
+   * @return The miss count
+   */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * Gets the number of entries written.
+   *
+   * @return The store count
+   */
+  public long getStores() {
+    return stores.sum();
+  }
+
+  /**
+   * Gets the number of stores refused by the replacement policy.
+   *
+   * @return The rejection count
+   */
+  public long getRejections() {
+    return rejections.sum();
+  }
+
+  /**
+   * Gets the fraction of probes that hit.
+   *
+   * @return The hit rate, 0 if nothing was probed
+   */
+  public double getHitRate() {
+    final long hitCount = hits.sum();
+    final long total = hitCount + misses.sum();
+    return total == 0 ? 0 : (double) hitCount / total;
+  }
+
+  private int slotIndex(final long key) {
+    // Mix the high bits in, as nearby boards may share their low key bits
+    return (int) ((key ^ (key >>> SCORE_SHIFT)) & indexMask) * 2;
+  }
+
+  private static int depthOf(final long data) {
+    return (int) (data >>> DEPTH_SHIFT) & MAX_DEPTH;
+  }
+
+  private static int generationOf(final long data) {
+    return (int) (data >>> GENERATION_SHIFT) & GENERATION_MASK;
+  }
+}
@@ -0,0 +1,69 @@
+package it.unibo.tetraj.model.speed;
+
+import java.util.Objects;
+
+/**
+ * Per-level gravity precomputed from a {@link SpeedStrategy}, in integer nanoseconds per row. The
+ * game adds the elapsed time to an accumulator and drops one row per period it holds, keeping the
+ * remainder for the next update; integer arithmetic makes the outcome depend only on the total
+ * elapsed time, not on how it was split into frames.
+ *
+ * <p>A period of {@link #INSTANT} means infinite gravity (20G): the piece reaches the stack as soon
+ * as it spawns. Strategies request it by returning a speed of 0 ms or less.
+ *
+ * <p>Levels past the end of the table use its last entry, as both built-in strategies are flat
+ * from level 29 on.
+ */
+public final class GravityTable {
+
+  /** Period of infinite gravity. */
+  public static final long INSTANT = 0L;
+
+  /** Number of precomputed levels, 0 to 29. */
+  public static final int LEVELS = 30;
+
+  private static final double NANOS_PER_MILLI = 1_000_000.0;
+  private final long[] fallNanos = new long[LEVELS];
+  private final long[] softDropNanos = new long[LEVELS];
+
+  /**
+   * Precomputes the gravity of a strategy.
+   *
+   * @param strategy The speed strategy, only read during construction
+   */
+  public GravityTable(final SpeedStrategy strategy) {
+    Objects.requireNonNull(strategy);
+    for (int level = 0; level < LEVELS; level++) {
+      fallNanos[level] = toNanos(strategy.getFallSpeed(level));
+      softDropNanos[level] = toNanos(strategy.getSoftDropSpeed(level));
+    }
+  }
+
+  /**
+   * Gets the gravity period of a level.
+   *
+   * @param level The game level (0-based)
+   * @return Nanoseconds per row, or {@link #INSTANT}
+   */
+  public long getFallNanos(final int level) {
+    return fallNanos[clamp(level)];
+  }
+
+  /**
+   * Gets the soft drop period of a level.
+   *
+   * @param level The game level (0-based)
+   * @return Nanoseconds per row, or {@link #INSTANT}
+   */
+  public long getSoftDropNanos(final int level) {
+    return softDropNanos[clamp(level)];
+  }
+
+  private static int clamp(final int level) {
+    return Math.min(Math.max(0, level), LEVELS - 1);
+  }
+
+  private static long toNanos(final double milliseconds) {
+    return milliseconds <= 0 ? INSTANT : Math.max(1L, Math.round(milliseconds * NANOS_PER_MILLI));
+  }
+}
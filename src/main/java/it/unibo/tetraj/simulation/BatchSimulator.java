@@ -0,0 +1,325 @@
+package it.unibo.tetraj.simulation;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import it.unibo.tetraj.model.Board;
+import it.unibo.tetraj.model.GameCore;
+import it.unibo.tetraj.model.GameEvent;
+import it.unibo.tetraj.model.GameEventListener;
+import it.unibo.tetraj.model.piece.PieceQueue;
+import it.unibo.tetraj.model.piece.TetrominoFactory;
+import it.unibo.tetraj.model.piece.selection.PieceSelectionFactory;
+import it.unibo.tetraj.model.speed.SpeedStrategy;
+import it.unibo.tetraj.model.speed.SpeedStrategyFactory;
+import it.unibo.tetraj.util.ApplicationProperties;
+import it.unibo.tetraj.util.Logger;
+import it.unibo.tetraj.util.LoggerFactory;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Plays a batch of independent headless games on a work-stealing pool, stepping simulated time as
+ * fast as the CPU allows.
+ *
+ * <p>Every game gets its own seed, derived from the base seed and the game index only, so with a
+ * deterministic agent the results do not depend on thread scheduling and any game can be replayed
+ * alone with {@link #playGame(long)}. Agents that depend on timing, such as a {@link PlannerAgent}
+ * with a time budget, lose this guarantee.
+ */
+public final class BatchSimulator {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(BatchSimulator.class);
+  private static final double STEP_SECONDS = 1.0 / 60.0;
+  private static final int GAMES_PER_TASK = 8;
+  private final int games;
+  private final long baseSeed;
+  private final int maxPieces;
+  private final int boardWidth;
+  private final int boardHeight;
+  private final String pieceSelection;
+  private final int previewSize;
+  private final SpeedStrategy speedStrategy;
+  private final SimulationAgent agent;
+  private final int parallelism;
+
+  private BatchSimulator(final Builder builder) {
+    games = builder.games;
+    baseSeed = builder.baseSeed;
+    maxPieces = builder.maxPieces;
+    boardWidth = builder.boardWidth;
+    boardHeight = builder.boardHeight;
+    pieceSelection = builder.pieceSelection;
+    previewSize = builder.previewSize;
+    // Speed strategies are stateless, one instance serves every game
+    speedStrategy = SpeedStrategyFactory.create(builder.speedStrategy);
+    agent = builder.agent;
+    parallelism = builder.parallelism;
+  }
+
+  /**
+   * Creates a new builder with the defaults: 1000 games, base seed 0, at most 10000 pieces per
+   * game on a standard 10x20 board, the configured piece selection and speed strategy, a {@link
+   * RandomDropAgent} and one worker per available processor.
+   *
+   * @return A new builder
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Plays the whole batch.
+   *
+   * @return The aggregate report
+   */
+  public SimulationReport run() {
+    final long[] seeds = new long[games];
+    final GameResult[] results = new GameResult[games];
+    final SplittableRandom seedSource = new SplittableRandom(baseSeed);
+    final ForkJoinPool pool = new ForkJoinPool(parallelism);
+
+    for (int i = 0; i < games; i++) {
+      seeds[i] = seedSource.nextLong();
+    }
+    LOGGER.info("Simulating {} games on {} workers (base seed {})", games, parallelism, baseSeed);
+
+    final long start = System.nanoTime();
+
+    try {
+      pool.invoke(new GameRangeTask(seeds, results, 0, games));
+    } finally {
+      pool.shutdown();
+    }
+    return new SimulationReport(Arrays.asList(results), System.nanoTime() - start);
+  }
+
+  /**
+   * Plays a single game.
+   *
+   * @param seed The game seed, as reported by {@link GameResult#seed()}
+   * @return The game result
+   */
+  public GameResult playGame(final long seed) {
+    final SplittableRandom random = new SplittableRandom(seed);
+    final PieceCounter counter = new PieceCounter();
+    final GameCore core =
+        new GameCore(
+            new Board(boardWidth, boardHeight),
+            new TetrominoFactory(
+                PieceSelectionFactory.create(pieceSelection, random.nextLong()), previewSize),
+            speedStrategy,
+            counter);
+
+    while (!core.isGameOver() && counter.pieces < maxPieces) {
+      agent.act(core, random);
+      core.update(STEP_SECONDS);
+    }
+    return new GameResult(
+        seed, core.getScore(), core.getLinesCleared(), core.getLevel(), counter.pieces);
+  }
+
+  /** Counts locked pieces; each game has its own counter. */
+  private static final class PieceCounter implements GameEventListener {
+
+    private int pieces;
+
+    @Override
+    public void onGameEvent(final GameEvent event) {
+      if (event == GameEvent.PIECE_LOCKED) {
+        pieces++;
+      }
+    }
+  }
+
+  /** Plays a contiguous range of games, splitting it in halves while it is large. */
+  @SuppressFBWarnings(
+      value = {"SE_BAD_FIELD", "SE_INNER_CLASS"},
+      justification = "Fork/join tasks are never serialized")
+  @SuppressWarnings("serial")
+  private final class GameRangeTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+    private final long[] seeds;
+    private final GameResult[] results;
+    private final int from;
+    private final int to;
+
+    GameRangeTask(final long[] seeds, final GameResult[] results, final int from, final int to) {
+      super();
+      this.seeds = seeds;
+      this.results = results;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= GAMES_PER_TASK) {
+        for (int i = from; i < to; i++) {
+          results[i] = playGame(seeds[i]);
+        }
+        return;
+      }
+
+      final int middle = (from + to) >>> 1;
+
+      invokeAll(
+          new GameRangeTask(seeds, results, from, middle),
+          new GameRangeTask(seeds, results, middle, to));
+    }
+  }
+
+  /** Builder for {@link BatchSimulator}. */
+  public static final class Builder {
+
+    private static final int DEFAULT_GAMES = 1000;
+    private static final int DEFAULT_MAX_PIECES = 10_000;
+    private static final int DEFAULT_BOARD_WIDTH = 10;
+    private static final int DEFAULT_BOARD_HEIGHT = 20;
+    private int games = DEFAULT_GAMES;
+    private long baseSeed;
+    private int maxPieces = DEFAULT_MAX_PIECES;
+    private int boardWidth = DEFAULT_BOARD_WIDTH;
+    private int boardHeight = DEFAULT_BOARD_HEIGHT;
+    private String pieceSelection;
+    private int previewSize = PieceQueue.getConfiguredSize();
+    private String speedStrategy;
+    private SimulationAgent agent = new RandomDropAgent();
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /** Private constructor to enforce builder pattern. */
+    private Builder() {
+      final ApplicationProperties properties = ApplicationProperties.getInstance();
+
+      pieceSelection = properties.getProperty("game.pieceSelection", "7-bag");
+      speedStrategy = properties.getProperty("game.speedStrategy", "modern");
+    }
+
+    /**
+     * Sets the number of games to play.
+     *
+     * @param count The game count
+     * @return This builder for chaining
+     */
+    public Builder withGames(final int count) {
+      this.games = count;
+      return this;
+    }
+
+    /**
+     * Sets the base seed every game seed is derived from.
+     *
+     * @param seed The base seed
+     * @return This builder for chaining
+     */
+    public Builder withBaseSeed(final long seed) {
+      this.baseSeed = seed;
+      return this;
+    }
+
+    /**
+     * Sets the number of pieces after which a game is stopped even if not over.
+     *
+     * @param pieces The piece limit
+     * @return This builder for chaining
+     */
+    public Builder withMaxPieces(final int pieces) {
+      this.maxPieces = pieces;
+      return this;
+    }
+
+    /**
+     * Sets the size of the board every game is played on.
+     *
+     * @param width The board width
+     * @param height The board height
+     * @return This builder for chaining
+     */
+    public Builder withBoardSize(final int width, final int height) {
+      this.boardWidth = width;
+      this.boardHeight = height;
+      return this;
+    }
+
+    /**
+     * Sets the piece selection strategy name, as accepted by {@link PieceSelectionFactory}.
+     *
+     * @param strategyName The strategy name
+     * @return This builder for chaining
+     */
+    public Builder withPieceSelection(final String strategyName) {
+      this.pieceSelection = strategyName;
+      return this;
+    }
+
+    /**
+     * Sets how many upcoming pieces the agent can see.
+     *
+     * @param size The preview size, from 1 to {@link PieceQueue#MAX_SIZE}
+     * @return This builder for chaining
+     */
+    public Builder withPreviewSize(final int size) {
+      this.previewSize = size;
+      return this;
+    }
+
+    /**
+     * Sets the speed strategy name, as accepted by {@link SpeedStrategyFactory}.
+     *
+     * @param strategyName The strategy name
+     * @return This builder for chaining
+     */
+    public Builder withSpeedStrategy(final String strategyName) {
+      this.speedStrategy = strategyName;
+      return this;
+    }
+
+    /**
+     * Sets the agent playing every game.
+     *
+     * @param simulationAgent The stateless agent
+     * @return This builder for chaining
+     */
+    public Builder withAgent(final SimulationAgent simulationAgent) {
+      this.agent = Objects.requireNonNull(simulationAgent);
+      return this;
+    }
+
+    /**
+     * Sets the number of worker threads.
+     *
+     * @param workers The worker count
+     * @return This builder for chaining
+     */
+    public Builder withParallelism(final int workers) {
+      this.parallelism = workers;
+      return this;
+    }
+
+    /**
+     * Builds the simulator.
+     *
+     * @return A new BatchSimulator
+     * @throws IllegalArgumentException if a count is out of range
+     */
+    public BatchSimulator build() {
+      if (games < 0
+          || maxPieces <= 0
+          || boardWidth <= 0
+          || boardHeight <= 0
+          || (long) boardWidth * boardHeight > Integer.MAX_VALUE
+          || parallelism <= 0
+          || previewSize < 1
+          || previewSize > PieceQueue.MAX_SIZE) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Invalid batch: games=%d, maxPieces=%d, board=%dx%d, parallelism=%d,"
+                    + " previewSize=%d",
+                games, maxPieces, boardWidth, boardHeight, parallelism, previewSize));
+      }
+      return new BatchSimulator(this);
+    }
+  }
+}
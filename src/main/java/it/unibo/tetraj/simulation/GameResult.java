@@ -0,0 +1,12 @@
+package it.unibo.tetraj.simulation;
+
+/**
+ * Outcome of one simulated game.
+ *
+ * @param seed The seed the game was played with; replaying it gives the same result
+ * @param score The final score
+ * @param linesCleared The total lines cleared
+ * @param level The final level
+ * @param pieces The number of pieces locked
+ */
+public record GameResult(long seed, int score, int linesCleared, int level, int pieces) {}
@@ -0,0 +1,61 @@
+package it.unibo.tetraj.simulation;
+
+import it.unibo.tetraj.model.GameCore;
+import it.unibo.tetraj.model.search.BeamSearchPlanner;
+import it.unibo.tetraj.model.search.MoveInput;
+import it.unibo.tetraj.model.search.PlannedMove;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+/**
+ * Agent that plays the move chosen by a {@link BeamSearchPlanner}, looking ahead over the preview
+ * queue and the hold slot. It hard drops in place when the planner finds nothing.
+ *
+ * <p>The agent is as reproducible as its planner: with a time budget, the moves depend on how fast
+ * each search runs, so a game may not replay the same from its seed. The default agent plans
+ * without a time budget.
+ */
+public final class PlannerAgent implements SimulationAgent {
+
+  private final BeamSearchPlanner planner;
+
+  /** Creates an agent backed by a default planner without a time budget. */
+  public PlannerAgent() {
+    this(BeamSearchPlanner.builder().withoutTimeBudget().build());
+  }
+
+  /**
+   * Creates an agent backed by the given planner.
+   *
+   * @param planner The planner, shared by every game the agent plays
+   */
+  public PlannerAgent(final BeamSearchPlanner planner) {
+    this.planner = Objects.requireNonNull(planner);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void act(final GameCore core, final SplittableRandom random) {
+    final Optional<PlannedMove> move =
+        planner
+            .plan(
+                core.getBoard(),
+                core.getCurrentPiece(),
+                core.getPreview(),
+                core.getHeldPiece(),
+                core.isHoldAvailable())
+            .getBestMove();
+
+    if (move.isEmpty()) {
+      core.hardDrop();
+      return;
+    }
+    if (move.get().hold()) {
+      core.holdPiece();
+    }
+    for (final MoveInput input : move.get().placement().path()) {
+      input.applyTo(core);
+    }
+  }
+}
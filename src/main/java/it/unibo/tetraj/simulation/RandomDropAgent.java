@@ -0,0 +1,31 @@
+package it.unibo.tetraj.simulation;
+
+import it.unibo.tetraj.model.GameCore;
+import java.util.SplittableRandom;
+
+/**
+ * Baseline agent that hard drops every piece in a random rotation and column. It measures the raw
+ * speed of the rules rather than playing well.
+ */
+public final class RandomDropAgent implements SimulationAgent {
+
+  private static final int ROTATIONS = 4;
+
+  /** {@inheritDoc} */
+  @Override
+  public void act(final GameCore core, final SplittableRandom random) {
+    final int rotations = random.nextInt(ROTATIONS);
+    final int shift = random.nextInt(core.getBoard().getWidth()) - core.getBoard().getWidth() / 2;
+
+    for (int i = 0; i < rotations; i++) {
+      core.rotateClockwise();
+    }
+    for (int i = 0; i < Math.abs(shift); i++) {
+      final boolean moved = shift < 0 ? core.moveLeft() : core.moveRight();
+      if (!moved) {
+        break;
+      }
+    }
+    core.hardDrop();
+  }
+}
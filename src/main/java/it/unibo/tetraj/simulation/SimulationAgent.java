@@ -0,0 +1,23 @@
+package it.unibo.tetraj.simulation;
+
+import it.unibo.tetraj.model.GameCore;
+import java.util.SplittableRandom;
+
+/**
+ * Decision maker driving a simulated game. The simulator calls the agent once per time step, before
+ * gravity is applied; the agent issues any number of commands on the core.
+ *
+ * <p>Agents are shared by every game of a batch and called from several threads at once, so they
+ * must keep no mutable state of their own: per-game randomness comes from the given stream.
+ */
+@FunctionalInterface
+public interface SimulationAgent {
+
+  /**
+   * Acts on the game for one time step.
+   *
+   * @param core The game to play
+   * @param random The random stream of this game
+   */
+  void act(GameCore core, SplittableRandom random);
+}
@@ -0,0 +1,47 @@
+package it.unibo.tetraj.simulation;
+
+import it.unibo.tetraj.util.Logger;
+import it.unibo.tetraj.util.LoggerFactory;
+
+/**
+ * Command line entry point of the batch simulator. Runs headless; launch it with {@code
+ * -Djava.awt.headless=true}.
+ *
+ * <p>Usage: {@code SimulationMain [games] [baseSeed] [maxPieces]}. Missing arguments take the
+ * {@link BatchSimulator#builder()} defaults.
+ */
+public final class SimulationMain {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(SimulationMain.class);
+  private static final int GAMES_ARG = 0;
+  private static final int SEED_ARG = 1;
+  private static final int MAX_PIECES_ARG = 2;
+
+  /** Private constructor to prevent instantiation. */
+  private SimulationMain() {
+    // Prevent instantiation
+  }
+
+  /**
+   * Runs a batch and logs its report.
+   *
+   * @param args Optional game count, base seed and piece limit
+   */
+  public static void main(final String[] args) {
+    final BatchSimulator.Builder builder = BatchSimulator.builder();
+
+    if (args.length > GAMES_ARG) {
+      builder.withGames(Integer.parseInt(args[GAMES_ARG]));
+    }
+    if (args.length > SEED_ARG) {
+      builder.withBaseSeed(Long.parseLong(args[SEED_ARG]));
+    }
+    if (args.length > MAX_PIECES_ARG) {
+      builder.withMaxPieces(Integer.parseInt(args[MAX_PIECES_ARG]));
+    }
+
+    final SimulationReport report = builder.build().run();
+
+    LOGGER.info("Simulation finished{}{}", System.lineSeparator(), report.summary());
+  }
+}
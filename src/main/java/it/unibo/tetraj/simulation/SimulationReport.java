@@ -0,0 +1,177 @@
+package it.unibo.tetraj.simulation;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Aggregate statistics of a batch of simulated games: throughput and score distribution. Results
+ * are kept in game index order, so two runs with the same base seed produce equal reports apart
+ * from the timings.
+ */
+public final class SimulationReport {
+
+  private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+  private static final double PERCENT = 100.0;
+  private static final double MEDIAN = 50.0;
+  private static final double P90 = 90.0;
+  private static final double P99 = 99.0;
+  private final List<GameResult> results;
+  private final int[] sortedScores;
+  private final long totalPieces;
+  private final long totalLines;
+  private final long elapsedNanos;
+
+  /**
+   * Creates a report.
+   *
+   * @param results The game results, in game index order
+   * @param elapsedNanos The wall-clock duration of the batch in nanoseconds
+   */
+  public SimulationReport(final List<GameResult> results, final long elapsedNanos) {
+    this.results = List.copyOf(results);
+    this.elapsedNanos = elapsedNanos;
+    sortedScores = this.results.stream().mapToInt(GameResult::score).sorted().toArray();
+    totalPieces = this.results.stream().mapToLong(GameResult::pieces).sum();
+    totalLines = this.results.stream().mapToLong(GameResult::linesCleared).sum();
+  }
+
+  /**
+   * Gets the result of every game.
+   *
+   * @return An immutable list of results, in game index order
+   */
+  public List<GameResult> getResults() {
+    return results;
+  }
+
+  /**
+   * Gets the number of games played.
+   *
+   * @return The game count
+   */
+  public int getGames() {
+    return results.size();
+  }
+
+  /**
+   * Gets the number of pieces locked over all games.
+   *
+   * @return The piece count
+   */
+  public long getTotalPieces() {
+    return totalPieces;
+  }
+
+  /**
+   * Gets the number of lines cleared over all games.
+   *
+   * @return The line count
+   */
+  public long getTotalLines() {
+    return totalLines;
+  }
+
+  /**
+   * Gets the wall-clock duration of the batch.
+   *
+   * @return The duration in nanoseconds
+   */
+  public long getElapsedNanos() {
+    return elapsedNanos;
+  }
+
+  /**
+   * Gets the game throughput.
+   *
+   * @return Games completed per second
+   */
+  public double getGamesPerSecond() {
+    return perSecond(results.size());
+  }
+
+  /**
+   * Gets the piece throughput.
+   *
+   * @return Pieces locked per second
+   */
+  public double getPiecesPerSecond() {
+    return perSecond(totalPieces);
+  }
+
+  /**
+   * Gets the lowest score.
+   *
+   * @return The minimum score, 0 if no game was played
+   */
+  public int getMinScore() {
+    return sortedScores.length == 0 ? 0 : sortedScores[0];
+  }
+
+  /**
+   * Gets the highest score.
+   *
+   * @return The maximum score, 0 if no game was played
+   */
+  public int getMaxScore() {
+    return sortedScores.length == 0 ? 0 : sortedScores[sortedScores.length - 1];
+  }
+
+  /**
+   * Gets the mean score.
+   *
+   * @return The average score, 0 if no game was played
+   */
+  public double getMeanScore() {
+    return Arrays.stream(sortedScores).average().orElse(0);
+  }
+
+  /**
+   * Gets a score percentile using the nearest-rank method.
+   *
+   * @param percentile The percentile, from 0 to 100
+   * @return The score at the percentile, 0 if no game was played
+   * @throws IllegalArgumentException if the percentile is out of range
+   */
+  public int getScorePercentile(final double percentile) {
+    if (percentile < 0 || percentile > PERCENT) {
+      throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+    }
+    if (sortedScores.length == 0) {
+      return 0;
+    }
+
+    final int rank = (int) Math.ceil(percentile / PERCENT * sortedScores.length);
+
+    return sortedScores[Math.max(0, rank - 1)];
+  }
+
+  /**
+   * Formats the report as a short multi-line summary.
+   *
+   * @return The summary
+   */
+  public String summary() {
+    return String.format(
+        Locale.ROOT,
+        "%d games, %d pieces, %d lines in %.3f s%n"
+            + "throughput: %.1f games/s, %.1f pieces/s%n"
+            + "score: min %d, mean %.1f, p50 %d, p90 %d, p99 %d, max %d",
+        getGames(),
+        totalPieces,
+        totalLines,
+        elapsedNanos / NANOS_PER_SECOND,
+        getGamesPerSecond(),
+        getPiecesPerSecond(),
+        getMinScore(),
+        getMeanScore(),
+        getScorePercentile(MEDIAN),
+        getScorePercentile(P90),
+        getScorePercentile(P99),
+        getMaxScore());
+  }
+
+  private double perSecond(final long count) {
+    return elapsedNanos == 0 ? 0 : count * NANOS_PER_SECOND / elapsedNanos;
+  }
+}
@@ -131,6 +131,45 @@ public final class ApplicationProperties {
         .orElse(DEFAULT_WINDOW_HEIGHT);
   }
 
+  /**
+   * Gets an integer property. Missing values fall back to the default; invalid ones too, with a
+   * warning.
+   *
+   * @param key The property key
+   * @param min The smallest valid value
+   * @param defaultValue The value used when the property is missing or invalid
+   * @return The property value or default
+   */
+  public int getInt(final String key, final int min, final int defaultValue) {
+    return parseInt(key, properties.getProperty(key), min, defaultValue);
+  }
+
+  /**
+   * Parses the value of an integer property, as {@link #getInt(String, int, int)} does.
+   *
+   * @param key The property key, to report invalid values
+   * @param value The property value, may be null
+   * @param min The smallest valid value
+   * @param defaultValue The value used when the property is missing or invalid
+   * @return The parsed value or default
+   */
+  public static int parseInt(
+      final String key, final String value, final int min, final int defaultValue) {
+    if (value == null) {
+      return defaultValue;
+    }
+    try {
+      final int parsed = Integer.parseInt(value.trim());
+      if (parsed >= min) {
+        return parsed;
+      }
+    } catch (final NumberFormatException e) {
+      // Reported below together with the out of range values
+    }
+    LOGGER.warn("Invalid value '{}' for {}, using {}", value, key, defaultValue);
+    return defaultValue;
+  }
+
   /** Loads properties from file or sets defaults. */
   private void loadProperties() {
     try (InputStream inputStream = getClass().getResourceAsStream(PROPERTIES_FILE)) {
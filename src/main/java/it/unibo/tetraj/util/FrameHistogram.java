@@ -0,0 +1,116 @@
+package it.unibo.tetraj.util;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-bucket histogram of durations in nanoseconds, cheap enough to record every frame.
+ *
+ * <p>Buckets are log-linear: exact below 64 ns, then 32 buckets per power of two, so any value is
+ * known within about 3%. The buckets are allocated once, covering up to about 17 s, and recording a
+ * value is a few shifts and an array increment, without allocating. Longer values are counted in
+ * the last bucket; the exact maximum is kept apart.
+ *
+ * <p>A histogram has a single writer thread. Other threads may read it at any time, e.g. for a
+ * performance overlay, without any synchronization: they may see a slightly stale picture, which is
+ * good enough for statistics.
+ */
+public final class FrameHistogram {
+
+  private static final int SUB_BUCKET_BITS = 6;
+  private static final int HALF_SUB_BUCKETS = 1 << (SUB_BUCKET_BITS - 1);
+  private static final int MAX_SHIFT = 28;
+  private static final int BUCKETS = (MAX_SHIFT + 2) * HALF_SUB_BUCKETS;
+  private final long[] counts = new long[BUCKETS];
+  private long count;
+  private long max;
+
+  /**
+   * Records a duration.
+   *
+   * @param nanos The duration in nanoseconds, negative values count as 0
+   */
+  public void record(final long nanos) {
+    final long value = Math.max(0, nanos);
+
+    counts[bucketOf(value)]++;
+    if (value > max) {
+      max = value;
+    }
+    count++;
+  }
+
+  /**
+   * Gets the value below which a given fraction of the recorded durations fall.
+   *
+   * @param quantile The fraction, from 0 to 1, e.g. 0.99 for the 99th percentile
+   * @return The percentile in nanoseconds, at the upper edge of its bucket and at most the maximum,
+   *     or 0 if nothing was recorded
+   */
+  public long getPercentile(final double quantile) {
+    final long total = count;
+
+    if (total == 0) {
+      return 0;
+    }
+
+    final long rank = Math.max(1, (long) Math.ceil(quantile * total));
+    long seen = 0;
+
+    for (int bucket = 0; bucket < BUCKETS; bucket++) {
+      seen += counts[bucket];
+      if (seen >= rank) {
+        // The last bucket is open ended, only the maximum bounds it
+        return bucket == BUCKETS - 1 ? max : Math.min(upperEdgeOf(bucket), max);
+      }
+    }
+    return max;
+  }
+
+  /**
+   * Gets the longest recorded duration.
+   *
+   * @return The maximum in nanoseconds, 0 if nothing was recorded
+   */
+  public long getMax() {
+    return max;
+  }
+
+  /**
+   * Gets the number of recorded durations.
+   *
+   * @return The count
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /** Forgets every recorded duration. Must be called from the writer thread. */
+  public void reset() {
+    Arrays.fill(counts, 0);
+    max = 0;
+    count = 0;
+  }
+
+  /*
+   * Values below 64 map to themselves. Above, the value is shifted right until it has 6 significant
+   * bits, and the shift picks the group of 32 buckets while the remaining bits pick the bucket.
+   */
+  private static int bucketOf(final long value) {
+    final int shift =
+        Math.min(
+            MAX_SHIFT,
+            Math.max(0, Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS));
+
+    if (shift == MAX_SHIFT && value >>> shift >= 2 * HALF_SUB_BUCKETS) {
+      return BUCKETS - 1;
+    }
+    return (int) (shift * HALF_SUB_BUCKETS + (value >>> shift));
+  }
+
+  private static long upperEdgeOf(final int bucket) {
+    final int shift = Math.max(0, bucket / HALF_SUB_BUCKETS - 1);
+    final long sub = bucket - (long) shift * HALF_SUB_BUCKETS;
+
+    return ((sub + 1) << shift) - 1;
+  }
+}
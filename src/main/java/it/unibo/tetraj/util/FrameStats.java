@@ -0,0 +1,147 @@
+package it.unibo.tetraj.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Frame time statistics of the running game: how long the simulation updates, the drawing of a
+ * frame, the buffer flips and the whole frames take. Each is recorded into a {@link FrameHistogram}
+ * by the thread doing the work, and can be read from any thread, e.g. by a performance overlay, or
+ * written as JSON on shutdown.
+ */
+public final class FrameStats {
+
+  private static final FrameStats INSTANCE = new FrameStats();
+  private static final double NANOS_PER_MILLI = 1_000_000.0;
+  private static final double P50 = 0.5;
+  private static final double P99 = 0.99;
+  private static final double P999 = 0.999;
+  private static final ObjectMapper MAPPER =
+      new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+  private final FrameHistogram update = new FrameHistogram();
+  private final FrameHistogram render = new FrameHistogram();
+  private final FrameHistogram show = new FrameHistogram();
+  private final FrameHistogram frame = new FrameHistogram();
+
+  /** Private constructor for singleton pattern. */
+  private FrameStats() {}
+
+  /**
+   * Gets the singleton instance.
+   *
+   * @return The frame stats instance
+   */
+  @SuppressFBWarnings(
+      value = "MS_EXPOSE_REP",
+      justification = "Singleton pattern requires returning the same instance")
+  public static FrameStats getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Gets the durations of the simulation ticks, recorded on the game thread.
+   *
+   * @return The update histogram
+   */
+  @SuppressFBWarnings(
+      value = "EI_EXPOSE_REP",
+      justification = "The histogram is shared on purpose, for its writer to record into it")
+  public FrameHistogram getUpdate() {
+    return update;
+  }
+
+  /**
+   * Gets the durations of drawing a frame into the back buffer, recorded on the render thread.
+   *
+   * @return The render histogram
+   */
+  @SuppressFBWarnings(
+      value = "EI_EXPOSE_REP",
+      justification = "The histogram is shared on purpose, for its writer to record into it")
+  public FrameHistogram getRender() {
+    return render;
+  }
+
+  /**
+   * Gets the durations of {@link java.awt.image.BufferStrategy#show()}, recorded on the render
+   * thread.
+   *
+   * @return The buffer flip histogram
+   */
+  @SuppressFBWarnings(
+      value = "EI_EXPOSE_REP",
+      justification = "The histogram is shared on purpose, for its writer to record into it")
+  public FrameHistogram getShow() {
+    return show;
+  }
+
+  /**
+   * Gets the times between two consecutive frames, recorded on the render thread.
+   *
+   * @return The frame histogram
+   */
+  @SuppressFBWarnings(
+      value = "EI_EXPOSE_REP",
+      justification = "The histogram is shared on purpose, for its writer to record into it")
+  public FrameHistogram getFrame() {
+    return frame;
+  }
+
+  /**
+   * Summarizes a histogram in milliseconds.
+   *
+   * @param histogram The histogram to summarize
+   * @return The summary
+   */
+  public static Summary summarize(final FrameHistogram histogram) {
+    return new Summary(
+        histogram.getCount(),
+        toMillis(histogram.getPercentile(P50)),
+        toMillis(histogram.getPercentile(P99)),
+        toMillis(histogram.getPercentile(P999)),
+        toMillis(histogram.getMax()));
+  }
+
+  /**
+   * Writes the summaries of every histogram as a JSON object.
+   *
+   * @param path The file to write, replaced if it exists
+   * @throws IOException if the file cannot be written
+   */
+  public void writeJson(final Path path) throws IOException {
+    final Map<String, Summary> summaries = new LinkedHashMap<>();
+
+    summaries.put("update", summarize(update));
+    summaries.put("render", summarize(render));
+    summaries.put("show", summarize(show));
+    summaries.put("frame", summarize(frame));
+    MAPPER.writeValue(path.toFile(), summaries);
+  }
+
+  private static double toMillis(final long nanos) {
+    return nanos / NANOS_PER_MILLI;
+  }
+
+  /**
+   * Percentiles of a histogram.
+   *
+   * @param count The number of recorded durations
+   * @param p50 The median in milliseconds
+   * @param p99 The 99th percentile in milliseconds
+   * @param p999 The 99.9th percentile in milliseconds
+   * @param max The maximum in milliseconds
+   */
+  public record Summary(long count, double p50, double p99, double p999, double max) {
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+      return String.format("p50 %.2f  p99 %.2f  p99.9 %.2f  max %.2f ms", p50, p99, p999, max);
+    }
+  }
+}
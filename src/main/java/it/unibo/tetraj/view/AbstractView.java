@@ -2,6 +2,7 @@ package it.unibo.tetraj.view;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.unibo.tetraj.util.ApplicationProperties;
+import it.unibo.tetraj.util.FrameStats;
 import it.unibo.tetraj.util.ResourceManager;
 import it.unibo.tetraj.util.ResourceManager.FontSize;
 import java.awt.Canvas;
@@ -17,7 +18,11 @@ import java.awt.image.BufferedImage;
  * Abstract base class for all game views. Handles common setup for canvas, buffer strategy, and
  * window dimensions.
  *
- * @param <M> The type of model this view renders
+ * <p>Views run on the render thread, apart from the game thread, so they only ever draw snapshots:
+ * immutable models, or frames the game has published and no longer writes. Rendering and frame
+ * captures are serialized on the view, as they share its drawing state.
+ *
+ * @param <M> The type of snapshot this view renders
  */
 public abstract class AbstractView<M> {
 
@@ -32,6 +37,7 @@ public abstract class AbstractView<M> {
   private final Font h2Font;
   private final Font bodyFont;
   private final Font captionFont;
+  private final FrameStats frameStats = FrameStats.getInstance();
   private BufferStrategy bufferStrategy;
 
   /** Creates a new view with the default background color. */
@@ -63,12 +69,13 @@ public abstract class AbstractView<M> {
   }
 
   /**
-   * Renders the view with the given model. Template method that initializes the buffer strategy and
-   * then delegates to renderContent.
+   * Renders the view with the given snapshot. Template method that initializes the buffer strategy
+   * and then delegates to renderContent. The drawing and the buffer flip are timed into the {@link
+   * FrameStats}.
    *
-   * @param model The model containing data to render
+   * @param model The snapshot containing data to render
    */
-  public void render(final M model) {
+  public synchronized void render(final M model) {
     if (bufferStrategy == null) {
       canvas.createBufferStrategy(BUFFER_STRATEGY_BUFFERS);
       bufferStrategy = canvas.getBufferStrategy();
@@ -79,9 +86,13 @@ public abstract class AbstractView<M> {
 
     Graphics2D g = null;
     try {
+      final long start = System.nanoTime();
       g = (Graphics2D) bufferStrategy.getDrawGraphics();
       renderContent(g, model);
+      final long drawn = System.nanoTime();
       bufferStrategy.show();
+      frameStats.getRender().record(drawn - start);
+      frameStats.getShow().record(System.nanoTime() - drawn);
     } finally {
       if (g != null) {
         g.dispose();
@@ -93,7 +104,7 @@ public abstract class AbstractView<M> {
    * Renders the view content. Subclasses implement this to define their specific rendering logic.
    *
    * @param g The graphics context for rendering
-   * @param model The model containing data to render
+   * @param model The snapshot containing data to render
    */
   protected abstract void renderContent(Graphics2D g, M model);
 
@@ -102,10 +113,10 @@ public abstract class AbstractView<M> {
    * including board, score, level, and next piece preview. Useful for creating game-over screens or
    * transitions.
    *
-   * @param model The play model to render
+   * @param model The snapshot to render
    * @return A BufferedImage containing the current rendered frame
    */
-  public BufferedImage captureFrame(final M model) {
+  public synchronized BufferedImage captureFrame(final M model) {
     final BufferedImage image =
         new BufferedImage(getWindowWidth(), getWindowHeight(), BufferedImage.TYPE_INT_RGB);
     final Graphics2D g = image.createGraphics();
@@ -1,14 +1,20 @@
 package it.unibo.tetraj.view;
 
-import it.unibo.tetraj.model.Board;
-import it.unibo.tetraj.model.PlayModel;
-import it.unibo.tetraj.model.piece.AbstractTetromino;
+import it.unibo.tetraj.model.BoardSnapshot;
+import it.unibo.tetraj.model.PlayFrame;
+import it.unibo.tetraj.model.piece.PieceState;
+import it.unibo.tetraj.model.piece.PieceType;
+import it.unibo.tetraj.model.piece.ShapeTable;
+import it.unibo.tetraj.util.FrameStats;
 import java.awt.Color;
 import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
 import java.util.List;
 
-/** View for the playing state. Renders the Tetris game. */
-public final class PlayView extends AbstractView<PlayModel> {
+/** View for the playing state. Renders the Tetris game from the frames the game publishes. */
+public final class PlayView extends AbstractView<PlayFrame> {
 
   private static final float BACKGROUND_OVERLAY_ALPHA = 0.80f;
   private static final int BOARD_CELL_SIZE = 30;
@@ -21,10 +27,10 @@ public final class PlayView extends AbstractView<PlayModel> {
 
   /** {@inheritDoc} */
   @Override
-  protected void renderContent(final Graphics2D g, final PlayModel model) {
+  protected void renderContent(final Graphics2D g, final PlayFrame frame) {
     // Lazy initialization of renderer with board dimensions
     if (renderer == null) {
-      renderer = new BoardRenderer(model.getBoard());
+      renderer = new BoardRenderer(frame.getBoard());
     }
 
     final BoardRenderer localRenderer = renderer;
@@ -34,12 +40,17 @@ public final class PlayView extends AbstractView<PlayModel> {
         getBackgroundColor(),
         getWindowWidth(),
         getWindowHeight(),
-        () -> localRenderer.render(g, model));
+        () -> localRenderer.render(g, frame));
   }
 
   /**
    * Inner class that handles all rendering with pre-calculated positions. Calculates layout once
-   * based on board dimensions.
+   * based on board dimensions. Boards larger than the window are shown through a viewport that
+   * follows the current piece, and only the cells inside it are drawn.
+   *
+   * <p>The board background, grid and locked stack only change when a piece locks, so they are
+   * painted into a cached layer, repainted only when the board version or the viewport changes.
+   * Each frame blits the layer and draws the moving pieces on top.
    */
   private class BoardRenderer {
     private static final Color BOARD_BACKGROUND_COLOR = new Color(10, 10, 15);
@@ -53,14 +64,33 @@ public final class PlayView extends AbstractView<PlayModel> {
     private static final int GAME_INFO_PANEL_WIDTH = 200;
     private static final int INFO_BLOCK_SPACING = 35;
     private static final int NEXT_HOLD_SPACING = 115;
-    private final Board board;
+    private static final int QUEUE_CELL_SIZE = BOARD_CELL_SIZE / 2;
+    private static final int QUEUE_PANEL_WIDTH = QUEUE_CELL_SIZE * 4;
+    private static final int QUEUE_PIECE_SPACING = QUEUE_CELL_SIZE * 3;
+    private static final int PIECE_CENTER_OFFSET = 2;
+    private static final Color HUD_TEXT_COLOR = new Color(120, 255, 120);
+    private static final int HUD_MARGIN = 10;
+    private static final int HUD_LINE_SPACING = 16;
+    private static final long HUD_REFRESH_NANOS = 500_000_000L;
+    private static final String[] HUD_LABELS = {"UPDATE", "RENDER", "SHOW", "FRAME"};
+    private final String[] hudLines = new String[HUD_LABELS.length];
+    private long hudRefreshedAt;
+    private BufferedImage boardLayer;
+    private long layerVersion;
+    private int layerFirstRow;
+    private int layerFirstCol;
+    private final int boardColumns;
+    private final int boardRows;
     private final int boardWidthCells;
     private final int boardHeightCells;
+    private int firstCol;
+    private int firstRow;
     private final int boardPixelWidth;
     private final int boardPixelHeight;
     private final int boardX;
     private final int boardY;
     private final int gameInfoPanelX;
+    private final int queuePanelX;
     private final int nextY;
     private final int nextBoxY;
     private final int holdY;
@@ -74,11 +104,17 @@ public final class PlayView extends AbstractView<PlayModel> {
      *
      * @param board The game board to base calculations on
      */
-    BoardRenderer(final Board board) {
-      this.board = board;
+    BoardRenderer(final BoardSnapshot board) {
+      boardColumns = board.getWidth();
+      boardRows = board.getHeight();
+      // Calculate the viewport, the whole board when it fits in the window
+      boardWidthCells =
+          Math.min(
+              board.getWidth(),
+              (getWindowWidth() - 2 * (PADDING + GAME_INFO_PANEL_WIDTH)) / BOARD_CELL_SIZE);
+      boardHeightCells =
+          Math.min(board.getHeight(), (getWindowHeight() - 2 * PADDING) / BOARD_CELL_SIZE);
       // Calculate pixel dimensions for board
-      boardWidthCells = board.getWidth();
-      boardHeightCells = board.getHeight();
       boardPixelWidth = boardWidthCells * BOARD_CELL_SIZE;
       boardPixelHeight = boardHeightCells * BOARD_CELL_SIZE;
 
@@ -90,6 +126,8 @@ public final class PlayView extends AbstractView<PlayModel> {
       boardY = (getWindowHeight() - boardPixelHeight) / 2;
       // Game info panel position
       gameInfoPanelX = boardX + boardPixelWidth + PADDING;
+      // Queue panel on the left of the board, in the otherwise empty margin
+      queuePanelX = boardX - PADDING - QUEUE_PANEL_WIDTH;
       // Next and hold positions aligned with board top
       nextY = boardY + TEXT_OFFSET;
       nextBoxY = nextY + BOX_OFFSET;
@@ -105,21 +143,70 @@ public final class PlayView extends AbstractView<PlayModel> {
      * Renders all game elements.
      *
      * @param g The graphics context
-     * @param model The game model to render
+     * @param frame The frame to render
      */
-    void render(final Graphics2D g, final PlayModel model) {
-      drawBoard(g);
-      if (!model.isGameOver()) {
-        drawGhostPiece(g, model.getGhostPiece());
-        drawCurrentPiece(g, model.getCurrentPiece());
+    void render(final Graphics2D g, final PlayFrame frame) {
+      if (!frame.isGameOver()) {
+        followPiece(frame.getPieceState());
       }
-      drawNextPiece(g, model.getNextPiece());
-      drawHeldPiece(g, model.getHeldPiece());
-      drawGameInfo(g, model);
-      drawPause(g, model);
+      drawBoard(g, frame.getBoard());
+      if (!frame.isGameOver()) {
+        // The current piece is read as a packed state: drawing it every frame allocates nothing
+        final long currentPiece = frame.getPieceState();
+        drawGhostPiece(g, currentPiece, frame.getGhostY());
+        drawCurrentPiece(g, currentPiece);
+      }
+      drawNextPiece(g, frame);
+      drawQueue(g, frame);
+      drawHeldPiece(g, frame.getHeldState());
+      drawGameInfo(g, frame);
+      drawHud(g, frame);
+      drawPause(g, frame);
+    }
+
+    /* Centers the viewport on the piece, within the board edges. */
+    private void followPiece(final long state) {
+      final int centerX = PieceState.x(state) + PIECE_CENTER_OFFSET - boardWidthCells / 2;
+      final int centerY = PieceState.y(state) + PIECE_CENTER_OFFSET - boardHeightCells / 2;
+
+      firstCol = Math.max(0, Math.min(centerX, boardColumns - boardWidthCells));
+      firstRow = Math.max(0, Math.min(centerY, boardRows - boardHeightCells));
+    }
+
+    /* Blits the cached board layer, repainting it first if the board or the viewport moved. */
+    private void drawBoard(final Graphics2D g, final BoardSnapshot snapshot) {
+      if (boardLayer == null) {
+        // Compatible with the screen, so that the unchanged image stays cached in video memory
+        boardLayer =
+            g.getDeviceConfiguration()
+                .createCompatibleImage(
+                    boardPixelWidth + 1, boardPixelHeight + 1, Transparency.OPAQUE);
+        paintBoardLayer(snapshot);
+      } else if (snapshot.getVersion() != layerVersion
+          || firstRow != layerFirstRow
+          || firstCol != layerFirstCol) {
+        paintBoardLayer(snapshot);
+      }
+      g.drawImage(boardLayer, boardX, boardY, null);
+    }
+
+    private void paintBoardLayer(final BoardSnapshot snapshot) {
+      final Graphics2D layer = boardLayer.createGraphics();
+
+      try {
+        layer.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        // Draw in window coordinates, shifted onto the layer
+        layer.translate(-boardX, -boardY);
+        paintBoard(layer, snapshot);
+      } finally {
+        layer.dispose();
+      }
+      layerVersion = snapshot.getVersion();
+      layerFirstRow = firstRow;
+      layerFirstCol = firstCol;
     }
 
-    private void drawBoard(final Graphics2D g) {
+    private void paintBoard(final Graphics2D g, final BoardSnapshot snapshot) {
       // Board background
       g.setColor(BOARD_BACKGROUND_COLOR);
       g.fillRect(boardX, boardY, boardPixelWidth, boardPixelHeight);
@@ -135,109 +222,179 @@ public final class PlayView extends AbstractView<PlayModel> {
         final int x = boardX + col * BOARD_CELL_SIZE;
         g.drawLine(x, boardY, x, boardY + boardPixelHeight);
       }
-      // Draw placed pieces
-      for (int row = 0; row < boardHeightCells; row++) {
-        for (int col = 0; col < boardWidthCells; col++) {
-          final Color cellColor = board.getCellColor(row, col);
+      // Draw placed pieces from a consistent snapshot, skipping the empty rows above the stack
+      final int stackTop = snapshot.getHeight() - snapshot.getStackHeight();
+      for (int row = Math.max(firstRow, stackTop); row < firstRow + boardHeightCells; row++) {
+        for (int col = firstCol; col < firstCol + boardWidthCells; col++) {
+          final Color cellColor = snapshot.getCellColor(row, col);
           if (cellColor != null) {
-            drawCell(g, boardX + col * BOARD_CELL_SIZE, boardY + row * BOARD_CELL_SIZE, cellColor);
+            drawBoardCell(g, row, col, cellColor);
           }
         }
       }
     }
 
-    private void drawCurrentPiece(final Graphics2D g, final AbstractTetromino<?> piece) {
-      if (piece == null) {
-        return;
-      }
-
-      final int x = boardX + piece.getX() * BOARD_CELL_SIZE;
-      final int y = boardY + piece.getY() * BOARD_CELL_SIZE;
+    private void drawCurrentPiece(final Graphics2D g, final long state) {
+      drawPieceState(g, state, PieceState.y(state), PieceState.type(state).getColor());
+    }
 
-      drawTetromino(g, piece, x, y, piece.getColor());
+    private void drawGhostPiece(final Graphics2D g, final long state, final int ghostY) {
+      drawPieceState(g, state, ghostY, GHOST_PIECE_COLOR);
     }
 
-    private void drawGhostPiece(final Graphics2D g, final AbstractTetromino<?> ghost) {
-      if (ghost == null) {
-        return;
+    private void drawNextPiece(final Graphics2D g, final PlayFrame frame) {
+      g.setColor(BODY_TEXT_COLOR);
+      g.setFont(getBodyFont());
+      g.drawString("NEXT", gameInfoPanelX, nextY);
+      if (frame.getPreviewSize() > 0) {
+        final PieceType next = frame.getPreviewType(0);
+        drawShape(g, next.getShapeTable(), 0, gameInfoPanelX, nextBoxY, next.getColor());
       }
-
-      final int x = boardX + ghost.getX() * BOARD_CELL_SIZE;
-      final int y = boardY + ghost.getY() * BOARD_CELL_SIZE;
-
-      drawTetromino(g, ghost, x, y, GHOST_PIECE_COLOR);
     }
 
-    private void drawNextPiece(final Graphics2D g, final AbstractTetromino<?> next) {
+    /* The first piece of the preview is already shown as NEXT. */
+    private void drawQueue(final Graphics2D g, final PlayFrame frame) {
+      if (frame.getPreviewSize() < 2) {
+        return;
+      }
       g.setColor(BODY_TEXT_COLOR);
       g.setFont(getBodyFont());
-      g.drawString("NEXT", gameInfoPanelX, nextY);
-      if (next != null) {
-        drawTetrominoPreview(g, next, gameInfoPanelX, nextBoxY);
+      g.drawString("QUEUE", queuePanelX, nextY);
+      for (int i = 1; i < frame.getPreviewSize(); i++) {
+        final PieceType piece = frame.getPreviewType(i);
+        final ShapeTable shape = piece.getShapeTable();
+        final int y = nextBoxY + (i - 1) * QUEUE_PIECE_SPACING;
+        for (int cell = 0; cell < shape.getCellCount(0); cell++) {
+          drawCell(
+              g,
+              queuePanelX + shape.getCellX(0, cell) * QUEUE_CELL_SIZE,
+              y + shape.getCellY(0, cell) * QUEUE_CELL_SIZE,
+              piece.getColor(),
+              QUEUE_CELL_SIZE);
+        }
       }
     }
 
-    private void drawHeldPiece(final Graphics2D g, final AbstractTetromino<?> held) {
+    private void drawHeldPiece(final Graphics2D g, final long held) {
       g.setColor(BODY_TEXT_COLOR);
       g.setFont(getBodyFont());
       g.drawString("HOLD", gameInfoPanelX, holdY);
-      if (held != null) {
-        drawTetrominoPreview(g, held, gameInfoPanelX, holdBoxY);
+      if (held != PlayFrame.NO_PIECE) {
+        drawShape(
+            g,
+            PieceState.shapeTable(held),
+            PieceState.rotation(held),
+            gameInfoPanelX,
+            holdBoxY,
+            PieceState.type(held).getColor());
       }
     }
 
-    private void drawTetromino(
+    private void drawShape(
         final Graphics2D g,
-        final AbstractTetromino<?> piece,
+        final ShapeTable shape,
+        final int rotation,
         final int x,
         final int y,
         final Color color) {
-      final int[][] shape = piece.getShape();
-      for (int row = 0; row < shape.length; row++) {
-        for (int col = 0; col < shape[row].length; col++) {
-          if (shape[row][col] != 0) {
-            drawCell(g, x + col * BOARD_CELL_SIZE, y + row * BOARD_CELL_SIZE, color);
-          }
-        }
+      for (int i = 0; i < shape.getCellCount(rotation); i++) {
+        drawCell(
+            g,
+            x + shape.getCellX(rotation, i) * BOARD_CELL_SIZE,
+            y + shape.getCellY(rotation, i) * BOARD_CELL_SIZE,
+            color);
       }
     }
 
-    private void drawTetrominoPreview(
-        final Graphics2D g, final AbstractTetromino<?> piece, final int x, final int y) {
-      drawTetromino(g, piece, x, y, piece.getColor());
+    private void drawPieceState(
+        final Graphics2D g, final long state, final int pieceY, final Color color) {
+      final ShapeTable shape = PieceState.shapeTable(state);
+      final int rotation = PieceState.rotation(state);
+      final int pieceX = PieceState.x(state);
+
+      for (int i = 0; i < shape.getCellCount(rotation); i++) {
+        drawBoardCell(
+            g, pieceY + shape.getCellY(rotation, i), pieceX + shape.getCellX(rotation, i), color);
+      }
+    }
+
+    /* Draws a cell given in board coordinates, if it lies inside the viewport. */
+    private void drawBoardCell(
+        final Graphics2D g, final int row, final int col, final Color color) {
+      if (row >= firstRow
+          && row < firstRow + boardHeightCells
+          && col >= firstCol
+          && col < firstCol + boardWidthCells) {
+        drawCell(
+            g,
+            boardX + (col - firstCol) * BOARD_CELL_SIZE,
+            boardY + (row - firstRow) * BOARD_CELL_SIZE,
+            color);
+      }
     }
 
     private void drawCell(final Graphics2D g, final int x, final int y, final Color color) {
+      drawCell(g, x, y, color, BOARD_CELL_SIZE);
+    }
+
+    private void drawCell(
+        final Graphics2D g, final int x, final int y, final Color color, final int size) {
       // Main cell body
       g.setColor(color);
-      g.fillRect(x + 1, y + 1, BOARD_CELL_SIZE - 2, BOARD_CELL_SIZE - 2);
+      g.fillRect(x + 1, y + 1, size - 2, size - 2);
       // Light edges (top and left) for 3D effect
       g.setColor(color.brighter());
-      g.drawLine(x + 1, y + 1, x + BOARD_CELL_SIZE - 2, y + 1);
-      g.drawLine(x + 1, y + 1, x + 1, y + BOARD_CELL_SIZE - 2);
+      g.drawLine(x + 1, y + 1, x + size - 2, y + 1);
+      g.drawLine(x + 1, y + 1, x + 1, y + size - 2);
       // Dark edges (bottom and right) for 3D effect
       g.setColor(color.darker());
-      g.drawLine(x + BOARD_CELL_SIZE - 1, y + 1, x + BOARD_CELL_SIZE - 1, y + BOARD_CELL_SIZE - 1);
-      g.drawLine(x + 1, y + BOARD_CELL_SIZE - 1, x + BOARD_CELL_SIZE - 1, y + BOARD_CELL_SIZE - 1);
+      g.drawLine(x + size - 1, y + 1, x + size - 1, y + size - 1);
+      g.drawLine(x + 1, y + size - 1, x + size - 1, y + size - 1);
     }
 
-    private void drawGameInfo(final Graphics2D g, final PlayModel model) {
+    private void drawGameInfo(final Graphics2D g, final PlayFrame frame) {
       g.setColor(BODY_TEXT_COLOR);
       g.setFont(getBodyFont());
       // Score
       g.drawString("SCORE", gameInfoPanelX, scoreY);
-      g.drawString(String.valueOf(model.getScore()), gameInfoPanelX, scoreY + SCORE_VALUE_OFFSET);
+      g.drawString(String.valueOf(frame.getScore()), gameInfoPanelX, scoreY + SCORE_VALUE_OFFSET);
       // Level
       g.drawString("LEVEL", gameInfoPanelX, levelY);
-      g.drawString(String.valueOf(model.getLevel()), gameInfoPanelX, levelY + SCORE_VALUE_OFFSET);
+      g.drawString(String.valueOf(frame.getLevel()), gameInfoPanelX, levelY + SCORE_VALUE_OFFSET);
       // Lines
       g.drawString("LINES", gameInfoPanelX, linesY);
       g.drawString(
-          String.valueOf(model.getLinesCleared()), gameInfoPanelX, linesY + SCORE_VALUE_OFFSET);
+          String.valueOf(frame.getLinesCleared()), gameInfoPanelX, linesY + SCORE_VALUE_OFFSET);
+    }
+
+    /*
+     * The overlay text is only rebuilt twice a second: readable, and cheap enough not to show up in
+     * the times it reports.
+     */
+    private void drawHud(final Graphics2D g, final PlayFrame frame) {
+      if (!frame.isHudVisible()) {
+        return;
+      }
+
+      final long now = System.nanoTime();
+
+      if (hudLines[0] == null || now - hudRefreshedAt >= HUD_REFRESH_NANOS) {
+        final FrameStats stats = FrameStats.getInstance();
+        hudLines[0] = HUD_LABELS[0] + " " + FrameStats.summarize(stats.getUpdate());
+        hudLines[1] = HUD_LABELS[1] + " " + FrameStats.summarize(stats.getRender());
+        hudLines[2] = HUD_LABELS[2] + " " + FrameStats.summarize(stats.getShow());
+        hudLines[3] = HUD_LABELS[3] + " " + FrameStats.summarize(stats.getFrame());
+        hudRefreshedAt = now;
+      }
+      g.setColor(HUD_TEXT_COLOR);
+      g.setFont(getCaptionFont());
+      for (int i = 0; i < hudLines.length; i++) {
+        g.drawString(hudLines[i], HUD_MARGIN, HUD_MARGIN + (i + 1) * HUD_LINE_SPACING);
+      }
     }
 
-    private void drawPause(final Graphics2D g, final PlayModel model) {
-      if (model.isPaused()) {
+    private void drawPause(final Graphics2D g, final PlayFrame frame) {
+      if (frame.isPaused()) {
         RenderUtils.drawOverlay(g, getWindowWidth(), getWindowHeight(), BACKGROUND_OVERLAY_ALPHA);
         g.setColor(BODY_TEXT_COLOR);
         g.setFont(getBodyFont());
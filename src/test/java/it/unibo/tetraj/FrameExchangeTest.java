@@ -0,0 +1,73 @@
+package it.unibo.tetraj;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the FrameExchange class. */
+class FrameExchangeTest {
+
+  private static final int FRAMES = 200_000;
+  private static final long JOIN_TIMEOUT_MS = 10_000;
+
+  @Test
+  @DisplayName("should hand over the latest published frame")
+  void shouldHandOverLatestFrame() {
+    // Arrange
+    final FrameExchange<long[]> exchange = new FrameExchange<>(() -> new long[1]);
+
+    // Act
+    final long[] beforePublish = exchange.acquire();
+    exchange.getBackFrame()[0] = 1;
+    exchange.publish();
+    exchange.getBackFrame()[0] = 2;
+    exchange.publish();
+    final long[] latest = exchange.acquire();
+    final long[] again = exchange.acquire();
+
+    // Assert
+    assertNull(beforePublish, "Nothing should be acquired before the first publish");
+    assertEquals(2L, latest[0], "Only the newest frame should be acquired");
+    assertSame(latest, again, "Without a new publish the same frame should be kept");
+    assertNotSame(latest, exchange.getBackFrame(), "The producer should never get the front frame");
+  }
+
+  @Test
+  @DisplayName("should never expose a frame being written")
+  void shouldNeverExposeFrameBeingWritten() throws InterruptedException {
+    // Arrange
+    final FrameExchange<long[]> exchange = new FrameExchange<>(() -> new long[2]);
+    final Thread producer =
+        new Thread(
+            () -> {
+              for (long i = 1; i <= FRAMES; i++) {
+                final long[] frame = exchange.getBackFrame();
+                frame[0] = i;
+                frame[1] = -i;
+                exchange.publish();
+              }
+            });
+    boolean consistent = true;
+    long last = 0;
+
+    // Act
+    producer.start();
+    while (last < FRAMES) {
+      final long[] frame = exchange.acquire();
+      if (frame != null) {
+        consistent &= frame[1] == -frame[0] && frame[0] >= last;
+        last = frame[0];
+      }
+    }
+    producer.join(JOIN_TIMEOUT_MS);
+
+    // Assert
+    assertTrue(consistent, "Frames should be complete and never go back in time");
+    assertEquals(FRAMES, last, "The last frame should arrive");
+  }
+}
@@ -0,0 +1,73 @@
+package it.unibo.tetraj;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the FramePacer class. */
+class FramePacerTest {
+
+  private static final int FPS = 200;
+  private static final int FRAMES = 40;
+  private static final long FRAME_NANOS = 5_000_000L;
+  private static final long SPIN_NANOS = 500_000L;
+  // Generous bound, the pacer should be far closer on an idle machine
+  private static final long MAX_MEAN_JITTER_NANOS = 2_000_000L;
+  private static final int HIGH_FPS = 144;
+
+  @Test
+  @DisplayName("should hold the loop to the target frame rate")
+  void shouldHoldTargetFrameRate() {
+    // Arrange
+    final FramePacer pacer = new FramePacer(FPS, SPIN_NANOS);
+    final long start = System.nanoTime();
+
+    // Act
+    pacer.start();
+    long last = start;
+    for (int i = 0; i < FRAMES; i++) {
+      last = pacer.awaitNextFrame();
+    }
+
+    // Assert
+    assertEquals(FRAME_NANOS, pacer.getFrameNanos(), "Frame length should match the rate");
+    assertEquals(FRAMES, pacer.getFrameCount(), "Every frame should be counted");
+    assertTrue(last - start >= FRAMES * FRAME_NANOS, "Frames should not come early");
+    assertTrue(
+        pacer.getMeanJitterNanos() < MAX_MEAN_JITTER_NANOS,
+        "Wake-ups should be close to their deadlines: " + pacer.getMeanJitterNanos() + " ns");
+  }
+
+  @Test
+  @DisplayName("should restart the cadence after a missed frame")
+  void shouldRestartCadenceAfterMissedFrame() throws InterruptedException {
+    // Arrange
+    final FramePacer pacer = new FramePacer(FPS, SPIN_NANOS);
+    pacer.start();
+
+    // Act
+    Thread.sleep(FRAME_NANOS * 3 / 1_000_000L);
+    final long stalled = pacer.awaitNextFrame();
+    final long next = pacer.awaitNextFrame();
+
+    // Assert
+    assertEquals(1L, pacer.getMissedFrames(), "The stall should count as a missed frame");
+    assertTrue(next - stalled >= FRAME_NANOS, "The next frame should wait a full frame");
+  }
+
+  @Test
+  @DisplayName("should parse the configured frame rates")
+  void shouldParseConfiguredFrameRates() {
+    // Act & Assert
+    assertEquals(HIGH_FPS, FramePacer.parseTargetFps(" 144 "), "Numeric rate");
+    assertEquals(0, FramePacer.parseTargetFps("Unlimited"), "Unlimited rate");
+    assertEquals(FramePacer.DEFAULT_TARGET_FPS, FramePacer.parseTargetFps(null), "Missing rate");
+    assertEquals(FramePacer.DEFAULT_TARGET_FPS, FramePacer.parseTargetFps("-5"), "Negative rate");
+    assertEquals(FramePacer.DEFAULT_TARGET_FPS, FramePacer.parseTargetFps("fast"), "Invalid rate");
+    assertEquals(0L, new FramePacer(0, SPIN_NANOS).getFrameNanos(), "Unlimited has no frame");
+    assertThrows(IllegalArgumentException.class, () -> new FramePacer(-1, SPIN_NANOS), "Negative");
+  }
+}
@@ -0,0 +1,118 @@
+package it.unibo.tetraj;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the KeyEventQueue class. */
+class KeyEventQueueTest {
+
+  private static final int KEY_LEFT = 37;
+  private static final int KEY_SPACE = 32;
+  private static final int SMALL_CAPACITY = 4;
+  private static final int EVENTS = 200_000;
+  private static final long JOIN_TIMEOUT_MS = 10_000;
+
+  @Test
+  @DisplayName("should deliver events in order")
+  void shouldDeliverEventsInOrder() {
+    // Arrange
+    final KeyEventQueue queue = new KeyEventQueue();
+    final List<String> received = new ArrayList<>();
+    queue.offer(KEY_LEFT, true);
+    queue.offer(KEY_SPACE, true);
+    queue.offer(KEY_LEFT, false);
+
+    // Act
+    final int delivered = queue.drain((code, pressed) -> received.add(code + ":" + pressed));
+
+    // Assert
+    assertEquals(3, delivered, "Every event should be delivered");
+    assertEquals(List.of("37:true", "32:true", "37:false"), received, "Events should keep order");
+  }
+
+  @Test
+  @DisplayName("should coalesce repeated key states within a drain")
+  void shouldCoalesceRepeatedKeyStates() {
+    // Arrange
+    final KeyEventQueue queue = new KeyEventQueue();
+    final List<Boolean> received = new ArrayList<>();
+    // Auto repeat presses, then a quick release and press again
+    queue.offer(KEY_LEFT, true);
+    queue.offer(KEY_LEFT, true);
+    queue.offer(KEY_LEFT, true);
+    queue.offer(KEY_LEFT, false);
+    queue.offer(KEY_LEFT, true);
+
+    // Act
+    queue.drain((code, pressed) -> received.add(pressed));
+    queue.offer(KEY_LEFT, true);
+    queue.drain((code, pressed) -> received.add(pressed));
+
+    // Assert
+    assertEquals(
+        List.of(true, false, true, true),
+        received,
+        "Only repeats within the same drain should be coalesced");
+  }
+
+  @Test
+  @DisplayName("should drop events when full and reject invalid capacities")
+  void shouldDropEventsWhenFull() {
+    // Arrange
+    final KeyEventQueue queue = new KeyEventQueue(SMALL_CAPACITY);
+    for (int i = 0; i < SMALL_CAPACITY; i++) {
+      queue.offer(i, true);
+    }
+
+    // Act
+    final boolean accepted = queue.offer(KEY_SPACE, true);
+
+    // Assert
+    assertFalse(accepted, "A full queue should refuse events");
+    assertEquals(1L, queue.getDroppedCount(), "The dropped event should be counted");
+    assertEquals(SMALL_CAPACITY, queue.drain((code, pressed) -> {}), "Queued events");
+    assertTrue(queue.offer(KEY_SPACE, true), "A drained queue should accept again");
+    assertThrows(IllegalArgumentException.class, () -> new KeyEventQueue(3), "Not a power of 2");
+  }
+
+  @Test
+  @DisplayName("should hand over every event between two threads")
+  void shouldHandOverEveryEventBetweenThreads() throws InterruptedException {
+    // Arrange
+    final KeyEventQueue queue = new KeyEventQueue();
+    final long[] expected = {0L};
+    final boolean[] ordered = {true};
+    final Thread producer =
+        new Thread(
+            () -> {
+              for (int i = 0; i < EVENTS; i++) {
+                // Every event has its own key code, so that nothing is coalesced
+                while (!queue.offer(i, i % 2 == 0)) {
+                  Thread.onSpinWait();
+                }
+              }
+            });
+
+    // Act
+    producer.start();
+    while (expected[0] < EVENTS) {
+      queue.drain(
+          (code, pressed) -> {
+            ordered[0] &= code == expected[0] && pressed == (code % 2 == 0);
+            expected[0]++;
+          });
+    }
+    producer.join(JOIN_TIMEOUT_MS);
+
+    // Assert
+    assertTrue(ordered[0], "Events should arrive complete and in order");
+    assertEquals(EVENTS, expected[0], "Every event should arrive");
+  }
+}
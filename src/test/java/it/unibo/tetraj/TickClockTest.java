@@ -0,0 +1,64 @@
+package it.unibo.tetraj;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the TickClock class. */
+class TickClockTest {
+
+  private static final int TICK_RATE = 100;
+  private static final long TICK_NANOS = 10_000_000L;
+  private static final int MAX_CATCH_UP = 5;
+  private static final long JITTER_NANOS = 3_333_333L;
+  private static final int FRAMES = 300;
+
+  @Test
+  @DisplayName("should hand out the same ticks whatever the frame timing")
+  void shouldHandOutSameTicksWhateverFrameTiming() {
+    // Arrange
+    final TickClock steady = new TickClock(TICK_RATE, MAX_CATCH_UP);
+    final TickClock jittery = new TickClock(TICK_RATE, MAX_CATCH_UP);
+    long steadyTicks = 0;
+    long jitteryTicks = 0;
+
+    // Act
+    for (int frame = 0; frame < FRAMES; frame++) {
+      steadyTicks += steady.advance(TICK_NANOS);
+      final long elapsed = frame % 2 == 0 ? JITTER_NANOS : 2 * TICK_NANOS - JITTER_NANOS;
+      jitteryTicks += jittery.advance(elapsed);
+    }
+
+    // Assert
+    assertEquals(FRAMES, steadyTicks, "One tick per tick-long frame");
+    assertEquals(steadyTicks, jitteryTicks, "Jitter should not change the tick count");
+    assertEquals(steadyTicks, jittery.getTickCount(), "Ticks should be counted");
+  }
+
+  @Test
+  @DisplayName("should bound the catch-up after a stall and drop the rest")
+  void shouldBoundCatchUpAfterStall() {
+    // Arrange
+    final TickClock clock = new TickClock(TICK_RATE, MAX_CATCH_UP);
+    final long stall = (MAX_CATCH_UP * 3) * TICK_NANOS + TICK_NANOS / 2;
+
+    // Act
+    final int ticks = clock.advance(stall);
+
+    // Assert
+    assertEquals(MAX_CATCH_UP, ticks, "Catch-up should be bounded");
+    assertEquals(MAX_CATCH_UP * 2 * TICK_NANOS, clock.getDroppedNanos(), "Excess is dropped");
+    assertEquals(0.5, clock.getAlpha(), "The partial tick should be kept");
+    assertEquals(0, clock.advance(-1L), "Time should never run backwards");
+  }
+
+  @Test
+  @DisplayName("should reject invalid settings")
+  void shouldRejectInvalidSettings() {
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class, () -> new TickClock(0, 1), "Zero rate");
+    assertThrows(IllegalArgumentException.class, () -> new TickClock(TICK_RATE, 0), "No ticks");
+  }
+}
@@ -0,0 +1,113 @@
+package it.unibo.tetraj.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import it.unibo.tetraj.model.piece.SingleCellTetromino;
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the BoardSnapshot class. */
+class BoardSnapshotTest {
+
+  private static final int BOTTOM_ROW = 19;
+  private static final int RANDOM_SEED = 7;
+  private static final int RANDOM_CELLS = 300;
+  private static final int RANDOM_ROWS_FROM = 12;
+  private static final Color[] COLORS = {Color.RED, Color.GREEN, Color.BLUE};
+  private Board board;
+
+  @BeforeEach
+  void setUp() {
+    board = new Board();
+  }
+
+  @Test
+  @DisplayName("should reuse the snapshot of an unchanged board")
+  void shouldReuseSnapshotOfUnchangedBoard() {
+    // Arrange
+    board.placeTetromino(new SingleCellTetromino(0, BOTTOM_ROW, Color.RED));
+
+    // Act
+    final BoardSnapshot first = board.snapshot();
+    final BoardSnapshot second = board.snapshot();
+    board.placeTetromino(new SingleCellTetromino(1, BOTTOM_ROW, Color.RED));
+    final BoardSnapshot third = board.snapshot();
+
+    // Assert
+    assertSame(first, second, "An unchanged board should give the same snapshot");
+    assertNotEquals(first.getVersion(), third.getVersion(), "A change should bump the version");
+    assertEquals(Color.RED, third.getCellColor(BOTTOM_ROW, 1), "New snapshot shows the change");
+    assertNull(first.getCellColor(BOTTOM_ROW, 1), "Old snapshot should be unchanged");
+  }
+
+  @Test
+  @DisplayName("every snapshot should keep the board as it was when taken")
+  void everySnapshotShouldKeepBoardAsTaken() {
+    // Arrange
+    final Random random = new Random(RANDOM_SEED);
+    final List<BoardSnapshot> snapshots = new ArrayList<>();
+    final List<Board> copies = new ArrayList<>();
+
+    // Act
+    for (int i = 0; i < RANDOM_CELLS; i++) {
+      final int row = RANDOM_ROWS_FROM + random.nextInt(board.getHeight() - RANDOM_ROWS_FROM);
+      final int col = random.nextInt(board.getWidth());
+      if (!board.isOccupied(row, col)) {
+        board.placeTetromino(
+            new SingleCellTetromino(col, row, COLORS[random.nextInt(COLORS.length)]));
+        board.clearCompletedLines();
+        snapshots.add(board.snapshot());
+        copies.add(new Board(board));
+      }
+    }
+
+    // Assert
+    for (int i = 0; i < snapshots.size(); i++) {
+      assertSameCells(copies.get(i), snapshots.get(i));
+    }
+  }
+
+  @Test
+  @DisplayName("should follow rollbacks and board clears")
+  void shouldFollowRollbacksAndClears() {
+    // Arrange
+    board.placeTetromino(new SingleCellTetromino(0, BOTTOM_ROW, Color.RED));
+    final BoardSnapshot before = board.snapshot();
+    final int mark = board.mark();
+    board.placeTetromino(new SingleCellTetromino(0, BOTTOM_ROW - 1, Color.BLUE));
+    board.snapshot();
+
+    // Act
+    board.rollback(mark);
+    final BoardSnapshot rolledBack = board.snapshot();
+    board.clear();
+    final BoardSnapshot cleared = board.snapshot();
+
+    // Assert
+    assertSameCells(board, cleared);
+    assertEquals(0, cleared.getStackHeight(), "Cleared board should have no stack");
+    assertEquals(before.getStackHeight(), rolledBack.getStackHeight(), "Stack should be restored");
+    assertEquals(Color.RED, rolledBack.getCellColor(BOTTOM_ROW, 0), "Kept cell should remain");
+    assertNull(rolledBack.getCellColor(BOTTOM_ROW - 1, 0), "Undone cell should be gone");
+  }
+
+  private static void assertSameCells(final Board expected, final BoardSnapshot actual) {
+    assertEquals(expected.getStackHeight(), actual.getStackHeight(), "Stack heights should match");
+    for (int row = 0; row < expected.getHeight(); row++) {
+      for (int col = 0; col < expected.getWidth(); col++) {
+        assertEquals(
+            expected.getCellColor(row, col),
+            actual.getCellColor(row, col),
+            String.format("Cell [%d][%d] should match", row, col));
+      }
+    }
+  }
+}
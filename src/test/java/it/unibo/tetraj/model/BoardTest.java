@@ -2,13 +2,17 @@ package it.unibo.tetraj.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import it.unibo.tetraj.model.piece.AbstractTetromino;
 import it.unibo.tetraj.model.piece.SingleCellTetromino;
+import it.unibo.tetraj.model.piece.TTetromino;
 import java.awt.Color;
-import java.util.List;
+import java.util.Random;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -34,6 +38,15 @@ class BoardTest {
   private static final int FOUR_LINES = 4;
   private static final int THREE_LINES = 3;
   private static final int ONE_LINE = 1;
+  private static final int TWO_CELLS = 2;
+  private static final int WIDE_BOARD_WIDTH = 200;
+  private static final int TALL_BOARD_HEIGHT = 100_000;
+  private static final int WORD_BOUNDARY_X = 63;
+  private static final long TEST_COLUMN_MASK = 1L << TEST_COLUMN;
+  private static final int RANDOM_SEED = 42;
+  private static final int RANDOM_CELLS = 60;
+  private static final int RANDOM_ROWS_FROM = 8;
+  private static final int ROTATIONS = 4;
   private Board board;
   private BoardTestHelper helper;
 
@@ -50,11 +63,11 @@ class BoardTest {
     helper.fillRow(board, BOTTOM_ROW, Color.BLUE);
 
     // Act
-    final List<Integer> clearedLines = board.clearCompletedLines();
+    final int clearedLines = board.clearCompletedLines();
 
     // Assert
-    assertEquals(ONE_LINE, clearedLines.size(), "Should clear exactly one line");
-    assertEquals(BOTTOM_ROW, clearedLines.get(0), "Should clear row 19");
+    assertEquals(ONE_LINE, clearedLines, "Should clear exactly one line");
+    assertEquals(BOTTOM_ROW, board.getClearedRow(0), "Should clear row 19");
 
     // Verify the row is now empty
     for (int col = 0; col < board.getWidth(); col++) {
@@ -76,10 +89,10 @@ class BoardTest {
     board.placeTetromino(new SingleCellTetromino(TEST_COLUMN, FOURTH_BOTTOM_ROW, Color.YELLOW));
 
     // Act
-    final List<Integer> clearedLines = board.clearCompletedLines();
+    final int clearedLines = board.clearCompletedLines();
 
     // Assert
-    assertEquals(THREE_LINES, clearedLines.size(), "Should clear three lines");
+    assertEquals(THREE_LINES, clearedLines, "Should clear three lines");
 
     // All three bottom rows should be cleared
     for (int row = THIRD_BOTTOM_ROW; row < BOTTOM_ROW; row++) {
@@ -110,10 +123,13 @@ class BoardTest {
     board.placeTetromino(new SingleCellTetromino(TEST_COLUMN_2, FOURTH_BOTTOM_ROW, Color.CYAN));
 
     // Act
-    final List<Integer> clearedLines = board.clearCompletedLines();
+    final int clearedLines = board.clearCompletedLines();
 
     // Assert
-    assertEquals(THREE_LINES, clearedLines.size(), "Should clear three lines");
+    assertEquals(THREE_LINES, clearedLines, "Should clear three lines");
+    assertEquals(BOTTOM_ROW, board.getClearedRow(0), "Cleared rows are reported bottom-up");
+    assertEquals(THIRD_BOTTOM_ROW, board.getClearedRow(1), "Second cleared row should be 17");
+    assertEquals(FIFTH_BOTTOM_ROW, board.getClearedRow(2), "Third cleared row should be 15");
 
     // Check that the markers shifted correctly
     // After clearing 19, 17, 15, the marker from 18 should be at 19, from 16 should be at 18
@@ -145,10 +161,10 @@ class BoardTest {
     board.placeTetromino(new SingleCellTetromino(TEST_COLUMN, FIFTH_BOTTOM_ROW, Color.MAGENTA));
 
     // Act
-    final List<Integer> clearedLines = board.clearCompletedLines();
+    final int clearedLines = board.clearCompletedLines();
 
     // Assert
-    assertEquals(FOUR_LINES, clearedLines.size(), "Should clear exactly four lines (Tetris!)");
+    assertEquals(FOUR_LINES, clearedLines, "Should clear exactly four lines (Tetris!)");
 
     // Bottom 4 rows should be empty
     for (int row = FOURTH_BOTTOM_ROW; row < BOTTOM_ROW; row++) {
@@ -172,10 +188,10 @@ class BoardTest {
     helper.partialFillRow(board, BOTTOM_ROW, SINGLE_GAP); // Leave 1 cell empty
 
     // Act
-    final List<Integer> clearedLines = board.clearCompletedLines();
+    final int clearedLines = board.clearCompletedLines();
 
     // Assert
-    assertTrue(clearedLines.isEmpty(), "Should not clear partial lines");
+    assertEquals(0, clearedLines, "Should not clear partial lines");
 
     // Verify cells are still there
     assertNotNull(board.getCellColor(BOTTOM_ROW, 0), "Cells should remain");
@@ -183,13 +199,29 @@ class BoardTest {
   }
 
   @Test
-  @DisplayName("should return empty list when clearing empty board")
-  void shouldReturnEmptyListWhenClearingEmptyBoard() {
+  @DisplayName("should return zero when clearing empty board")
+  void shouldReturnZeroWhenClearingEmptyBoard() {
     // Act - clear on empty board
-    final List<Integer> clearedLines = board.clearCompletedLines();
+    final int clearedLines = board.clearCompletedLines();
 
     // Assert
-    assertTrue(clearedLines.isEmpty(), "Empty board should have no lines to clear");
+    assertEquals(0, clearedLines, "Empty board should have no lines to clear");
+  }
+
+  @Test
+  @DisplayName("should reuse cleared rows as empty rows at the top")
+  void shouldReuseClearedRowsAsEmptyRowsAtTop() {
+    // Arrange
+    helper.fillRow(board, BOTTOM_ROW, Color.BLUE);
+    board.clearCompletedLines();
+
+    // Act
+    board.placeTetromino(new SingleCellTetromino(TEST_COLUMN, TOP_ROW, Color.RED));
+
+    // Assert
+    assertEquals(TEST_COLUMN_MASK, board.getRowMask(TOP_ROW), "Recycled row should start empty");
+    assertEquals(Color.RED, board.getCellColor(TOP_ROW, TEST_COLUMN), "Recycled row color");
+    assertNull(board.getCellColor(BOTTOM_ROW, TEST_COLUMN), "Bottom row should stay empty");
   }
 
   @Test
@@ -266,6 +298,295 @@ class BoardTest {
     assertFalse(board.isValidPosition(piece), "Bottom out of bounds should return false");
   }
 
+  @Test
+  @DisplayName("should expose row occupancy as a bitmask")
+  void shouldExposeRowOccupancyAsBitmask() {
+    // Arrange
+    board.placeTetromino(new SingleCellTetromino(TEST_COLUMN, MIDDLE_ROW, Color.RED));
+
+    // Act & Assert
+    assertEquals(TEST_COLUMN_MASK, board.getRowMask(MIDDLE_ROW), "Only column 5 should be set");
+    assertEquals(0L, board.getRowMask(BOTTOM_ROW), "Untouched row should be empty");
+    assertTrue(board.isOccupied(MIDDLE_ROW, TEST_COLUMN), "Placed cell should be occupied");
+    assertEquals(Color.RED, board.getCellColor(MIDDLE_ROW, TEST_COLUMN), "Color should be kept");
+  }
+
+  @Test
+  @DisplayName("should report a full row mask after filling a row")
+  void shouldReportFullRowMaskAfterFillingRow() {
+    // Arrange
+    helper.fillRow(board, BOTTOM_ROW, Color.BLUE);
+
+    // Act & Assert
+    assertEquals(board.getFullRowMask(), board.getRowMask(BOTTOM_ROW), "Row should be full");
+  }
+
+  @Test
+  @DisplayName("should reject boards without cells")
+  void shouldRejectBoardsWithoutCells() {
+    // Act & Assert
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new Board(0, OUT_OF_BOUNDS_ROW),
+        "Zero width should be rejected");
+  }
+
+  @Test
+  @DisplayName("should clear full rows on boards wider than a row word")
+  void shouldClearFullRowsOnWideBoards() {
+    // Arrange
+    final Board wide = new Board(WIDE_BOARD_WIDTH, OUT_OF_BOUNDS_ROW);
+    for (int col = 0; col < WIDE_BOARD_WIDTH; col++) {
+      wide.placeTetromino(new SingleCellTetromino(col, BOTTOM_ROW, Color.RED));
+    }
+    wide.placeTetromino(new SingleCellTetromino(WORD_BOUNDARY_X, SECOND_BOTTOM_ROW, Color.BLUE));
+
+    // Act
+    final int cleared = wide.clearCompletedLines();
+
+    // Assert
+    assertEquals(WIDE_BOARD_WIDTH / Long.SIZE + 1, wide.getWordCount(), "Row should span 4 words");
+    assertEquals(1, cleared, "The full row should be cleared");
+    assertEquals(Color.BLUE, wide.getCellColor(BOTTOM_ROW, WORD_BOUNDARY_X), "Cell should drop");
+    assertEquals(1, wide.getColumnHeight(WORD_BOUNDARY_X), "Skyline should follow");
+    assertEquals(0, wide.getColumnHeight(WORD_BOUNDARY_X + 1), "Other columns should be empty");
+  }
+
+  @Test
+  @DisplayName("should collide pieces straddling two row words")
+  void shouldCollidePiecesStraddlingTwoWords() {
+    // Arrange
+    final Board wide = new Board(WIDE_BOARD_WIDTH, OUT_OF_BOUNDS_ROW);
+    wide.placeTetromino(new SingleCellTetromino(WORD_BOUNDARY_X + 1, BOTTOM_ROW, Color.RED));
+    final AbstractTetromino<?> tee = new TTetromino(WORD_BOUNDARY_X - 1, TOP_ROW);
+    final AbstractTetromino<?> resting = new TTetromino(WORD_BOUNDARY_X - 1, SECOND_BOTTOM_ROW);
+
+    // Act & Assert
+    assertFalse(wide.isValidPosition(resting), "The T crosses the occupied cell of the next word");
+    assertEquals(THIRD_BOTTOM_ROW, wide.getLandingY(tee), "The T should land on the cell");
+  }
+
+  @Test
+  @DisplayName("should only store the stack of a very tall board")
+  void shouldOnlyStoreStackOfTallBoard() {
+    // Arrange
+    final Board tall = new Board(LAST_COLUMN + 1, TALL_BOARD_HEIGHT);
+    final int floor = TALL_BOARD_HEIGHT - 1;
+    for (int col = 0; col <= LAST_COLUMN; col++) {
+      tall.placeTetromino(new SingleCellTetromino(col, floor, Color.RED));
+    }
+    tall.placeTetromino(new SingleCellTetromino(TEST_COLUMN, floor - 1, Color.BLUE));
+
+    // Act
+    final int cleared = tall.clearCompletedLines();
+
+    // Assert
+    assertEquals(1, cleared, "The floor row should be cleared");
+    assertEquals(1, tall.getStackHeight(), "Only the remaining row should be stored");
+    assertEquals(floor, tall.getClearedRow(0), "Cleared rows use top-down indices");
+    assertTrue(tall.isOccupied(floor, TEST_COLUMN), "The cell above should drop to the floor");
+    assertNull(tall.getCellColor(0, TEST_COLUMN), "Rows above the stack should be empty");
+    assertTrue(tall.isValidPosition(new TTetromino(TEST_COLUMN, 0)), "Top should be free");
+  }
+
+  @Test
+  @DisplayName("should track column heights on placement and clear")
+  void shouldTrackColumnHeightsOnPlacementAndClear() {
+    // Arrange
+    helper.fillRow(board, BOTTOM_ROW, Color.BLUE);
+    board.placeTetromino(new SingleCellTetromino(TEST_COLUMN, THIRD_BOTTOM_ROW, Color.RED));
+
+    // Assert before clear
+    assertEquals(THREE_LINES, board.getColumnHeight(TEST_COLUMN), "Column 5 reaches row 17");
+    assertEquals(ONE_LINE, board.getColumnHeight(0), "Column 0 only has the bottom row");
+
+    // Act
+    board.clearCompletedLines();
+
+    // Assert after clear
+    assertEquals(TWO_CELLS, board.getColumnHeight(TEST_COLUMN), "Column 5 should drop by one");
+    assertEquals(0, board.getColumnHeight(0), "Column 0 should be empty again");
+  }
+
+  @Test
+  @DisplayName("should land under an overhang when the piece is tucked")
+  void shouldLandUnderOverhangWhenPieceIsTucked() {
+    // Arrange - overhang at row 17 above an empty cell at row 19
+    board.placeTetromino(new SingleCellTetromino(TEST_COLUMN, THIRD_BOTTOM_ROW, Color.RED));
+    final SingleCellTetromino tucked =
+        new SingleCellTetromino(TEST_COLUMN, SECOND_BOTTOM_ROW, Color.BLUE);
+
+    // Act & Assert
+    assertEquals(BOTTOM_ROW, board.getLandingY(tucked), "Tucked piece should reach the floor");
+  }
+
+  @Test
+  @DisplayName("landing row should match stepping the piece down")
+  void landingRowShouldMatchSteppingPieceDown() {
+    // Arrange - random rubble in the lower part of the board
+    final Random random = new Random(RANDOM_SEED);
+    for (int i = 0; i < RANDOM_CELLS; i++) {
+      final int row = RANDOM_ROWS_FROM + random.nextInt(board.getHeight() - RANDOM_ROWS_FROM);
+      board.placeTetromino(
+          new SingleCellTetromino(random.nextInt(board.getWidth()), row, Color.GRAY));
+    }
+    final AbstractTetromino<?> piece = new TTetromino(0, 0);
+
+    for (int rotation = 0; rotation < ROTATIONS; rotation++) {
+      for (int x = -1; x < board.getWidth(); x++) {
+        piece.setPosition(x, 0);
+        if (!board.isValidPosition(piece)) {
+          continue;
+        }
+
+        // Act
+        final int landingY = board.getLandingY(piece);
+
+        // Assert
+        int expectedY = 0;
+        piece.setPosition(x, 1);
+        while (board.isValidPosition(piece)) {
+          expectedY++;
+          piece.move(0, 1);
+        }
+        assertEquals(expectedY, landingY, "Landing row mismatch at x=" + x);
+      }
+      piece.rotateClockwise();
+    }
+  }
+
+  @Test
+  @DisplayName("zobrist hash should not depend on placement order or colors")
+  void zobristHashShouldNotDependOnPlacementOrderOrColors() {
+    // Arrange
+    final Board other = new Board();
+
+    // Act
+    board.placeTetromino(new SingleCellTetromino(TEST_COLUMN, BOTTOM_ROW, Color.RED));
+    board.placeTetromino(new SingleCellTetromino(TEST_COLUMN_2, SECOND_BOTTOM_ROW, Color.RED));
+    other.placeTetromino(new SingleCellTetromino(TEST_COLUMN_2, SECOND_BOTTOM_ROW, Color.BLUE));
+    other.placeTetromino(new SingleCellTetromino(TEST_COLUMN, BOTTOM_ROW, Color.GREEN));
+
+    // Assert
+    assertEquals(board.getZobristHash(), other.getZobristHash(), "Same cells, same hash");
+    assertNotEquals(0L, board.getZobristHash(), "A non-empty board should not hash to 0");
+  }
+
+  @Test
+  @DisplayName("zobrist hash should follow rows moved by a line clear")
+  void zobristHashShouldFollowRowsMovedByLineClear() {
+    // Arrange
+    final Board expected = new Board();
+    expected.placeTetromino(new SingleCellTetromino(TEST_COLUMN, BOTTOM_ROW, Color.RED));
+    helper.fillRow(board, BOTTOM_ROW, Color.BLUE);
+    board.placeTetromino(new SingleCellTetromino(TEST_COLUMN, SECOND_BOTTOM_ROW, Color.RED));
+
+    // Act
+    board.clearCompletedLines();
+
+    // Assert
+    assertEquals(expected.getZobristHash(), board.getZobristHash(), "Hash after clear");
+  }
+
+  @Test
+  @DisplayName("zobrist hash should distinguish rows and reset on clear")
+  void zobristHashShouldDistinguishRowsAndResetOnClear() {
+    // Arrange
+    final Board other = new Board();
+
+    // Act
+    board.placeTetromino(new SingleCellTetromino(TEST_COLUMN, BOTTOM_ROW, Color.RED));
+    other.placeTetromino(new SingleCellTetromino(TEST_COLUMN, SECOND_BOTTOM_ROW, Color.RED));
+
+    // Assert
+    assertNotEquals(board.getZobristHash(), other.getZobristHash(), "Rows should be hashed");
+    board.clear();
+    assertEquals(0L, board.getZobristHash(), "Empty board should hash to 0");
+  }
+
+  @Test
+  @DisplayName("copy should be independent from the original board")
+  void copyShouldBeIndependentFromOriginalBoard() {
+    // Arrange
+    helper.partialFillRow(board, BOTTOM_ROW, 1);
+
+    // Act
+    final Board copy = new Board(board);
+    copy.placeTetromino(new SingleCellTetromino(board.getWidth() - 1, BOTTOM_ROW, Color.RED));
+    final int cleared = copy.clearCompletedLines();
+
+    // Assert
+    assertEquals(1, cleared, "Copy should clear its own line");
+    assertTrue(board.isOccupied(BOTTOM_ROW, 0), "Original should keep its row");
+    assertFalse(board.isOccupied(BOTTOM_ROW, board.getWidth() - 1), "Original should keep its gap");
+    assertEquals(0L, copy.getZobristHash(), "Cleared copy should be empty");
+    assertNotEquals(0L, board.getZobristHash(), "Original hash should be unchanged");
+  }
+
+  @Test
+  @DisplayName("rollback should restore cells, colors, skyline and hash after line clears")
+  void rollbackShouldRestoreBoardAfterLineClears() {
+    // Arrange
+    final Random random = new Random(RANDOM_SEED);
+    helper.partialFillRow(board, BOTTOM_ROW, 1);
+    helper.partialFillRow(board, THIRD_BOTTOM_ROW, 1);
+    board.placeTetromino(new SingleCellTetromino(0, FIFTH_BOTTOM_ROW, Color.RED));
+    final Board expected = new Board(board);
+
+    // Act
+    final int mark = board.mark();
+    for (int i = 0; i < RANDOM_CELLS; i++) {
+      final int row = RANDOM_ROWS_FROM + random.nextInt(board.getHeight() - RANDOM_ROWS_FROM);
+      final int col = random.nextInt(board.getWidth());
+      if (!board.isOccupied(row, col)) {
+        board.placeTetromino(new SingleCellTetromino(col, row, Color.GREEN));
+        board.clearCompletedLines();
+      }
+    }
+    board.rollback(mark);
+
+    // Assert
+    assertEquals(expected.getZobristHash(), board.getZobristHash(), "Hash should be restored");
+    assertEquals(expected.getStackHeight(), board.getStackHeight(), "Stack should be restored");
+    for (int col = 0; col < board.getWidth(); col++) {
+      assertEquals(
+          expected.getColumnHeight(col),
+          board.getColumnHeight(col),
+          String.format("Column %d height should be restored", col));
+      for (int row = 0; row < board.getHeight(); row++) {
+        assertEquals(
+            expected.getCellColor(row, col),
+            board.getCellColor(row, col),
+            String.format("Cell [%d][%d] should be restored", row, col));
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("rollback should revert nested marks and reject discarded ones")
+  void rollbackShouldRevertNestedMarks() {
+    // Arrange
+    final int outer = board.mark();
+    helper.fillRow(board, BOTTOM_ROW, Color.BLUE);
+    final int inner = board.mark();
+    board.clearCompletedLines();
+
+    // Act
+    board.rollback(inner);
+    final long fullRow = board.getRowMask(BOTTOM_ROW);
+    board.rollback(outer);
+
+    // Assert
+    assertEquals(board.getFullRowMask(), fullRow, "Inner mark should restore the cleared row");
+    assertEquals(0L, board.getRowMask(BOTTOM_ROW), "Outer mark should restore the empty board");
+    assertEquals(0L, board.getZobristHash(), "Outer mark should restore the empty hash");
+    assertThrows(
+        IllegalArgumentException.class, () -> board.rollback(inner), "Inner mark was discarded");
+    board.commit();
+    assertThrows(
+        IllegalArgumentException.class, () -> board.rollback(outer), "Commit drops every mark");
+  }
+
   /** Test helper class for creating board scenarios. */
   private static final class BoardTestHelper {
 
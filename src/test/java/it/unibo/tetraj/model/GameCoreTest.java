@@ -0,0 +1,348 @@
+package it.unibo.tetraj.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import it.unibo.tetraj.model.piece.AbstractTetromino;
+import it.unibo.tetraj.model.piece.OTetromino;
+import it.unibo.tetraj.model.piece.PieceQueue;
+import it.unibo.tetraj.model.piece.SingleCellTetromino;
+import it.unibo.tetraj.model.piece.TetrominoFactory;
+import it.unibo.tetraj.model.piece.selection.BagRandomizerStrategy;
+import it.unibo.tetraj.model.piece.selection.PieceSelectionStrategy;
+import it.unibo.tetraj.model.speed.ClassicSpeedStrategy;
+import it.unibo.tetraj.model.speed.SpeedStrategy;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the GameCore class. Runs without any audio or graphics resource. */
+class GameCoreTest {
+
+  private static final int BOARD_WIDTH = 10;
+  private static final int BOARD_HEIGHT = 20;
+  private static final int O_SPAWN_X = 4;
+  private static final int O_WIDTH = 2;
+  private static final long FALL_NANOS = 4_000_000_000L;
+  private static final int FRAMES = 1000;
+  private static final long LOCK_DELAY_NANOS = 500_000_000L;
+  private static final long SEED = 42L;
+  private static final int TAKE_BACK_DROPS = 6;
+  private static final int HUGE_BOARD_WIDTH = 200;
+  private static final int HUGE_BOARD_HEIGHT = 100_000;
+  private final List<GameEvent> events = new ArrayList<>();
+  private Board board;
+  private GameCore core;
+
+  @BeforeEach
+  void setUp() {
+    events.clear();
+    board = new Board();
+    core =
+        new GameCore(
+            board,
+            new TetrominoFactory(new OnlyOPieces()),
+            new ClassicSpeedStrategy(),
+            events::add);
+  }
+
+  @Test
+  @DisplayName("should report successful moves only")
+  void shouldReportSuccessfulMovesOnly() {
+    // Act
+    for (int i = 0; i < BOARD_WIDTH; i++) {
+      core.moveLeft();
+    }
+
+    // Assert
+    assertEquals(O_SPAWN_X, countEvents(GameEvent.MOVE), "Only real moves should be reported");
+    assertEquals(0, core.getCurrentPiece().getX(), "Piece should stop at the left wall");
+  }
+
+  @Test
+  @DisplayName("should report pause and resume")
+  void shouldReportPauseAndResume() {
+    // Act
+    core.togglePause();
+    core.togglePause();
+
+    // Assert
+    assertEquals(List.of(GameEvent.PAUSE, GameEvent.RESUME), events, "Pause events in order");
+  }
+
+  @Test
+  @DisplayName("should report lock, clear and drop in order on a line clearing hard drop")
+  void shouldReportLockClearAndDropInOrder() {
+    // Arrange
+    fillBottomRowsExceptSpawnColumns();
+
+    // Act
+    core.hardDrop();
+
+    // Assert
+    assertEquals(
+        List.of(GameEvent.PIECE_LOCKED, GameEvent.LINE_CLEAR, GameEvent.HARD_DROP),
+        events,
+        "Events should follow the order of the rules");
+    assertEquals(2, core.getLinesCleared(), "Two lines should be cleared");
+  }
+
+  @Test
+  @DisplayName("should report game over when the spawn area is blocked")
+  void shouldReportGameOverWhenSpawnIsBlocked() {
+    // Act
+    while (!core.isGameOver()) {
+      core.hardDrop();
+    }
+
+    // Assert
+    assertEquals(1, countEvents(GameEvent.GAME_OVER), "Game over should be reported once");
+    assertFalse(core.moveLeft(), "No move should be possible after game over");
+  }
+
+  @Test
+  @DisplayName("should restore game over with the mark taken at game over")
+  void shouldRestoreGameOverWithMark() {
+    // Arrange
+    final int running = core.mark();
+    while (!core.isGameOver()) {
+      core.hardDrop();
+    }
+    final int over = core.mark();
+    final int score = core.getScore();
+
+    // Act
+    core.rollback(over);
+    final boolean stillOver = core.isGameOver();
+    final boolean moved = core.moveLeft();
+    final int scoreAtOver = core.getScore();
+    core.rollback(running);
+
+    // Assert
+    assertTrue(stillOver, "The game should still be over");
+    assertFalse(moved, "No move should be possible after game over");
+    assertEquals(score, scoreAtOver, "The score should be kept");
+    assertFalse(core.isGameOver(), "The earlier mark should resume the game");
+  }
+
+  @Test
+  @DisplayName("should play identically with a silent listener")
+  void shouldPlayIdenticallyWithSilentListener() {
+    // Arrange
+    final GameCore silent =
+        new GameCore(
+            new Board(),
+            new TetrominoFactory(new OnlyOPieces()),
+            new ClassicSpeedStrategy(),
+            GameEventListener.NONE);
+
+    // Act
+    for (final GameCore game : List.of(core, silent)) {
+      game.moveRight();
+      game.hardDrop();
+      game.rotateClockwise();
+      game.hardDrop();
+    }
+
+    // Assert
+    assertEquals(core.getScore(), silent.getScore(), "Listener should not affect the score");
+    assertTrue(core.getScore() > 0, "Hard drops should score points");
+  }
+
+  @Test
+  @DisplayName("should fall the same whatever the frame rate")
+  void shouldFallTheSameWhateverTheFrameRate() {
+    // Arrange
+    final GameCore coarse =
+        new GameCore(
+            new Board(),
+            new TetrominoFactory(new OnlyOPieces()),
+            new ClassicSpeedStrategy(),
+            GameEventListener.NONE);
+
+    // Act
+    coarse.advance(FALL_NANOS);
+    for (int frame = 0; frame < FRAMES; frame++) {
+      core.advance(FALL_NANOS / FRAMES);
+    }
+
+    // Assert
+    assertEquals(
+        coarse.getCurrentPiece().getY(),
+        core.getCurrentPiece().getY(),
+        "Leftover time should be carried between frames");
+    assertTrue(core.getCurrentPiece().getY() > 1, "Several rows should have fallen");
+  }
+
+  @Test
+  @DisplayName("should lock at once under instant gravity")
+  void shouldLockAtOnceUnderInstantGravity() {
+    // Arrange
+    final GameCore twentyG =
+        new GameCore(
+            new Board(),
+            new TetrominoFactory(new OnlyOPieces()),
+            new InstantGravity(),
+            events::add);
+
+    // Act
+    twentyG.advance(1);
+
+    // Assert
+    assertEquals(1, countEvents(GameEvent.PIECE_LOCKED), "The piece should land and lock");
+    assertTrue(
+        twentyG.getBoard().isOccupied(BOARD_HEIGHT - 1, O_SPAWN_X), "It should lie on the floor");
+  }
+
+  @Test
+  @DisplayName("should wait for the lock delay before locking a resting piece")
+  void shouldWaitForLockDelayBeforeLocking() {
+    // Arrange
+    core.setLockDelay(LOCK_DELAY_NANOS);
+    core.advance(FALL_NANOS * BOARD_HEIGHT);
+
+    // Act
+    core.advance(LOCK_DELAY_NANOS - 1);
+    final long lockedBefore = countEvents(GameEvent.PIECE_LOCKED);
+    core.advance(1);
+
+    // Assert
+    assertEquals(0, lockedBefore, "A resting piece should not lock before the delay");
+    assertEquals(1, countEvents(GameEvent.PIECE_LOCKED), "It should lock once the delay is over");
+  }
+
+  @Test
+  @DisplayName("should restart the lock delay when a resting piece moves")
+  void shouldRestartLockDelayOnMove() {
+    // Arrange
+    core.setLockDelay(LOCK_DELAY_NANOS);
+    core.advance(FALL_NANOS * BOARD_HEIGHT);
+    core.advance(LOCK_DELAY_NANOS - 1);
+
+    // Act
+    core.moveLeft();
+    core.advance(LOCK_DELAY_NANOS - 1);
+
+    // Assert
+    assertEquals(0, countEvents(GameEvent.PIECE_LOCKED), "Moving should restart the delay");
+    assertEquals(O_SPAWN_X - 1, core.getCurrentPiece().getX(), "The piece should have moved");
+  }
+
+  @Test
+  @DisplayName("should take moves back and replay them identically")
+  void shouldTakeMovesBackAndReplayThem() {
+    // Arrange
+    final GameCore reference = newBagCore();
+    final GameCore practice = newBagCore();
+    practice.moveLeft();
+    reference.moveLeft();
+
+    // Act
+    final int mark = practice.mark();
+    final long current = practice.getCurrentPieceState();
+    for (int i = 0; i < TAKE_BACK_DROPS; i++) {
+      practice.hardDrop();
+      practice.holdPiece();
+    }
+    practice.rollback(mark);
+    final long restored = practice.getCurrentPieceState();
+    for (int i = 0; i < TAKE_BACK_DROPS; i++) {
+      for (final GameCore game : List.of(reference, practice)) {
+        game.hardDrop();
+        game.holdPiece();
+      }
+    }
+
+    // Assert
+    assertEquals(current, restored, "The current piece should be restored");
+    assertEquals(reference.getScore(), practice.getScore(), "Replay should score the same");
+    assertEquals(
+        reference.getBoard().getZobristHash(),
+        practice.getBoard().getZobristHash(),
+        "Replay should build the same stack");
+    assertEquals(
+        reference.getCurrentPieceState(),
+        practice.getCurrentPieceState(),
+        "Replay should spawn the same pieces");
+  }
+
+  @Test
+  @DisplayName("should play pieces to the floor of a 200x100000 board")
+  void shouldPlayPiecesOnHugeBoard() {
+    // Arrange
+    final Board huge = new Board(HUGE_BOARD_WIDTH, HUGE_BOARD_HEIGHT);
+    final GameCore game =
+        new GameCore(
+            huge, new TetrominoFactory(new OnlyOPieces()), new ClassicSpeedStrategy(), events::add);
+    final int spawnX = (HUGE_BOARD_WIDTH - O_WIDTH) / 2;
+
+    // Act
+    final int ghostY = game.getGhostY();
+    game.hardDrop();
+    int steps = 0;
+    while (!game.moveDown()) {
+      steps++;
+    }
+
+    // Assert
+    assertEquals(HUGE_BOARD_HEIGHT - O_WIDTH, ghostY, "The ghost should rest on the floor");
+    assertEquals(
+        HUGE_BOARD_HEIGHT - 2 * O_WIDTH, steps, "The second piece should fall onto the first");
+    assertEquals(2 * O_WIDTH, huge.getStackHeight(), "Both pieces should lock at the bottom");
+    assertTrue(huge.isOccupied(HUGE_BOARD_HEIGHT - 1, spawnX), "Bottom row should be filled");
+    assertFalse(game.isGameOver(), "The game should go on");
+  }
+
+  private void fillBottomRowsExceptSpawnColumns() {
+    for (int row = BOARD_HEIGHT - 2; row < BOARD_HEIGHT; row++) {
+      for (int col = 0; col < BOARD_WIDTH; col++) {
+        if (col < O_SPAWN_X || col >= O_SPAWN_X + O_WIDTH) {
+          board.placeTetromino(new SingleCellTetromino(col, row));
+        }
+      }
+    }
+  }
+
+  private GameCore newBagCore() {
+    return new GameCore(
+        new Board(),
+        new TetrominoFactory(new BagRandomizerStrategy(SEED), PieceQueue.MAX_SIZE),
+        new ClassicSpeedStrategy(),
+        GameEventListener.NONE);
+  }
+
+  private long countEvents(final GameEvent event) {
+    return events.stream().filter(event::equals).count();
+  }
+
+  /** Speed strategy with 20G gravity at every level. */
+  private static final class InstantGravity implements SpeedStrategy {
+
+    @Override
+    public double getFallSpeed(final int level) {
+      return 0;
+    }
+
+    @Override
+    public double getSoftDropSpeed(final int level) {
+      return 0;
+    }
+  }
+
+  /** Selection strategy that always yields the O tetromino. */
+  private static final class OnlyOPieces implements PieceSelectionStrategy {
+
+    @Override
+    public Class<? extends AbstractTetromino<?>> next() {
+      return OTetromino.class;
+    }
+
+    @Override
+    public void reset() {
+      // Stateless
+    }
+  }
+}
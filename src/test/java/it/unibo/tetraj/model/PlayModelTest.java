@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
@@ -12,6 +13,7 @@ import static org.mockito.Mockito.mockStatic;
 
 import it.unibo.tetraj.model.piece.AbstractTetromino;
 import it.unibo.tetraj.model.piece.ITetromino;
+import it.unibo.tetraj.model.piece.PieceState;
 import it.unibo.tetraj.model.piece.SingleCellTetromino;
 import it.unibo.tetraj.util.ResourceManager;
 import org.junit.jupiter.api.AfterAll;
@@ -641,6 +643,34 @@ class PlayModelTest {
       assertNotNull(piece1, "Held piece should not be null");
       assertEquals(piece1.getClass(), piece2.getClass(), "Copies should be same type");
     }
+
+    @Test
+    @DisplayName("writeFrame should copy what the view draws")
+    void writeFrameShouldCopyWhatTheViewDraws() {
+      // Arrange
+      final PlayFrame frame = new PlayFrame();
+      model.holdPiece();
+      final long current = model.getCurrentPieceState();
+
+      // Act
+      model.writeFrame(frame);
+      model.moveLeft();
+
+      // Assert
+      assertSame(model.getBoardSnapshot(), frame.getBoard(), "Board snapshot should be shared");
+      assertEquals(current, frame.getPieceState(), "Frame should keep the piece it was given");
+      assertEquals(model.getGhostY(), frame.getGhostY(), "Ghost row should match");
+      assertEquals(model.getPreview().size(), frame.getPreviewSize(), "Preview size should match");
+      assertEquals(
+          model.getNextPiece().getClass(),
+          frame.getPreviewType(0).getPieceClass(),
+          "Next piece should match");
+      assertEquals(
+          model.getHeldPiece().getClass(),
+          PieceState.type(frame.getHeldState()).getPieceClass(),
+          "Held piece should match");
+      assertFalse(frame.isPaused(), "Frame should not be paused");
+    }
   }
 
   @Nested
@@ -699,19 +729,19 @@ class PlayModelTest {
     void shouldAwardSoftDropPointsPerCell() {
       // Arrange
       final int scoreBefore = model.getScore();
+      final int rowBefore = model.getCurrentPiece().getY();
       model.startSoftDrop();
-      model.update(SOFT_DROP_ACTIVATION_DELAY_SECONDS);
 
       // Act
-      final boolean placed = model.moveDown();
+      model.update(SOFT_DROP_ACTIVATION_DELAY_SECONDS);
 
       // Assert
-      if (!placed) {
-        assertEquals(
-            scoreBefore + SOFT_DROP_POINTS_PER_CELL,
-            model.getScore(),
-            "Should award 1 point per cell during soft drop");
-      }
+      final int rowsFallen = model.getCurrentPiece().getY() - rowBefore;
+      assertTrue(rowsFallen > 0, "Soft drop gravity should move the piece");
+      assertEquals(
+          scoreBefore + rowsFallen * SOFT_DROP_POINTS_PER_CELL,
+          model.getScore(),
+          "Should award 1 point per cell during soft drop");
     }
 
     @Test
@@ -0,0 +1,173 @@
+package it.unibo.tetraj.model.evaluator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import it.unibo.tetraj.model.Board;
+import it.unibo.tetraj.model.piece.SingleCellTetromino;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the BoardFeatures class. */
+class BoardFeaturesTest {
+
+  private static final int WIDTH = 10;
+  private static final int HEIGHT = 20;
+  private static final int BOTTOM_ROW = 19;
+  private static final int FEATURES = BoardFeature.values().length;
+  private static final int RANDOM_SEED = 7;
+  private static final int RANDOM_BOARDS = 200;
+  private static final int MAX_CELLS = 80;
+  private static final int LINES = 2;
+  private static final int EMPTY_BOARD_COLUMN_TRANSITIONS = 10;
+  private static final int[] ODD_WIDTHS = {1, 64, 65, 150};
+  private static final int ODD_HEIGHT = 30;
+
+  @Test
+  @DisplayName("empty board should only have floor transitions")
+  void emptyBoardShouldOnlyHaveFloorTransitions() {
+    // Arrange
+    final int[] features = new int[FEATURES];
+
+    // Act
+    BoardFeatures.extract(new Board(), LINES, features);
+
+    // Assert
+    assertEquals(0, features[BoardFeature.AGGREGATE_HEIGHT.ordinal()], "No height");
+    assertEquals(0, features[BoardFeature.HOLES.ordinal()], "No holes");
+    assertEquals(LINES, features[BoardFeature.LINES_CLEARED.ordinal()], "Lines are passed");
+    assertEquals(
+        EMPTY_BOARD_COLUMN_TRANSITIONS,
+        features[BoardFeature.COLUMN_TRANSITIONS.ordinal()],
+        "Each empty column meets the floor");
+  }
+
+  @Test
+  @DisplayName("should measure a covered hole and a well")
+  void shouldMeasureCoveredHoleAndWell() {
+    // Arrange - column 0 has a hole under a block, column 9 is a 2 deep well
+    final Board board = new Board();
+    final int[] features = new int[FEATURES];
+    for (int col = 0; col < WIDTH - 1; col++) {
+      board.placeTetromino(new SingleCellTetromino(col, BOTTOM_ROW - 1));
+      if (col > 0) {
+        board.placeTetromino(new SingleCellTetromino(col, BOTTOM_ROW));
+      }
+    }
+
+    // Act
+    BoardFeatures.extract(board, 0, features);
+
+    // Assert
+    assertEquals(1, features[BoardFeature.HOLES.ordinal()], "One hole under column 0");
+    assertEquals(1 + 2, features[BoardFeature.WELLS.ordinal()], "Well of depth 2");
+    assertEquals(2 * (WIDTH - 1), features[BoardFeature.AGGREGATE_HEIGHT.ordinal()], "Heights");
+    assertEquals(2, features[BoardFeature.BUMPINESS.ordinal()], "Only the well edge is bumpy");
+  }
+
+  @Test
+  @DisplayName("bit parallel features should match a cell by cell reference")
+  void bitParallelFeaturesShouldMatchCellReference() {
+    // Arrange
+    final Random random = new Random(RANDOM_SEED);
+
+    for (int b = 0; b < RANDOM_BOARDS; b++) {
+      final Board board = new Board();
+      final int cells = random.nextInt(MAX_CELLS);
+      for (int i = 0; i < cells; i++) {
+        final int row = HEIGHT - 1 - random.nextInt(random.nextInt(HEIGHT) + 1);
+        board.placeTetromino(new SingleCellTetromino(random.nextInt(WIDTH), row));
+      }
+      final int[] actual = new int[FEATURES];
+
+      // Act
+      BoardFeatures.extract(board, b, actual);
+
+      // Assert
+      assertArrayEquals(referenceFeatures(board, b), actual, "Feature mismatch on board " + b);
+    }
+  }
+
+  @Test
+  @DisplayName("single column and multi word boards should match a cell by cell reference")
+  void oddWidthFeaturesShouldMatchCellReference() {
+    // Arrange
+    final Random random = new Random(RANDOM_SEED);
+
+    for (final int width : ODD_WIDTHS) {
+      for (int b = 0; b < RANDOM_BOARDS; b++) {
+        final Board board = new Board(width, ODD_HEIGHT);
+        final int cells = random.nextInt(width * ODD_HEIGHT / 2);
+        for (int i = 0; i < cells; i++) {
+          final int row = ODD_HEIGHT - 1 - random.nextInt(random.nextInt(ODD_HEIGHT) + 1);
+          board.placeTetromino(new SingleCellTetromino(random.nextInt(width), row));
+        }
+        final int[] actual = new int[FEATURES];
+
+        // Act
+        BoardFeatures.extract(board, b, actual);
+
+        // Assert
+        assertArrayEquals(referenceFeatures(board, b), actual, "Mismatch at width " + width);
+      }
+    }
+  }
+
+  private static int[] referenceFeatures(final Board board, final int lines) {
+    final int width = board.getWidth();
+    final int height = board.getHeight();
+    final int[] features = new int[FEATURES];
+    final int[] heights = new int[width];
+
+    for (int col = 0; col < width; col++) {
+      boolean covered = false;
+      int run = 0;
+      for (int row = 0; row < height; row++) {
+        final boolean filled = board.isOccupied(row, col);
+        if (filled && !covered) {
+          heights[col] = height - row;
+          covered = true;
+        } else if (!filled && covered) {
+          features[BoardFeature.HOLES.ordinal()]++;
+        }
+        final boolean well =
+            !filled
+                && !covered
+                && (col == 0 || board.isOccupied(row, col - 1))
+                && (col == width - 1 || board.isOccupied(row, col + 1));
+        run = well ? run + 1 : 0;
+        features[BoardFeature.WELLS.ordinal()] += run;
+        final boolean below = row == height - 1 || board.isOccupied(row + 1, col);
+        if (filled != below) {
+          features[BoardFeature.COLUMN_TRANSITIONS.ordinal()]++;
+        }
+      }
+      if (board.isOccupied(0, col)) {
+        features[BoardFeature.COLUMN_TRANSITIONS.ordinal()]++;
+      }
+      features[BoardFeature.AGGREGATE_HEIGHT.ordinal()] += heights[col];
+    }
+    for (int row = 0; row < height; row++) {
+      boolean occupied = false;
+      for (int col = 0; col < width; col++) {
+        occupied |= board.isOccupied(row, col);
+      }
+      if (!occupied) {
+        continue;
+      }
+      for (int col = 0; col <= width; col++) {
+        final boolean left = col == 0 || board.isOccupied(row, col - 1);
+        final boolean right = col == width || board.isOccupied(row, col);
+        if (left != right) {
+          features[BoardFeature.ROW_TRANSITIONS.ordinal()]++;
+        }
+      }
+    }
+    for (int col = 1; col < width; col++) {
+      features[BoardFeature.BUMPINESS.ordinal()] += Math.abs(heights[col] - heights[col - 1]);
+    }
+    features[BoardFeature.LINES_CLEARED.ordinal()] = lines;
+    return features;
+  }
+}
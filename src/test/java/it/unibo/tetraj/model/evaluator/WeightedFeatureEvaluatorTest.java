@@ -0,0 +1,86 @@
+package it.unibo.tetraj.model.evaluator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import it.unibo.tetraj.model.Board;
+import it.unibo.tetraj.model.piece.SingleCellTetromino;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the WeightedFeatureEvaluator class. */
+class WeightedFeatureEvaluatorTest {
+
+  private static final double EPSILON = 1e-9;
+  private static final int BOTTOM_ROW = 19;
+  private static final int HOLE_ROW = 18;
+  private static final double HOLE_WEIGHT = -2.0;
+  private static final double LINE_WEIGHT = 0.5;
+  private static final int LINES = 3;
+
+  @Test
+  @DisplayName("should sum the weighted features")
+  void shouldSumWeightedFeatures() {
+    // Arrange - a single hole under column 0
+    final Board board = new Board();
+    board.placeTetromino(new SingleCellTetromino(0, HOLE_ROW));
+    final BoardEvaluator evaluator =
+        new WeightedFeatureEvaluator(
+            Map.of(BoardFeature.HOLES, HOLE_WEIGHT, BoardFeature.LINES_CLEARED, LINE_WEIGHT));
+
+    // Act
+    final double score = evaluator.evaluate(board, LINES);
+
+    // Assert
+    assertEquals(HOLE_WEIGHT + LINE_WEIGHT * LINES, score, EPSILON, "Weighted sum");
+  }
+
+  @Test
+  @DisplayName("batch evaluation should match single evaluations")
+  void batchEvaluationShouldMatchSingleEvaluations() {
+    // Arrange
+    final BoardEvaluator evaluator = EvaluatorFactory.createDefault();
+    final Board flat = new Board();
+    final Board holed = new Board();
+    flat.placeTetromino(new SingleCellTetromino(0, BOTTOM_ROW));
+    holed.placeTetromino(new SingleCellTetromino(0, HOLE_ROW));
+    final Board[] boards = {flat, holed};
+    final int[] lines = {0, 1};
+    final double[] scores = new double[boards.length];
+
+    // Act
+    evaluator.evaluateAll(boards, lines, scores);
+
+    // Assert
+    for (int i = 0; i < boards.length; i++) {
+      assertEquals(evaluator.evaluate(boards[i], lines[i]), scores[i], EPSILON, "Batch score");
+    }
+    assertTrue(evaluator.evaluate(flat, 0) > evaluator.evaluate(holed, 0), "Holes are bad");
+  }
+
+  @Test
+  @DisplayName("batch evaluation should reject mismatched arrays")
+  void batchEvaluationShouldRejectMismatchedArrays() {
+    // Act & Assert
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            EvaluatorFactory.createDefault()
+                .evaluateAll(new Board[] {new Board()}, new int[0], new double[1]));
+  }
+
+  @Test
+  @DisplayName("default evaluator should use the feature default weights")
+  void defaultEvaluatorShouldUseFeatureDefaultWeights() {
+    // Act
+    final WeightedFeatureEvaluator evaluator =
+        (WeightedFeatureEvaluator) EvaluatorFactory.createDefault();
+
+    // Assert
+    for (final BoardFeature feature : BoardFeature.values()) {
+      assertEquals(feature.getDefaultWeight(), evaluator.getWeight(feature), EPSILON);
+    }
+  }
+}
@@ -0,0 +1,168 @@
+package it.unibo.tetraj.model.input;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import it.unibo.tetraj.model.Board;
+import it.unibo.tetraj.model.GameCore;
+import it.unibo.tetraj.model.GameEventListener;
+import it.unibo.tetraj.model.piece.AbstractTetromino;
+import it.unibo.tetraj.model.piece.OTetromino;
+import it.unibo.tetraj.model.piece.TetrominoFactory;
+import it.unibo.tetraj.model.piece.selection.PieceSelectionStrategy;
+import it.unibo.tetraj.model.speed.ClassicSpeedStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the InputEngine class. */
+class InputEngineTest {
+
+  private static final long DAS = 100;
+  private static final long ARR = 10;
+  private static final long START = 1_000;
+  private static final int SPAWN_X = 4;
+  private static final int RIGHT_WALL_X = 8;
+  private GameCore core;
+  private InputEngine engine;
+
+  @BeforeEach
+  void setUp() {
+    core =
+        new GameCore(
+            new Board(),
+            new TetrominoFactory(new OnlyOPieces()),
+            new ClassicSpeedStrategy(),
+            GameEventListener.NONE);
+    engine = new InputEngine(core, new InputSettings(DAS, ARR, 0));
+  }
+
+  @Test
+  @DisplayName("should shift once on press and wait for the DAS before repeating")
+  void shouldShiftOnPressAndWaitForDas() {
+    // Arrange
+    engine.press(InputAction.MOVE_LEFT, START);
+
+    // Act
+    engine.update(START + DAS - 1);
+    final int beforeDas = core.getCurrentPiece().getX();
+    engine.update(START + DAS);
+    final int atDas = core.getCurrentPiece().getX();
+    engine.update(START + DAS + ARR);
+
+    // Assert
+    assertEquals(SPAWN_X - 1, beforeDas, "A press should shift once at once");
+    assertEquals(SPAWN_X - 2, atDas, "The first repeat should come with the DAS");
+    assertEquals(SPAWN_X - 3, core.getCurrentPiece().getX(), "Then one shift per ARR");
+  }
+
+  @Test
+  @DisplayName("should catch up with every repeat due since the last update")
+  void shouldCatchUpWithRepeatsDue() {
+    // Arrange
+    engine.press(InputAction.MOVE_RIGHT, START);
+
+    // Act
+    engine.update(START + DAS + 2 * ARR);
+
+    // Assert
+    assertEquals(RIGHT_WALL_X, core.getCurrentPiece().getX(), "Press plus three repeats");
+  }
+
+  @Test
+  @DisplayName("should slide to the wall once the DAS is charged when the ARR is 0")
+  void shouldSlideToWallWithZeroArr() {
+    // Arrange
+    final InputEngine instant = new InputEngine(core, new InputSettings(DAS, 0, 0));
+    instant.press(InputAction.MOVE_LEFT, START);
+
+    // Act
+    instant.update(START + DAS);
+
+    // Assert
+    assertEquals(0, core.getCurrentPiece().getX(), "The piece should reach the left wall");
+  }
+
+  @Test
+  @DisplayName("should ignore the key repeat of a held key")
+  void shouldIgnoreKeyRepeatOfHeldKey() {
+    // Arrange
+    engine.press(InputAction.MOVE_LEFT, START);
+    engine.press(InputAction.MOVE_LEFT, START + 1);
+    engine.press(InputAction.MOVE_LEFT, START + 2);
+
+    // Act
+    engine.update(START + 2);
+
+    // Assert
+    assertEquals(SPAWN_X - 1, core.getCurrentPiece().getX(), "Only the first press should count");
+  }
+
+  @Test
+  @DisplayName("should let the last pressed direction win")
+  void shouldLetLastPressedDirectionWin() {
+    // Arrange
+    engine.press(InputAction.MOVE_LEFT, START);
+    engine.press(InputAction.MOVE_RIGHT, START + 1);
+
+    // Act
+    engine.update(START + DAS + 1);
+
+    // Assert
+    assertEquals(SPAWN_X + 1, core.getCurrentPiece().getX(), "Right should override left");
+  }
+
+  @Test
+  @DisplayName("should release held keys while paused")
+  void shouldReleaseHeldKeysWhilePaused() {
+    // Arrange
+    engine.press(InputAction.SOFT_DROP, START);
+    engine.update(START);
+
+    // Act
+    core.togglePause();
+    engine.update(START + 1);
+
+    // Assert
+    assertFalse(engine.isHeld(InputAction.SOFT_DROP), "Held keys should be dropped on pause");
+  }
+
+  @Test
+  @DisplayName("should ignore presses while paused")
+  void shouldIgnorePressesWhilePaused() {
+    // Arrange
+    core.togglePause();
+
+    // Act
+    engine.press(InputAction.MOVE_LEFT, START);
+
+    // Assert
+    assertFalse(engine.isHeld(InputAction.MOVE_LEFT), "Paused presses should not be held");
+    assertEquals(SPAWN_X, core.getCurrentPiece().getX(), "The piece should not move");
+  }
+
+  @Test
+  @DisplayName("should reject negative settings")
+  void shouldRejectNegativeSettings() {
+    // Act & Assert
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new InputSettings(-1, ARR, 0),
+        "A negative DAS should be rejected");
+  }
+
+  /** Selection strategy that always yields the O tetromino. */
+  private static final class OnlyOPieces implements PieceSelectionStrategy {
+
+    @Override
+    public Class<? extends AbstractTetromino<?>> next() {
+      return OTetromino.class;
+    }
+
+    @Override
+    public void reset() {
+      // Stateless
+    }
+  }
+}
@@ -0,0 +1,90 @@
+package it.unibo.tetraj.model.piece;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import it.unibo.tetraj.model.piece.selection.BagRandomizerStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the PieceQueue class. */
+class PieceQueueTest {
+
+  private static final long SEED = 42L;
+  private static final int SPAWNS = 100;
+  private static final int PREVIEW = 5;
+
+  @Test
+  @DisplayName("should spawn the strategy sequence whatever the preview size")
+  void shouldSpawnStrategySequenceWhateverPreviewSize() {
+    // Arrange
+    final BagRandomizerStrategy reference = new BagRandomizerStrategy(SEED);
+    final PieceQueue single = new PieceQueue(new BagRandomizerStrategy(SEED), 1);
+    final PieceQueue full = new PieceQueue(new BagRandomizerStrategy(SEED), PieceQueue.MAX_SIZE);
+
+    // Act & Assert
+    for (int i = 0; i < SPAWNS; i++) {
+      final int expected = reference.nextIndex();
+      assertEquals(expected, single.poll(), "Single preview should follow the strategy");
+      assertEquals(expected, full.poll(), "Full preview should follow the strategy");
+    }
+  }
+
+  @Test
+  @DisplayName("should preview the pieces that spawn next across wrap-arounds")
+  void shouldPreviewPiecesThatSpawnNext() {
+    // Arrange
+    final PieceQueue queue = new PieceQueue(new BagRandomizerStrategy(SEED), PREVIEW);
+
+    // Act & Assert
+    for (int i = 0; i < SPAWNS; i++) {
+      final int last = queue.peek(PREVIEW - 1);
+      for (int ahead = 0; ahead < PREVIEW - 1; ahead++) {
+        queue.poll();
+      }
+      assertEquals(last, queue.poll(), "Last previewed piece should spawn in turn");
+    }
+  }
+
+  @Test
+  @DisplayName("should spawn returned pieces again and resume the sequence")
+  void shouldSpawnReturnedPiecesAgain() {
+    // Arrange
+    final BagRandomizerStrategy reference = new BagRandomizerStrategy(SEED);
+    final PieceQueue queue = new PieceQueue(new BagRandomizerStrategy(SEED), PREVIEW);
+    final int[] spawned = new int[SPAWNS];
+    for (int i = 0; i < SPAWNS; i++) {
+      spawned[i] = queue.poll();
+    }
+
+    // Act
+    for (int i = SPAWNS - 1; i >= 0; i--) {
+      queue.unpoll(spawned[i]);
+    }
+
+    // Assert
+    assertEquals(spawned[0], queue.peek(0), "Returned pieces should be previewed first");
+    for (int i = 0; i < SPAWNS * 2; i++) {
+      assertEquals(reference.nextIndex(), queue.poll(), "Sequence should resume unchanged");
+    }
+  }
+
+  @Test
+  @DisplayName("should reject out of range sizes and indices")
+  void shouldRejectOutOfRangeSizesAndIndices() {
+    // Arrange
+    final PieceQueue queue = new PieceQueue(new BagRandomizerStrategy(SEED), PREVIEW);
+
+    // Act & Assert
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> queue.peek(PREVIEW), "Beyond the preview");
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new PieceQueue(new BagRandomizerStrategy(SEED), 0),
+        "Empty queue");
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new PieceQueue(new BagRandomizerStrategy(SEED), PieceQueue.MAX_SIZE + 1),
+        "Oversized queue");
+  }
+}
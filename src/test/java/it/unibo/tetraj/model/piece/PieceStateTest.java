@@ -0,0 +1,88 @@
+package it.unibo.tetraj.model.piece;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/** Tests for the PieceState class. */
+class PieceStateTest {
+
+  private static final int ROTATIONS = 4;
+  private static final int MIN_X = -67_108_864;
+  private static final int MAX_X = 67_108_863;
+  private static final int MIN_Y = Integer.MIN_VALUE;
+  private static final int MAX_Y = Integer.MAX_VALUE;
+  private static final int X = -2;
+  private static final int Y = 17;
+
+  @ParameterizedTest
+  @EnumSource(PieceType.class)
+  @DisplayName("should round trip every field")
+  void shouldRoundTripEveryField(final PieceType type) {
+    for (int rotation = 0; rotation < ROTATIONS; rotation++) {
+      // Act
+      final long low = PieceState.of(type, rotation, MIN_X, MAX_Y);
+      final long high = PieceState.of(type, rotation, MAX_X, MIN_Y);
+
+      // Assert
+      assertSame(type, PieceState.type(low), "Type should be kept");
+      assertEquals(rotation, PieceState.rotation(low), "Rotation should be kept");
+      assertEquals(MIN_X, PieceState.x(low), "Minimum X should be kept");
+      assertEquals(MAX_Y, PieceState.y(low), "Maximum Y should be kept");
+      assertEquals(MAX_X, PieceState.x(high), "Maximum X should be kept");
+      assertEquals(MIN_Y, PieceState.y(high), "Minimum Y should be kept");
+    }
+  }
+
+  @Test
+  @DisplayName("should move and rotate without touching the other fields")
+  void shouldMoveAndRotateWithoutTouchingOtherFields() {
+    // Arrange
+    final long state = PieceState.of(PieceType.T, 0, 0, 0);
+
+    // Act
+    final long moved = PieceState.moved(state, X, Y);
+    final long turned = PieceState.rotated(moved, -1);
+
+    // Assert
+    assertEquals(X, PieceState.x(turned), "X should follow the move");
+    assertEquals(Y, PieceState.y(turned), "Y should follow the move");
+    assertEquals(ROTATIONS - 1, PieceState.rotation(turned), "Rotation should wrap around");
+    assertSame(PieceType.T, PieceState.type(turned), "Type should not change");
+    assertEquals(moved, PieceState.rotated(turned, 1), "Rotations should cancel out");
+  }
+
+  @Test
+  @DisplayName("should convert from and to the tetromino view")
+  void shouldConvertFromAndToTetrominoView() {
+    // Arrange
+    final LTetromino piece = new LTetromino(X, Y);
+    piece.rotateCounterClockwise();
+
+    // Act
+    final AbstractTetromino<?> view = PieceState.toTetromino(PieceState.of(piece));
+
+    // Assert
+    assertInstanceOf(LTetromino.class, view, "Type should be kept");
+    assertEquals(piece.getRotation(), view.getRotation(), "Rotation should be kept");
+    assertEquals(X, view.getX(), "X should be kept");
+    assertEquals(Y, view.getY(), "Y should be kept");
+    assertSame(piece.getShapeTable(), PieceState.shapeTable(PieceState.of(piece)), "Shared table");
+  }
+
+  @Test
+  @DisplayName("should reject pieces that are not tetrominoes")
+  void shouldRejectPiecesThatAreNotTetrominoes() {
+    // Act & Assert
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> PieceState.of(new SingleCellTetromino(0, 0)),
+        "Custom pieces have no type");
+  }
+}
@@ -0,0 +1,126 @@
+package it.unibo.tetraj.model.piece;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/** Tests for the ShapeTable class. */
+class ShapeTableTest {
+
+  private static final int ROTATIONS = 4;
+  private static final int CELLS_PER_TETROMINO = 4;
+  private static final int T_ROW_MASK = 0b111;
+  private static final int T_TOP_MASK = 0b010;
+
+  static Stream<AbstractTetromino<?>> allTetrominoes() {
+    return TetrominoRegistry.getInstance().getAvailableTypes().stream()
+        .map(type -> TetrominoRegistry.getInstance().create(type, 0, 0));
+  }
+
+  @ParameterizedTest
+  @MethodSource("allTetrominoes")
+  @DisplayName("compiled cells should match the shape matrix in every rotation")
+  void compiledCellsShouldMatchShapeMatrix(final AbstractTetromino<?> piece) {
+    for (int rotation = 0; rotation < ROTATIONS; rotation++) {
+      // Arrange
+      final int[][] shape = piece.getShape();
+      int expectedCells = 0;
+      for (final int[] row : shape) {
+        for (final int cell : row) {
+          expectedCells += cell;
+        }
+      }
+
+      // Act & Assert
+      assertEquals(CELLS_PER_TETROMINO, piece.getCellCount(), "Tetromino should have 4 blocks");
+      assertEquals(expectedCells, piece.getCellCount(), "Cell count should match the matrix");
+      for (int i = 0; i < piece.getCellCount(); i++) {
+        assertEquals(
+            1, shape[piece.getCellY(i)][piece.getCellX(i)], "Each cell should be a matrix block");
+      }
+      piece.rotateClockwise();
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("allTetrominoes")
+  @DisplayName("bounding box should enclose every cell")
+  void boundingBoxShouldEncloseEveryCell(final AbstractTetromino<?> piece) {
+    final ShapeTable table = piece.getShapeTable();
+    for (int rotation = 0; rotation < ROTATIONS; rotation++) {
+      for (int i = 0; i < table.getCellCount(rotation); i++) {
+        final int x = table.getCellX(rotation, i);
+        final int y = table.getCellY(rotation, i);
+        assertTrue(x >= table.getMinX(rotation) && x <= table.getMaxX(rotation), "X in box");
+        assertTrue(y >= table.getMinY(rotation) && y <= table.getMaxY(rotation), "Y in box");
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("should pack matrix rows into bit masks")
+  void shouldPackMatrixRowsIntoBitMasks() {
+    // Arrange
+    final ShapeTable table = new TTetromino(0, 0).getShapeTable();
+
+    // Act & Assert
+    assertEquals(T_TOP_MASK, table.getRowMask(0, 0), "T top row should be the middle cell");
+    assertEquals(T_ROW_MASK, table.getRowMask(0, 1), "T middle row should be full");
+    assertEquals(0, table.getRowMask(0, 2), "T bottom row should be empty");
+  }
+
+  @Test
+  @DisplayName("should share one table across pieces of the same type")
+  void shouldShareOneTableAcrossPiecesOfSameType() {
+    // Act & Assert
+    assertSame(
+        new ITetromino(0, 0).getShapeTable(),
+        new ITetromino(1, 1).getShapeTable(),
+        "Shape tables should be compiled once per type");
+  }
+
+  @Test
+  @DisplayName("should compile custom shapes on demand")
+  void shouldCompileCustomShapesOnDemand() {
+    // Arrange
+    final SingleCellTetromino piece = new SingleCellTetromino(0, 0);
+
+    // Act & Assert
+    assertEquals(1, piece.getCellCount(), "Single cell piece should have one block");
+    assertEquals(0, piece.getCellX(0), "Block should be at column 0");
+    assertEquals(0, piece.getCellY(0), "Block should be at row 0");
+  }
+
+  @Test
+  @DisplayName("should reject rotations without blocks")
+  void shouldRejectRotationsWithoutBlocks() {
+    // Act & Assert
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> ShapeTable.compile(new int[][][] {{{0, 0}, {0, 0}}}),
+        "Empty rotation should be rejected");
+  }
+
+  @Test
+  @DisplayName("should map symmetric rotations to a canonical one")
+  void shouldMapSymmetricRotationsToCanonicalOne() {
+    // Arrange
+    final ShapeTable square = new OTetromino(0, 0).getShapeTable();
+    final ShapeTable line = new ITetromino(0, 0).getShapeTable();
+    final ShapeTable tee = new TTetromino(0, 0).getShapeTable();
+
+    // Act & Assert
+    for (int rotation = 0; rotation < ROTATIONS; rotation++) {
+      assertEquals(0, square.getCanonicalRotation(rotation), "O has a single footprint");
+      assertEquals(rotation % 2, line.getCanonicalRotation(rotation), "I has two footprints");
+      assertEquals(rotation, tee.getCanonicalRotation(rotation), "T rotations all differ");
+    }
+  }
+}
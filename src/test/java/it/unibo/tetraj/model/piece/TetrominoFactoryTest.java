@@ -1,5 +1,6 @@
 package it.unibo.tetraj.model.piece;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
@@ -54,6 +55,23 @@ class TetrominoFactoryTest {
     assertInstanceOf(OTetromino.class, factory.create());
   }
 
+  @Test
+  @DisplayName("should preview upcoming pieces without consuming them")
+  void shouldPreviewUpcomingPiecesWithoutConsumingThem() {
+    // Arrange
+    final PieceSelectionStrategy strategy =
+        new SequencePieceStrategy(TTetromino.class, STetromino.class, ZTetromino.class);
+    final TetrominoFactory factory = new TetrominoFactory(strategy, 2);
+
+    // Act & Assert
+    assertEquals(2, factory.getPreviewSize());
+    assertInstanceOf(TTetromino.class, factory.peek(0));
+    assertInstanceOf(STetromino.class, factory.peek(1));
+    assertInstanceOf(TTetromino.class, factory.create());
+    assertInstanceOf(STetromino.class, factory.peek(0));
+    assertInstanceOf(ZTetromino.class, factory.peek(1));
+  }
+
   /** Test helper: strategy that always returns the same piece type. */
   private static class FixedPieceStrategy implements PieceSelectionStrategy {
     private final Class<? extends AbstractTetromino<?>> type;
@@ -1,14 +1,23 @@
 package it.unibo.tetraj.model.piece.selection;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
+import it.unibo.tetraj.model.piece.AbstractTetromino;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 /** Unit tests for PieceSelectionFactory. */
 class PieceSelectionFactoryTest {
 
+  private static final int SEQUENCE_LENGTH = 70;
+  private static final long SEED = 1234L;
+  private static final long OTHER_SEED = 4321L;
+
   @Test
   @DisplayName("should create BagRandomizerStrategy when strategy name is 7-bag")
   void shouldCreateBagRandomizerStrategyFor7Bag() {
@@ -89,4 +98,30 @@ class PieceSelectionFactoryTest {
     // Assert
     assertNotNull(result);
   }
+
+  @Test
+  @DisplayName("should replay the same pieces from the same seed")
+  void shouldReplaySamePiecesFromSameSeed() {
+    // Act
+    final List<Class<? extends AbstractTetromino<?>>> first =
+        drawSequence(PieceSelectionFactory.create("7-bag", SEED));
+    final List<Class<? extends AbstractTetromino<?>>> replay =
+        drawSequence(PieceSelectionFactory.create("7-bag", SEED));
+    final List<Class<? extends AbstractTetromino<?>>> other =
+        drawSequence(PieceSelectionFactory.create("7-bag", OTHER_SEED));
+
+    // Assert
+    assertEquals(first, replay, "Same seed should replay the same sequence");
+    assertNotEquals(first, other, "Different seeds should give different sequences");
+  }
+
+  private List<Class<? extends AbstractTetromino<?>>> drawSequence(
+      final PieceSelectionStrategy strategy) {
+    final List<Class<? extends AbstractTetromino<?>>> sequence = new ArrayList<>();
+
+    for (int i = 0; i < SEQUENCE_LENGTH; i++) {
+      sequence.add(strategy.next());
+    }
+    return sequence;
+  }
 }
@@ -1,11 +1,13 @@
 package it.unibo.tetraj.model.piece.selection;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import it.unibo.tetraj.model.piece.AbstractTetromino;
 import it.unibo.tetraj.model.piece.TetrominoRegistry;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -17,6 +19,7 @@ import org.junit.jupiter.api.Test;
 class RandomStrategyTest {
 
   private static final int MAX_ITERATIONS = 1000;
+  private static final long SEED = 42L;
   private RandomStrategy strategy;
   private List<Class<? extends AbstractTetromino<?>>> availableTypes;
 
@@ -87,4 +90,23 @@ class RandomStrategyTest {
     assertNotNull(result);
     assertTrue(availableTypes.contains(result));
   }
+
+  @Test
+  @DisplayName("should repeat the same sequence for the same seed")
+  void shouldRepeatSameSequenceForSameSeed() {
+    // Arrange
+    final RandomStrategy first = new RandomStrategy(SEED);
+    final RandomStrategy second = new RandomStrategy(SEED);
+    final List<Class<? extends AbstractTetromino<?>>> firstSequence = new ArrayList<>();
+    final List<Class<? extends AbstractTetromino<?>>> secondSequence = new ArrayList<>();
+
+    // Act
+    for (int i = 0; i < MAX_ITERATIONS; i++) {
+      firstSequence.add(first.next());
+      secondSequence.add(second.next());
+    }
+
+    // Assert
+    assertEquals(firstSequence, secondSequence, "Seeded strategies should be reproducible");
+  }
 }
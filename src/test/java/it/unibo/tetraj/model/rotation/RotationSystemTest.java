@@ -0,0 +1,101 @@
+package it.unibo.tetraj.model.rotation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import it.unibo.tetraj.model.Board;
+import it.unibo.tetraj.model.piece.PieceState;
+import it.unibo.tetraj.model.piece.PieceType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the rotation systems and their kick tables. */
+class RotationSystemTest {
+
+  private static final int ROW = 5;
+  private static final int RIGHT = 1;
+  private static final int SPAWN = 0;
+  private static final int FLAT_DOWN = 2;
+  private static final int ROTATIONS = 4;
+  private final Board board = new Board();
+
+  @Test
+  @DisplayName("SRS should kick a T away from the left wall")
+  void srsShouldKickTAwayFromWall() {
+    // Arrange: vertical T flush with the left wall, its matrix starting one column outside
+    final long state = PieceState.of(PieceType.T, RIGHT, -1, ROW);
+
+    // Act
+    final long rotated = new SrsRotationSystem().rotate(board, state, 1);
+
+    // Assert
+    assertEquals(FLAT_DOWN, PieceState.rotation(rotated), "The T should have turned");
+    assertEquals(0, PieceState.x(rotated), "The first kick should push it one column right");
+    assertEquals(ROW, PieceState.y(rotated), "The kick should not change the row");
+  }
+
+  @Test
+  @DisplayName("classic rotation should refuse a turn into the wall")
+  void classicShouldRefuseTurnIntoWall() {
+    // Arrange
+    final long state = PieceState.of(PieceType.T, RIGHT, -1, ROW);
+
+    // Act
+    final long rotated = new ClassicRotationSystem().rotate(board, state, 1);
+
+    // Assert
+    assertEquals(KickTable.NO_ROTATION, rotated, "Without kicks the turn should fail");
+  }
+
+  @Test
+  @DisplayName("SRS should never move an O piece")
+  void srsShouldNeverMoveOPiece() {
+    // Arrange
+    final long state = PieceState.of(PieceType.O, SPAWN, 0, ROW);
+
+    // Act
+    final long rotated = new SrsRotationSystem().rotate(board, state, -1);
+
+    // Assert
+    assertEquals(1, new SrsRotationSystem().getKickTable(PieceType.O).getKickCount(), "No kick");
+    assertEquals(0, PieceState.x(rotated), "The O should stay in its column");
+    assertEquals(ROW, PieceState.y(rotated), "The O should stay in its row");
+  }
+
+  @Test
+  @DisplayName("kick tables should try the rotation in place first")
+  void kickTablesShouldTryRotationInPlaceFirst() {
+    // Arrange
+    final RotationSystem srs = new SrsRotationSystem();
+
+    // Act & Assert
+    for (final PieceType type : PieceType.values()) {
+      final KickTable table = srs.getKickTable(type);
+      for (int from = 0; from < ROTATIONS; from++) {
+        assertEquals(0, table.getKickX(from, 1, 0), type + " should start in place");
+        assertEquals(0, table.getKickY(from, -1, 0), type + " should start in place");
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("should reject incomplete kick tables")
+  void shouldRejectIncompleteKickTables() {
+    // Act & Assert
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> KickTable.compile(new int[][][] {{{0, 0}}}),
+        "A table needs every transition");
+  }
+
+  @Test
+  @DisplayName("factory should create the configured system and fall back to SRS")
+  void factoryShouldCreateConfiguredSystem() {
+    // Act & Assert
+    assertInstanceOf(SrsRotationSystem.class, RotationSystemFactory.create("SRS"));
+    assertInstanceOf(ClassicRotationSystem.class, RotationSystemFactory.create("  classic  "));
+    assertInstanceOf(SrsRotationSystem.class, RotationSystemFactory.create("unknown"));
+    assertInstanceOf(SrsRotationSystem.class, RotationSystemFactory.create((String) null));
+  }
+}
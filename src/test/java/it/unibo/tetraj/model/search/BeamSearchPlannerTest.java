@@ -0,0 +1,199 @@
+package it.unibo.tetraj.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import it.unibo.tetraj.model.Board;
+import it.unibo.tetraj.model.evaluator.EvaluatorFactory;
+import it.unibo.tetraj.model.piece.AbstractTetromino;
+import it.unibo.tetraj.model.piece.ITetromino;
+import it.unibo.tetraj.model.piece.OTetromino;
+import it.unibo.tetraj.model.piece.SingleCellTetromino;
+import it.unibo.tetraj.model.piece.TTetromino;
+import java.awt.Color;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the BeamSearchPlanner class. */
+class BeamSearchPlannerTest {
+
+  private static final int WELL_DEPTH = 4;
+  private static final int TETRIS = 4;
+  private static final int SPAWN_X = 3;
+  private static final int O_SPAWN_X = 4;
+  private static final int BEAM_WIDTH = 8;
+  private static final int DEPTH = 2;
+  private static final Duration GENEROUS_BUDGET = Duration.ofSeconds(10);
+  private static final List<AbstractTetromino<?>> I_PREVIEW = List.of(new ITetromino(0, 0));
+
+  private BeamSearchPlanner.Builder planner() {
+    return BeamSearchPlanner.builder()
+        .withEvaluator(EvaluatorFactory.createDefault())
+        .withBeamWidth(BEAM_WIDTH)
+        .withMaxDepth(DEPTH)
+        .withTimeBudget(GENEROUS_BUDGET);
+  }
+
+  /* Fills the bottom rows except the rightmost column. */
+  private static Board boardWithWell() {
+    final Board board = new Board();
+    for (int row = board.getHeight() - WELL_DEPTH; row < board.getHeight(); row++) {
+      for (int col = 0; col < board.getWidth() - 1; col++) {
+        board.placeTetromino(new SingleCellTetromino(col, row, Color.GRAY));
+      }
+    }
+    return board;
+  }
+
+  private static int playOn(
+      final Board board, final AbstractTetromino<?> piece, final Placement placement) {
+    board.place(
+        piece.getShapeTable(),
+        placement.rotation(),
+        placement.x(),
+        placement.y(),
+        piece.getColor());
+    return board.clearCompletedLines();
+  }
+
+  @Test
+  @DisplayName("should drop the I piece into the well for a tetris")
+  void shouldDropIPieceIntoWellForTetris() {
+    // Arrange
+    final Board board = boardWithWell();
+    final ITetromino current = new ITetromino(SPAWN_X, 0);
+
+    // Act
+    final SearchResult result =
+        planner().build().plan(board, current, List.of(new TTetromino(SPAWN_X, 0)), null, true);
+
+    // Assert
+    final PlannedMove move = result.getBestMove().orElseThrow();
+    assertFalse(move.hold(), "The current piece fits, no need to hold");
+    assertEquals(TETRIS, playOn(new Board(board), current, move.placement()), "Should clear 4");
+  }
+
+  @Test
+  @DisplayName("should hold when the held piece fits better")
+  void shouldHoldWhenHeldPieceFitsBetter() {
+    // Arrange
+    final Board board = boardWithWell();
+    final OTetromino current = new OTetromino(O_SPAWN_X, 0);
+    final ITetromino held = new ITetromino(0, 0);
+
+    // Act
+    final SearchResult result =
+        planner().build().plan(board, current, List.of(new OTetromino(0, 0)), held, true);
+
+    // Assert
+    final PlannedMove move = result.getBestMove().orElseThrow();
+    assertTrue(move.hold(), "The held I should be swapped in");
+    assertEquals(TETRIS, playOn(new Board(board), held, move.placement()), "Should clear 4");
+  }
+
+  @Test
+  @DisplayName("should not hold when hold is unavailable")
+  void shouldNotHoldWhenHoldIsUnavailable() {
+    // Arrange
+    final Board board = boardWithWell();
+
+    // Act
+    final SearchResult result =
+        planner()
+            .build()
+            .plan(
+                board,
+                new OTetromino(O_SPAWN_X, 0),
+                List.of(new OTetromino(0, 0)),
+                new ITetromino(0, 0),
+                false);
+
+    // Assert
+    assertFalse(result.getBestMove().orElseThrow().hold(), "Hold was already used");
+  }
+
+  @Test
+  @DisplayName("should report the depth reached and the nodes searched")
+  void shouldReportDepthReachedAndNodesSearched() {
+    // Act
+    final SearchResult result =
+        planner()
+            .build()
+            .plan(new Board(), new TTetromino(SPAWN_X, 0), I_PREVIEW, null, true);
+
+    // Assert
+    final SearchStatistics statistics = result.getStatistics();
+    assertEquals(DEPTH, statistics.depthReached(), "Both pieces should be searched");
+    assertFalse(statistics.timedOut(), "The budget should be enough");
+    assertTrue(statistics.nodes() > 0, "Nodes should be counted");
+    assertTrue(statistics.nodesPerSecond() > 0, "Throughput should be positive");
+  }
+
+  @Test
+  @DisplayName("should still answer when the time budget runs out")
+  void shouldStillAnswerWhenTimeBudgetRunsOut() {
+    // Act
+    final SearchResult result =
+        planner()
+            .withMaxDepth(TETRIS)
+            .withTimeBudget(Duration.ofNanos(1))
+            .build()
+            .plan(new Board(), new TTetromino(SPAWN_X, 0), I_PREVIEW, null, true);
+
+    // Assert
+    assertTrue(result.getStatistics().timedOut(), "The search should be cut");
+    assertEquals(1, result.getStatistics().depthReached(), "Only the first layer should count");
+    assertTrue(result.getBestMove().isPresent(), "A move should still be returned");
+  }
+
+  @Test
+  @DisplayName("should search to the maximum depth without a time budget")
+  void shouldSearchToMaximumDepthWithoutTimeBudget() {
+    // Act
+    final SearchResult result =
+        planner()
+            .withTimeBudget(Duration.ofNanos(1))
+            .withoutTimeBudget()
+            .build()
+            .plan(new Board(), new TTetromino(SPAWN_X, 0), I_PREVIEW, null, true);
+
+    // Assert
+    assertFalse(result.getStatistics().timedOut(), "The search should never be cut");
+    assertEquals(DEPTH, result.getStatistics().depthReached(), "Every layer should be searched");
+  }
+
+  @Test
+  @DisplayName("should give the same move regardless of the pool size")
+  void shouldGiveSameMoveRegardlessOfPoolSize() {
+    // Arrange
+    final Board board = boardWithWell();
+    final List<AbstractTetromino<?>> preview = List.of(new OTetromino(0, 0));
+    final ForkJoinPool single = new ForkJoinPool(1);
+
+    // Act
+    final TTetromino current = new TTetromino(SPAWN_X, 0);
+    final SearchResult sequential =
+        planner().withPool(single).build().plan(board, current, preview, null, true);
+    final SearchResult parallel = planner().build().plan(board, current, preview, null, true);
+    single.shutdown();
+
+    // Assert
+    assertEquals(sequential.getBestMove(), parallel.getBestMove(), "Moves should match");
+    assertEquals(sequential.getScore(), parallel.getScore(), "Scores should match");
+  }
+
+  @Test
+  @DisplayName("should reject a non positive beam width")
+  void shouldRejectNonPositiveBeamWidth() {
+    // Act & Assert
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> BeamSearchPlanner.builder().withBeamWidth(0).build(),
+        "Empty beams should be rejected");
+  }
+}
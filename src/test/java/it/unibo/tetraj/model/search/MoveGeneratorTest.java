@@ -0,0 +1,204 @@
+package it.unibo.tetraj.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import it.unibo.tetraj.model.Board;
+import it.unibo.tetraj.model.GameCore;
+import it.unibo.tetraj.model.GameEventListener;
+import it.unibo.tetraj.model.piece.AbstractTetromino;
+import it.unibo.tetraj.model.piece.ITetromino;
+import it.unibo.tetraj.model.piece.JTetromino;
+import it.unibo.tetraj.model.piece.LTetromino;
+import it.unibo.tetraj.model.piece.OTetromino;
+import it.unibo.tetraj.model.piece.STetromino;
+import it.unibo.tetraj.model.piece.SingleCellTetromino;
+import it.unibo.tetraj.model.piece.TTetromino;
+import it.unibo.tetraj.model.piece.TetrominoFactory;
+import it.unibo.tetraj.model.piece.ZTetromino;
+import it.unibo.tetraj.model.piece.selection.PieceSelectionStrategy;
+import it.unibo.tetraj.model.speed.ClassicSpeedStrategy;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/** Tests for the MoveGenerator class. */
+class MoveGeneratorTest {
+
+  private static final int BOARD_WIDTH = 10;
+  private static final int BOARD_HEIGHT = 20;
+  private static final int ROOF_ROW = 17;
+  private static final int ROOF_END_COL = 6;
+  private static final int O_TUCK_ROW = 18;
+  private static final int TALL_BOARD_HEIGHT = 100_000;
+
+  static Stream<Arguments> placementCounts() {
+    return Stream.of(
+        Arguments.of(ITetromino.class, 17),
+        Arguments.of(OTetromino.class, 9),
+        Arguments.of(TTetromino.class, 34),
+        Arguments.of(STetromino.class, 17),
+        Arguments.of(ZTetromino.class, 17),
+        Arguments.of(JTetromino.class, 34),
+        Arguments.of(LTetromino.class, 34));
+  }
+
+  @ParameterizedTest
+  @MethodSource("placementCounts")
+  @DisplayName("should find every distinct placement on an empty board")
+  void shouldFindEveryDistinctPlacementOnEmptyBoard(
+      final Class<? extends AbstractTetromino<?>> type, final int expected) {
+    // Arrange
+    final GameCore core = newGame(type);
+
+    // Act
+    final MoveGenerator generator = new MoveGenerator(BOARD_WIDTH, BOARD_HEIGHT);
+    final List<Placement> placements = generator.generate(core.getBoard(), core.getCurrentPiece());
+
+    // Assert
+    assertEquals(expected, placements.size(), "Placement count of " + type.getSimpleName());
+  }
+
+  @ParameterizedTest
+  @MethodSource("placementCounts")
+  @DisplayName("replaying a path should lock the piece on its placement")
+  void replayingPathShouldLockPieceOnPlacement(
+      final Class<? extends AbstractTetromino<?>> type, final int expected) {
+    // Arrange
+    final MoveGenerator generator = new MoveGenerator(BOARD_WIDTH, BOARD_HEIGHT);
+    final GameCore probe = newGame(type);
+    final List<Placement> placements =
+        generator.generate(probe.getBoard(), probe.getCurrentPiece());
+
+    for (final Placement placement : placements) {
+      final GameCore core = newGame(type);
+
+      // Act
+      placement.path().forEach(input -> input.applyTo(core));
+
+      // Assert
+      assertPieceLockedAt(core.getBoard(), probe.getCurrentPiece(), placement);
+    }
+  }
+
+  @Test
+  @DisplayName("should reach tucks under an overhang")
+  void shouldReachTucksUnderOverhang() {
+    // Arrange
+    final GameCore core = newGame(OTetromino.class);
+    for (int col = 0; col < ROOF_END_COL; col++) {
+      core.getBoard().placeTetromino(new SingleCellTetromino(col, ROOF_ROW));
+    }
+
+    // Act
+    final MoveGenerator generator = new MoveGenerator(BOARD_WIDTH, BOARD_HEIGHT);
+    final List<Placement> placements = generator.generate(core.getBoard(), core.getCurrentPiece());
+    final Placement tuck =
+        placements.stream()
+            .filter(placement -> placement.x() == 0 && placement.y() == O_TUCK_ROW)
+            .findFirst()
+            .orElseThrow();
+    tuck.path().forEach(input -> input.applyTo(core));
+
+    // Assert
+    assertTrue(tuck.path().contains(MoveInput.SOFT_DROP), "A tuck needs soft drops");
+    assertTrue(core.getBoard().isOccupied(BOARD_HEIGHT - 1, 0), "O should be tucked in the corner");
+  }
+
+  @Test
+  @DisplayName("should search a very tall board like a short one")
+  void shouldSearchVeryTallBoardLikeShortOne() {
+    // Arrange
+    final GameCore shortGame = newGame(OTetromino.class);
+    final GameCore tallGame =
+        new GameCore(
+            new Board(BOARD_WIDTH, TALL_BOARD_HEIGHT),
+            new TetrominoFactory(new FixedTypeSelection(OTetromino.class)),
+            new ClassicSpeedStrategy(),
+            GameEventListener.NONE);
+    final int offset = TALL_BOARD_HEIGHT - BOARD_HEIGHT;
+    for (int col = 0; col < ROOF_END_COL; col++) {
+      shortGame.getBoard().placeTetromino(new SingleCellTetromino(col, ROOF_ROW));
+      tallGame.getBoard().placeTetromino(new SingleCellTetromino(col, ROOF_ROW + offset));
+    }
+
+    // Act
+    final List<Placement> expected =
+        new MoveGenerator(BOARD_WIDTH, BOARD_HEIGHT)
+            .generate(shortGame.getBoard(), shortGame.getCurrentPiece());
+    final List<Placement> placements =
+        new MoveGenerator(BOARD_WIDTH, TALL_BOARD_HEIGHT)
+            .generate(tallGame.getBoard(), tallGame.getCurrentPiece());
+    final Placement tuck =
+        placements.stream()
+            .filter(placement -> placement.x() == 0 && placement.y() == O_TUCK_ROW + offset)
+            .findFirst()
+            .orElseThrow();
+    tuck.path().forEach(input -> input.applyTo(tallGame));
+
+    // Assert
+    assertEquals(expected.size(), placements.size(), "Height should not change the placements");
+    assertTrue(
+        tallGame.getBoard().isOccupied(TALL_BOARD_HEIGHT - 1, 0),
+        "O should be tucked in the corner of the floor");
+  }
+
+  @Test
+  @DisplayName("should find no placement when the piece does not fit")
+  void shouldFindNoPlacementWhenPieceDoesNotFit() {
+    // Arrange
+    final GameCore core = newGame(OTetromino.class);
+    final AbstractTetromino<?> piece = core.getCurrentPiece();
+    core.getBoard().placeTetromino(new SingleCellTetromino(piece.getX(), piece.getY() + 1));
+
+    // Act & Assert
+    assertTrue(
+        new MoveGenerator(BOARD_WIDTH, BOARD_HEIGHT).generate(core.getBoard(), piece).isEmpty(),
+        "A blocked spawn has no placement");
+  }
+
+  private static void assertPieceLockedAt(
+      final Board board, final AbstractTetromino<?> piece, final Placement placement) {
+    piece.setPosition(placement.x(), placement.y());
+    while (piece.getRotation() != placement.rotation()) {
+      piece.rotateClockwise();
+    }
+    for (int i = 0; i < piece.getCellCount(); i++) {
+      assertTrue(
+          board.isOccupied(placement.y() + piece.getCellY(i), placement.x() + piece.getCellX(i)),
+          "Replayed path should lock on " + placement);
+    }
+  }
+
+  private static GameCore newGame(final Class<? extends AbstractTetromino<?>> type) {
+    return new GameCore(
+        new Board(),
+        new TetrominoFactory(new FixedTypeSelection(type)),
+        new ClassicSpeedStrategy(),
+        GameEventListener.NONE);
+  }
+
+  /** Selection strategy that always yields the same type. */
+  private static final class FixedTypeSelection implements PieceSelectionStrategy {
+
+    private final Class<? extends AbstractTetromino<?>> type;
+
+    FixedTypeSelection(final Class<? extends AbstractTetromino<?>> type) {
+      this.type = type;
+    }
+
+    @Override
+    public Class<? extends AbstractTetromino<?>> next() {
+      return type;
+    }
+
+    @Override
+    public void reset() {
+      // Stateless
+    }
+  }
+}
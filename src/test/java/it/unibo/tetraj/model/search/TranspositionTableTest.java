@@ -0,0 +1,139 @@
+package it.unibo.tetraj.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the TranspositionTable class. */
+class TranspositionTableTest {
+
+  private static final int CAPACITY = 1024;
+  private static final long KEY = 0x1234_5678_9ABC_DEF0L;
+  /** Same slot as KEY: differs only in bits above the slot index bits. */
+  private static final long COLLIDING_KEY = KEY ^ (1L << 20 | 1L << 52);
+  private static final float SCORE = 42.5f;
+  private static final float OTHER_SCORE = -7.25f;
+  private static final int SHALLOW = 1;
+  private static final int DEEP = 3;
+  private static final int THREADS = 4;
+  private static final int OPERATIONS = 200_000;
+  private static final int CAPACITY_REQUEST = 1000;
+
+  @Test
+  @DisplayName("should return stored scores and count hits and misses")
+  void shouldReturnStoredScoresAndCountHitsAndMisses() {
+    // Arrange
+    final TranspositionTable table = new TranspositionTable(CAPACITY, ReplacementPolicy.ALWAYS);
+
+    // Act
+    table.store(KEY, SCORE, SHALLOW);
+
+    // Assert
+    assertEquals(SCORE, table.probe(KEY), "Stored score should be returned");
+    assertTrue(Float.isNaN(table.probe(KEY + 1)), "Unknown key should miss");
+    assertTrue(Float.isNaN(table.probe(KEY, DEEP)), "Too shallow entry should miss");
+    assertEquals(1, table.getHits(), "One hit");
+    assertEquals(2, table.getMisses(), "Two misses");
+  }
+
+  @Test
+  @DisplayName("always policy should overwrite colliding entries")
+  void alwaysPolicyShouldOverwriteCollidingEntries() {
+    // Arrange
+    final TranspositionTable table = new TranspositionTable(CAPACITY, ReplacementPolicy.ALWAYS);
+    table.store(KEY, SCORE, DEEP);
+
+    // Act
+    final boolean stored = table.store(COLLIDING_KEY, OTHER_SCORE, SHALLOW);
+
+    // Assert
+    assertTrue(stored, "Store should be accepted");
+    assertTrue(Float.isNaN(table.probe(KEY)), "Evicted key should miss");
+    assertEquals(OTHER_SCORE, table.probe(COLLIDING_KEY), "New entry should be readable");
+  }
+
+  @Test
+  @DisplayName("depth preferred policy should keep deeper entries of the current search")
+  void depthPreferredPolicyShouldKeepDeeperEntries() {
+    // Arrange
+    final TranspositionTable table =
+        new TranspositionTable(CAPACITY, ReplacementPolicy.DEPTH_PREFERRED);
+    table.store(KEY, SCORE, DEEP);
+
+    // Act
+    final boolean stored = table.store(COLLIDING_KEY, OTHER_SCORE, SHALLOW);
+
+    // Assert
+    assertFalse(stored, "Shallower colliding store should be refused");
+    assertEquals(SCORE, table.probe(KEY), "Deeper entry should survive");
+    assertEquals(1, table.getRejections(), "Refusal should be counted");
+  }
+
+  @Test
+  @DisplayName("depth preferred policy should replace entries of older searches")
+  void depthPreferredPolicyShouldReplaceEntriesOfOlderSearches() {
+    // Arrange
+    final TranspositionTable table =
+        new TranspositionTable(CAPACITY, ReplacementPolicy.DEPTH_PREFERRED);
+    table.store(KEY, SCORE, DEEP);
+    table.newSearch();
+
+    // Act & Assert
+    assertTrue(table.store(COLLIDING_KEY, OTHER_SCORE, SHALLOW), "Stale entry should yield");
+  }
+
+  @Test
+  @DisplayName("should round capacity up to a power of two")
+  void shouldRoundCapacityUpToPowerOfTwo() {
+    // Act & Assert
+    assertEquals(
+        CAPACITY,
+        new TranspositionTable(CAPACITY_REQUEST, ReplacementPolicy.ALWAYS).getCapacity(),
+        "Capacity should be a power of two");
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new TranspositionTable(0, ReplacementPolicy.ALWAYS),
+        "Empty table should be rejected");
+  }
+
+  @Test
+  @DisplayName("concurrent readers should never see a score stored for another key")
+  void concurrentReadersShouldNeverSeeForeignScores() throws InterruptedException {
+    // Arrange - every key stores its own value as score, all keys share a few slots
+    final TranspositionTable table = new TranspositionTable(2, ReplacementPolicy.ALWAYS);
+    final AtomicBoolean corrupted = new AtomicBoolean();
+    final List<Thread> threads = new ArrayList<>();
+
+    for (int t = 0; t < THREADS; t++) {
+      final int offset = t;
+      threads.add(
+          new Thread(
+              () -> {
+                for (int i = 0; i < OPERATIONS; i++) {
+                  final int value = i * THREADS + offset;
+                  table.store(value, value, SHALLOW);
+                  final float read = table.probe(value - THREADS);
+                  if (!Float.isNaN(read) && read != value - THREADS) {
+                    corrupted.set(true);
+                  }
+                }
+              }));
+    }
+
+    // Act
+    threads.forEach(Thread::start);
+    for (final Thread thread : threads) {
+      thread.join();
+    }
+
+    // Assert
+    assertFalse(corrupted.get(), "A probe returned the score of another key");
+  }
+}
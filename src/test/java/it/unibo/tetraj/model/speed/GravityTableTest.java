@@ -0,0 +1,51 @@
+package it.unibo.tetraj.model.speed;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the GravityTable class. */
+class GravityTableTest {
+
+  private static final long NANOS_LEVEL_0 = 800_000_000L;
+  private static final long NANOS_PER_FRAME = 16_666_667L;
+  private static final int HIGH_LEVEL = 100;
+
+  @Test
+  @DisplayName("should convert strategy speeds to nanoseconds per row")
+  void shouldConvertStrategySpeedsToNanosecondsPerRow() {
+    // Act
+    final GravityTable table = new GravityTable(new ClassicSpeedStrategy());
+
+    // Assert
+    assertEquals(NANOS_LEVEL_0, table.getFallNanos(0), "48 frames at 60 Hz");
+    assertEquals(NANOS_PER_FRAME, table.getFallNanos(HIGH_LEVEL), "Levels past 29 are clamped");
+    assertEquals(NANOS_LEVEL_0, table.getFallNanos(-1), "Negative levels are clamped");
+  }
+
+  @Test
+  @DisplayName("should map non positive speeds to instant gravity")
+  void shouldMapNonPositiveSpeedsToInstantGravity() {
+    // Arrange
+    final SpeedStrategy twentyG =
+        new SpeedStrategy() {
+          @Override
+          public double getFallSpeed(final int level) {
+            return 0;
+          }
+
+          @Override
+          public double getSoftDropSpeed(final int level) {
+            return -1;
+          }
+        };
+
+    // Act
+    final GravityTable table = new GravityTable(twentyG);
+
+    // Assert
+    assertEquals(GravityTable.INSTANT, table.getFallNanos(0), "0 ms should be 20G");
+    assertEquals(GravityTable.INSTANT, table.getSoftDropNanos(0), "Negative ms should be 20G");
+  }
+}
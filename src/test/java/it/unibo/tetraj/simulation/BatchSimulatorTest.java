@@ -0,0 +1,123 @@
+package it.unibo.tetraj.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the BatchSimulator class. */
+class BatchSimulatorTest {
+
+  private static final int GAMES = 50;
+  private static final long BASE_SEED = 2024L;
+  private static final int MANY_WORKERS = 4;
+  private static final int MAX_PIECES = 5;
+  private static final int PLANNED_GAMES = 4;
+  private static final int PLANNED_PIECES = 20;
+  private static final int HUGE_BOARD_WIDTH = 200;
+  private static final int HUGE_BOARD_HEIGHT = 100_000;
+  private static final int HUGE_BOARD_PIECES = 3;
+
+  @Test
+  @DisplayName("should give the same results regardless of the worker count")
+  void shouldGiveSameResultsRegardlessOfWorkerCount() {
+    // Arrange
+    final BatchSimulator.Builder builder =
+        BatchSimulator.builder()
+            .withGames(GAMES)
+            .withBaseSeed(BASE_SEED)
+            .withPieceSelection("7-bag");
+
+    // Act
+    final List<GameResult> sequential = builder.withParallelism(1).build().run().getResults();
+    final List<GameResult> parallel =
+        builder.withParallelism(MANY_WORKERS).build().run().getResults();
+
+    // Assert
+    assertEquals(sequential, parallel, "Results should only depend on the base seed");
+  }
+
+  @Test
+  @DisplayName("should replay a single game from its seed")
+  void shouldReplaySingleGameFromItsSeed() {
+    // Arrange
+    final BatchSimulator simulator =
+        BatchSimulator.builder().withGames(GAMES).withBaseSeed(BASE_SEED).build();
+    final GameResult recorded = simulator.run().getResults().get(GAMES - 1);
+
+    // Act
+    final GameResult replayed = simulator.playGame(recorded.seed());
+
+    // Assert
+    assertEquals(recorded, replayed, "Replay should reproduce the recorded game");
+  }
+
+  @Test
+  @DisplayName("should replay games played by a planner without a time budget")
+  void shouldReplayPlannedGames() {
+    // Arrange
+    final BatchSimulator simulator =
+        BatchSimulator.builder()
+            .withGames(PLANNED_GAMES)
+            .withBaseSeed(BASE_SEED)
+            .withMaxPieces(PLANNED_PIECES)
+            .withAgent(new PlannerAgent())
+            .withParallelism(MANY_WORKERS)
+            .build();
+    final List<GameResult> recorded = simulator.run().getResults();
+
+    // Act
+    final List<GameResult> replayed =
+        recorded.stream().map(result -> simulator.playGame(result.seed())).toList();
+
+    // Assert
+    assertEquals(recorded, replayed, "Planned games should replay from their seeds");
+  }
+
+  @Test
+  @DisplayName("should stop games at the piece limit")
+  void shouldStopGamesAtPieceLimit() {
+    // Act
+    final SimulationReport report =
+        BatchSimulator.builder().withGames(GAMES).withMaxPieces(MAX_PIECES).build().run();
+
+    // Assert
+    assertEquals(GAMES, report.getGames(), "Every game should be reported");
+    assertTrue(
+        report.getResults().stream().allMatch(result -> result.pieces() <= MAX_PIECES),
+        "No game should exceed the piece limit");
+  }
+
+  @Test
+  @DisplayName("should play a planned game on a 200x100000 board")
+  void shouldPlayPlannedGameOnHugeBoard() {
+    // Arrange
+    final BatchSimulator simulator =
+        BatchSimulator.builder()
+            .withGames(1)
+            .withBaseSeed(BASE_SEED)
+            .withMaxPieces(HUGE_BOARD_PIECES)
+            .withBoardSize(HUGE_BOARD_WIDTH, HUGE_BOARD_HEIGHT)
+            .withAgent(new PlannerAgent())
+            .build();
+
+    // Act
+    final GameResult result = simulator.run().getResults().get(0);
+
+    // Assert
+    assertEquals(HUGE_BOARD_PIECES, result.pieces(), "The game should reach the piece limit");
+  }
+
+  @Test
+  @DisplayName("should reject a non positive worker count")
+  void shouldRejectNonPositiveWorkerCount() {
+    // Act & Assert
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> BatchSimulator.builder().withParallelism(0).build(),
+        "Zero workers should be rejected");
+  }
+}
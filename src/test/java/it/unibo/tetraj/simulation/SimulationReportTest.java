@@ -0,0 +1,69 @@
+package it.unibo.tetraj.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/** Tests for the SimulationReport class. */
+class SimulationReportTest {
+
+  private static final double EPSILON = 1e-9;
+  private static final long ONE_SECOND_NANOS = 1_000_000_000L;
+  private static final int PIECES_PER_GAME = 10;
+  private static final int GAMES = 10;
+  private static final int SCORE_STEP = 100;
+
+  @ParameterizedTest
+  @CsvSource({"0, 100", "10, 100", "50, 500", "90, 900", "99, 1000", "100, 1000"})
+  @DisplayName("should use nearest-rank percentiles")
+  void shouldUseNearestRankPercentiles(final double percentile, final int expectedScore) {
+    // Act & Assert
+    assertEquals(expectedScore, tenGames().getScorePercentile(percentile), "Percentile score");
+  }
+
+  @Test
+  @DisplayName("should compute throughput from the elapsed time")
+  void shouldComputeThroughputFromElapsedTime() {
+    // Arrange
+    final SimulationReport report = tenGames();
+
+    // Act & Assert
+    assertEquals(GAMES, report.getGamesPerSecond(), EPSILON, "Ten games in one second");
+    assertEquals(GAMES * PIECES_PER_GAME, report.getPiecesPerSecond(), EPSILON, "Pieces/s");
+  }
+
+  @Test
+  @DisplayName("should report score extremes and mean")
+  void shouldReportScoreExtremesAndMean() {
+    // Arrange
+    final SimulationReport report = tenGames();
+
+    // Act & Assert
+    assertEquals(SCORE_STEP, report.getMinScore(), "Minimum score");
+    assertEquals(GAMES * SCORE_STEP, report.getMaxScore(), "Maximum score");
+    assertEquals(550.0, report.getMeanScore(), EPSILON, "Mean score");
+  }
+
+  @Test
+  @DisplayName("should reject percentiles out of range")
+  void shouldRejectPercentilesOutOfRange() {
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class, () -> tenGames().getScorePercentile(101));
+  }
+
+  private SimulationReport tenGames() {
+    // Scores 1000, 900, ... 100: the report must sort them itself
+    final List<GameResult> results =
+        IntStream.range(0, GAMES)
+            .mapToObj(i -> new GameResult(i, (GAMES - i) * SCORE_STEP, 0, 1, PIECES_PER_GAME))
+            .toList();
+
+    return new SimulationReport(results, ONE_SECOND_NANOS);
+  }
+}
@@ -0,0 +1,66 @@
+package it.unibo.tetraj.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the FrameHistogram class. */
+class FrameHistogramTest {
+
+  private static final int SAMPLES = 100_000;
+  private static final long MICRO = 1000L;
+  private static final double MAX_RELATIVE_ERROR = 0.035;
+  private static final long OUTLIER = 250_000_000L;
+  private static final long BEYOND_RANGE = 60_000_000_000L;
+
+  @Test
+  @DisplayName("should report percentiles within the bucket precision")
+  void shouldReportPercentilesWithinPrecision() {
+    // Arrange
+    final FrameHistogram histogram = new FrameHistogram();
+
+    // Act
+    // 1 us to 100 ms, evenly spread
+    for (int i = 1; i <= SAMPLES; i++) {
+      histogram.record(i * MICRO);
+    }
+
+    // Assert
+    assertEquals(SAMPLES, histogram.getCount(), "Every sample should be counted");
+    assertEquals(SAMPLES * MICRO, histogram.getMax(), "The exact maximum should be kept");
+    assertClose(SAMPLES / 2 * MICRO, histogram.getPercentile(0.5), "p50");
+    assertClose(SAMPLES * 99 / 100 * MICRO, histogram.getPercentile(0.99), "p99");
+    assertClose(SAMPLES * 999 / 1000 * MICRO, histogram.getPercentile(0.999), "p99.9");
+  }
+
+  @Test
+  @DisplayName("should handle small, outlying and out of range values")
+  void shouldHandleEdgeValues() {
+    // Arrange
+    final FrameHistogram histogram = new FrameHistogram();
+    for (int i = 0; i < SAMPLES; i++) {
+      histogram.record(i % 64);
+    }
+
+    // Act
+    histogram.record(OUTLIER);
+    histogram.record(BEYOND_RANGE);
+    histogram.record(-1);
+
+    // Assert
+    assertEquals(31L, histogram.getPercentile(0.5), "Small values should be exact");
+    assertEquals(BEYOND_RANGE, histogram.getPercentile(1.0), "Largest value should be the max");
+    assertEquals(BEYOND_RANGE, histogram.getMax(), "Out of range values should keep their max");
+    histogram.reset();
+    assertEquals(0L, histogram.getCount(), "Reset should forget the samples");
+    assertEquals(0L, histogram.getPercentile(0.99), "An empty histogram should report 0");
+  }
+
+  private static void assertClose(final long expected, final long actual, final String what) {
+    assertTrue(
+        Math.abs(actual - expected) <= expected * MAX_RELATIVE_ERROR,
+        String.format("%s should be about %d ns, was %d ns", what, expected, actual));
+  }
+}